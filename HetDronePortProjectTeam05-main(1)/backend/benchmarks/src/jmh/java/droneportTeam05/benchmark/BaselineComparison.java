@@ -0,0 +1,112 @@
+package droneportTeam05.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares a JMH JSON result against a stored baseline and exits with status 1 when the score or the
+ * normalized allocation rate of any benchmark got worse by more than the given fraction.
+ */
+public final class BaselineComparison {
+
+    private static final String ALLOCATION_METRIC = "·gc.alloc.rate.norm";
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparison <baseline.json> <result.json> [threshold]");
+            System.exit(2);
+        }
+
+        File baselineFile = new File(args[0]);
+        if (!baselineFile.exists()) {
+            System.out.println("No baseline at " + baselineFile + ", nothing to compare");
+            return;
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, Measurement> baseline = read(mapper.readTree(baselineFile));
+        Map<String, Measurement> current = read(mapper.readTree(new File(args[1])));
+
+        int regressions = 0;
+        for (Map.Entry<String, Measurement> entry : current.entrySet()) {
+            Measurement before = baseline.get(entry.getKey());
+            Measurement after = entry.getValue();
+            if (before == null) {
+                System.out.printf("NEW   %s %.3f %s%n", entry.getKey(), after.score(), after.unit());
+                continue;
+            }
+
+            double scoreChange = change(before.score(), after.score(), after.higherIsBetter());
+            double allocationChange = change(before.allocation(), after.allocation(), false);
+            boolean regressed = scoreChange > threshold || allocationChange > threshold;
+            if (regressed) {
+                regressions++;
+            }
+
+            System.out.printf("%s %s score %.3f -> %.3f %s (%+.1f%%), alloc %.1f -> %.1f B/op (%+.1f%%)%n",
+                    regressed ? "FAIL " : "OK   ", entry.getKey(),
+                    before.score(), after.score(), after.unit(), scoreChange * 100,
+                    before.allocation(), after.allocation(), allocationChange * 100);
+        }
+
+        if (regressions > 0) {
+            System.err.println(regressions + " benchmark(s) regressed by more than " + (threshold * 100) + "%");
+            System.exit(1);
+        }
+    }
+
+    // Positive values are regressions, independent of whether the mode reports time or throughput
+    private static double change(double before, double after, boolean higherIsBetter) {
+        if (before <= 0 || Double.isNaN(before) || Double.isNaN(after)) {
+            return 0;
+        }
+        double relative = (after - before) / before;
+        return higherIsBetter ? -relative : relative;
+    }
+
+    private static Map<String, Measurement> read(JsonNode root) {
+        Map<String, Measurement> measurements = new LinkedHashMap<>();
+        for (JsonNode run : root) {
+            JsonNode primary = run.path("primaryMetric");
+            JsonNode allocation = run.path("secondaryMetrics").path(ALLOCATION_METRIC);
+            measurements.put(key(run), new Measurement(
+                    primary.path("score").asDouble(Double.NaN),
+                    primary.path("scoreUnit").asText(),
+                    !"avgt".equals(run.path("mode").asText()) && !"sample".equals(run.path("mode").asText())
+                            && !"ss".equals(run.path("mode").asText()),
+                    allocation.path("score").asDouble(Double.NaN)));
+        }
+        return measurements;
+    }
+
+    private static String key(JsonNode run) {
+        StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+        JsonNode params = run.path("params");
+        if (params.size() > 0) {
+            key.append('(');
+            Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                key.append(field.getKey()).append('=').append(field.getValue().asText());
+                if (fields.hasNext()) {
+                    key.append(", ");
+                }
+            }
+            key.append(')');
+        }
+        return key.toString();
+    }
+
+    private record Measurement(double score, String unit, boolean higherIsBetter, double allocation) {
+    }
+}
@@ -0,0 +1,51 @@
+package droneportTeam05.benchmark;
+
+import droneportTeam05.controllers.dto.DroneOperationRequest;
+import droneportTeam05.domain.aircraft.UAV;
+import droneportTeam05.domain.aircraft.UAVType;
+import droneportTeam05.domain.geography.FlightGeography;
+import droneportTeam05.domain.risk.GroundRiskBuffer;
+import droneportTeam05.domain.volume.LateralContingencyVolume;
+import droneportTeam05.domain.volume.VerticalContingencyVolume;
+
+final class BenchmarkFixtures {
+
+    enum Scenario {
+        MULTIROTOR_BALLISTIC,
+        MULTIROTOR_PARACHUTE,
+        FIXEDWING_GLIDING,
+    }
+
+    private BenchmarkFixtures() {
+    }
+
+    static UAV multirotor() {
+        return new UAV(UAVType.MULTIROTOR, 15, 2, "barometric", 3, 3, 1, 1);
+    }
+
+    static UAV fixedWing() {
+        return new UAV(UAVType.FIXEDWING, 30, 3, "barometric", 3, 3, 1, 1);
+    }
+
+    static DroneOperationRequest request(Scenario scenario) {
+        return switch (scenario) {
+            case MULTIROTOR_BALLISTIC -> request(multirotor(), LateralContingencyVolume.forStopping(45),
+                    VerticalContingencyVolume.forEnergyConversion(), GroundRiskBuffer.forBallistic());
+            case MULTIROTOR_PARACHUTE -> request(multirotor(), LateralContingencyVolume.forParachute(5),
+                    VerticalContingencyVolume.forParachute(5), GroundRiskBuffer.forParachute(5, 10, 3));
+            case FIXEDWING_GLIDING -> request(fixedWing(), LateralContingencyVolume.forTurn180(30),
+                    VerticalContingencyVolume.forCircularPath(), GroundRiskBuffer.forGliding(20));
+        };
+    }
+
+    private static DroneOperationRequest request(UAV uav, LateralContingencyVolume lateralCV,
+                                                 VerticalContingencyVolume verticalCV, GroundRiskBuffer grb) {
+        return new DroneOperationRequest.Builder()
+                .uav(uav)
+                .lateralCV(lateralCV)
+                .verticalCV(verticalCV)
+                .grb(grb)
+                .flightGeography(new FlightGeography(100, 0, 0))
+                .build();
+    }
+}
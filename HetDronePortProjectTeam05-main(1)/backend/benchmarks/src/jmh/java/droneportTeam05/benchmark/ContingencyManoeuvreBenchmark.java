@@ -0,0 +1,81 @@
+package droneportTeam05.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import droneportTeam05.domain.aircraft.UAV;
+import droneportTeam05.domain.volume.ContingencyManoeuvre;
+import droneportTeam05.domain.volume.LateralContingencyVolume;
+import droneportTeam05.domain.volume.VerticalContingencyVolume;
+import droneportTeam05.service.calculation.ContingencyManoeuvreService;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContingencyManoeuvreBenchmark {
+
+    @State(Scope.Thread)
+    public static class LateralState {
+        @Param({"STOPPING", "TURN_180", "PARACHUTE_TERMINATION"})
+        public ContingencyManoeuvre manoeuvre;
+
+        ContingencyManoeuvreService service;
+        UAV uav;
+        LateralContingencyVolume lateralCV;
+
+        @Setup
+        public void setup() {
+            service = new ContingencyManoeuvreService();
+            uav = BenchmarkFixtures.multirotor();
+            lateralCV = switch (manoeuvre) {
+                case STOPPING -> LateralContingencyVolume.forStopping(45);
+                case TURN_180 -> LateralContingencyVolume.forTurn180(30);
+                default -> LateralContingencyVolume.forParachute(5);
+            };
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class VerticalState {
+        @Param({"ENERGY_CONVERSION", "CIRCULAR_PATH", "PARACHUTE_TERMINATION"})
+        public ContingencyManoeuvre manoeuvre;
+
+        ContingencyManoeuvreService service;
+        UAV uav;
+        VerticalContingencyVolume verticalCV;
+
+        @Setup
+        public void setup() {
+            service = new ContingencyManoeuvreService();
+            uav = BenchmarkFixtures.multirotor();
+            verticalCV = switch (manoeuvre) {
+                case ENERGY_CONVERSION -> VerticalContingencyVolume.forEnergyConversion();
+                case CIRCULAR_PATH -> VerticalContingencyVolume.forCircularPath();
+                default -> VerticalContingencyVolume.forParachute(5);
+            };
+        }
+    }
+
+    @Benchmark
+    public double lateral(LateralState state) {
+        return state.service.calculateLateralContingencyManoeuvre(state.uav, state.lateralCV);
+    }
+
+    @Benchmark
+    public double vertical(VerticalState state) {
+        return state.service.calculateVerticalContingencyManoeuvre(state.uav, state.verticalCV);
+    }
+}
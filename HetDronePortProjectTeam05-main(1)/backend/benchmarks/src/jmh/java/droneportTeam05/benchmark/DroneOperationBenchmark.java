@@ -0,0 +1,115 @@
+package droneportTeam05.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import droneportTeam05.DroneportProjectApplication;
+import droneportTeam05.controllers.dto.DroneOperationRequest;
+import droneportTeam05.controllers.dto.DroneOperationResult;
+import droneportTeam05.domain.operation.OperationInputs;
+import droneportTeam05.domain.operation.OperationVolumes;
+import droneportTeam05.service.calculation.OperationKernel;
+import droneportTeam05.service.orchestration.DroneOperationService;
+import droneportTeam05.service.validation.DroneOperationValidationService;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DroneOperationBenchmark {
+
+    /**
+     * The calculation service as the application wires it, started from the application's own
+     * configuration against an in-memory database so no bean list has to be kept up to date here.
+     */
+    @State(Scope.Thread)
+    public static class Pipeline {
+
+        @Param({"MULTIROTOR_BALLISTIC", "MULTIROTOR_PARACHUTE", "FIXEDWING_GLIDING"})
+        public BenchmarkFixtures.Scenario scenario;
+
+        // 0 disables the result cache, so the full pipeline runs on every call
+        @Param({"0", "1024"})
+        public int cacheSize;
+
+        private ConfigurableApplicationContext context;
+        private DroneOperationService droneOperationService;
+        private DroneOperationRequest request;
+
+        @Setup
+        public void setup() {
+            context = new SpringApplicationBuilder(DroneportProjectApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .properties(Map.of(
+                            "droneport.calculation.cache.max-size", cacheSize,
+                            "spring.datasource.url", "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                            "spring.datasource.username", "sa",
+                            "spring.datasource.password", "",
+                            "spring.datasource.driver-class-name", "org.h2.Driver",
+                            "spring.jpa.hibernate.ddl-auto", "create-drop",
+                            "spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect",
+                            "droneport.mail.outbox.poll-interval-millis", 3_600_000))
+                    .run();
+
+            droneOperationService = context.getBean(DroneOperationService.class);
+            request = BenchmarkFixtures.request(scenario);
+        }
+
+        @TearDown
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    // Validation and the kernel do not touch the cache, so they only vary by scenario
+    @State(Scope.Thread)
+    public static class Inputs {
+
+        @Param({"MULTIROTOR_BALLISTIC", "MULTIROTOR_PARACHUTE", "FIXEDWING_GLIDING"})
+        public BenchmarkFixtures.Scenario scenario;
+
+        private DroneOperationValidationService validationService;
+        private DroneOperationRequest request;
+        private OperationInputs inputs;
+
+        @Setup
+        public void setup() {
+            validationService = new DroneOperationValidationService();
+            request = BenchmarkFixtures.request(scenario);
+            inputs = OperationInputs.of(request.getUav(), request.getLateralCV(), request.getVerticalCV(),
+                    request.getGrb(), request.getFlightGeography().getHeightFlightGeo());
+        }
+    }
+
+    @Benchmark
+    public DroneOperationResult calculateOperation(Pipeline pipeline) {
+        return pipeline.droneOperationService.calculateOperation(pipeline.request);
+    }
+
+    @Benchmark
+    public void validate(Inputs state) {
+        state.validationService.validateDroneOperation(state.request);
+    }
+
+    @Benchmark
+    public OperationVolumes kernel(Inputs state) {
+        return OperationKernel.calculate(state.inputs);
+    }
+}
@@ -0,0 +1,67 @@
+package droneportTeam05.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import droneportTeam05.domain.aircraft.UAV;
+import droneportTeam05.domain.risk.GroundRiskBuffer;
+import droneportTeam05.domain.risk.TerminationType;
+import droneportTeam05.domain.volume.VerticalContingencyVolume;
+import droneportTeam05.service.calculation.GroundRiskBufferService;
+import droneportTeam05.service.calculation.OperationKernel;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroundRiskBufferBenchmark {
+
+    @Param({"BALLISTIC_APPROACH", "PARACHUTE", "OFF_GLIDING", "OFF_NO_GLIDING", "SIMPLIFIED_APPROACH"})
+    public TerminationType termination;
+
+    private GroundRiskBufferService service;
+    private UAV uav;
+    private GroundRiskBuffer grb;
+    private VerticalContingencyVolume verticalCV;
+
+    @Setup
+    public void setup() {
+        service = new GroundRiskBufferService();
+        uav = BenchmarkFixtures.multirotor();
+        grb = switch (termination) {
+            case BALLISTIC_APPROACH -> GroundRiskBuffer.forBallistic();
+            case PARACHUTE -> GroundRiskBuffer.forParachute(5, 10, 3);
+            case OFF_GLIDING -> GroundRiskBuffer.forGliding(20);
+            case OFF_NO_GLIDING -> GroundRiskBuffer.forPowerOffNoGlide();
+            case SIMPLIFIED_APPROACH -> GroundRiskBuffer.forSimplified();
+        };
+        verticalCV = VerticalContingencyVolume.forEnergyConversion();
+        verticalCV.setMinVerticalDimension(120);
+    }
+
+    @Benchmark
+    public GroundRiskBuffer service() {
+        return service.calculateGroundRiskBuffer(uav, grb, verticalCV);
+    }
+
+    @Benchmark
+    public double kernel() {
+        return OperationKernel.groundRiskBuffer(termination, uav.getType(), uav.getMaxOperationalSpeed(),
+                uav.getMaxCharacteristicDimension(), verticalCV.getMinVerticalDimension(),
+                grb.getTimeToOpenParachute(), grb.getMaxPermissibleWindSpeed(), grb.getRateOfDescent(),
+                grb.getGlideRatio());
+    }
+}
@@ -0,0 +1,77 @@
+package droneportTeam05.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import droneportTeam05.controllers.dto.DroneOperationRequest;
+import droneportTeam05.controllers.dto.DroneOperationResult;
+import droneportTeam05.domain.operation.OperationInputs;
+import droneportTeam05.domain.operation.OperationVolumes;
+import droneportTeam05.service.calculation.OperationKernel;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"MULTIROTOR_BALLISTIC", "FIXEDWING_GLIDING"})
+    public BenchmarkFixtures.Scenario scenario;
+
+    private ObjectReader requestReader;
+    private ObjectWriter resultWriter;
+    private byte[] requestJson;
+    private DroneOperationResult result;
+
+    @Setup
+    public void setup() throws Exception {
+        // Same defaults Spring MVC applies to the REST endpoints
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        requestReader = mapper.readerFor(DroneOperationRequest.class);
+        resultWriter = mapper.writerFor(DroneOperationResult.class);
+
+        DroneOperationRequest request = BenchmarkFixtures.request(scenario);
+        requestJson = mapper.writeValueAsBytes(request);
+
+        OperationVolumes volumes = OperationKernel.calculate(OperationInputs.of(request.getUav(),
+                request.getLateralCV(), request.getVerticalCV(), request.getGrb(),
+                request.getFlightGeography().getHeightFlightGeo()));
+        volumes.applyTo(request.getLateralCV(), request.getVerticalCV(), request.getGrb());
+        result = DroneOperationResult.builder()
+                .uav(request.getUav())
+                .lateralCV(request.getLateralCV())
+                .verticalCV(request.getVerticalCV())
+                .grb(request.getGrb())
+                .flightGeography(volumes.toFlightGeography())
+                .adjacentVolume(volumes.toAdjacentVolume())
+                .build();
+    }
+
+    @Benchmark
+    public DroneOperationRequest deserializeRequest() throws Exception {
+        return requestReader.readValue(requestJson);
+    }
+
+    @Benchmark
+    public byte[] serializeResult() throws Exception {
+        return resultWriter.writeValueAsBytes(result);
+    }
+}
@@ -27,6 +27,7 @@ public class SecurityConfig {
             .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authz -> authz
                 .requestMatchers(HttpMethod.PUT, "/api/email/template").authenticated()
+                .requestMatchers("/api/email/bulk").authenticated()
                 .requestMatchers("/api/admin/create", "/api/zones/admin/**", "/api/drones/admin/**").authenticated()
                 .requestMatchers("/api/settings/toggle-notifications").authenticated()
                 .anyRequest().permitAll() 
@@ -1,10 +1,15 @@
 package droneportTeam05.auth;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import droneportTeam05.controllers.SerializedZonesHttpMessageConverter;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
@@ -19,4 +24,10 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("Authorization", "Content-Type")
                 .allowCredentials(true);
     }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Ahead of Jackson, which would otherwise serialize the zones again
+        converters.add(0, new SerializedZonesHttpMessageConverter());
+    }
 }
\ No newline at end of file
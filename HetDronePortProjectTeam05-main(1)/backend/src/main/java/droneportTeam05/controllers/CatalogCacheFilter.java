@@ -0,0 +1,135 @@
+package droneportTeam05.controllers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import droneportTeam05.service.CatalogVersion;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Conditional GET for the zone and drone catalogs. Responses carry a strong ETag derived from the
+ * {@link CatalogVersion}; a matching If-None-Match gets a 304, and the serialized and gzipped bodies are
+ * kept per catalog so repeated downloads of an unchanged catalog skip the controller entirely.
+ */
+@Component
+public class CatalogCacheFilter extends OncePerRequestFilter {
+
+    private static final Map<String, String> CATALOGS = Map.of(
+            "/api/zones", "zones",
+            "/api/drones", "drones");
+
+    private final CatalogVersion catalogVersion;
+    private final Map<String, CachedBody> cache = new ConcurrentHashMap<>();
+
+    public CatalogCacheFilter(CatalogVersion catalogVersion) {
+        this.catalogVersion = catalogVersion;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Query parameters select something other than the whole catalog
+        return !"GET".equals(request.getMethod()) || request.getQueryString() != null || catalog(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String catalog = catalog(request);
+        long version = catalogVersion.current();
+        String etag = "\"" + catalog + "-" + version + "\"";
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            writeValidators(response, etag);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        CachedBody cached = cache.get(catalog);
+        if (cached == null || cached.version() != version) {
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(request, wrapper);
+            // Only a body that was produced entirely under this version may be cached and tagged
+            if (wrapper.getStatus() != HttpServletResponse.SC_OK || catalogVersion.current() != version) {
+                wrapper.copyBodyToResponse();
+                return;
+            }
+            byte[] body = wrapper.getContentAsByteArray();
+            cached = new CachedBody(version, wrapper.getContentType(), body, gzip(body));
+            cache.merge(catalog, cached, (old, fresh) -> fresh.version() >= old.version() ? fresh : old);
+        }
+
+        writeValidators(response, etag);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType());
+        byte[] body = cached.body();
+        if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = cached.gzipped();
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static String catalog(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return CATALOGS.get(path);
+    }
+
+    private static void writeValidators(HttpServletResponse response, String etag) {
+        response.setHeader(HttpHeaders.ETAG, etag);
+        // Clients may keep the body but have to revalidate it on every use
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private record CachedBody(long version, String contentType, byte[] body, byte[] gzipped) {
+    }
+}
@@ -1,22 +1,35 @@
 package droneportTeam05.controllers;
 
+import droneportTeam05.controllers.dto.DroneSummary;
+import droneportTeam05.controllers.dto.ImportResult;
+import droneportTeam05.controllers.dto.PageResult;
 import droneportTeam05.domain.Drone;
 import jakarta.validation.Valid;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
 import droneportTeam05.service.DroneService;
+import droneportTeam05.service.imports.DroneImportService;
+import droneportTeam05.service.validation.ValidationException;
 import droneportTeam05.util.ServiceException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/drones")
 public class DroneController {
     private final DroneService droneService;
+    private final DroneImportService droneImportService;
 
-    public DroneController(DroneService droneService) {
+    public DroneController(DroneService droneService, DroneImportService droneImportService) {
         this.droneService = droneService;
+        this.droneImportService = droneImportService;
     }
 
     @GetMapping
@@ -24,6 +37,20 @@ public class DroneController {
         return droneService.getAllDrones();
     }
 
+    @GetMapping("/page")
+    public PageResult<?> getDronePage(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "name") String sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(defaultValue = "summary") String view) {
+        return switch (view) {
+            case "summary" -> droneService.getDroneSummaries(page, size, sort, direction);
+            case "full" -> droneService.getDronePage(page, size, sort, direction);
+            default -> throw new ValidationException("View must be summary or full");
+        };
+    }
+
     @PostMapping("/admin")
     public Drone createDrone(@Valid @RequestBody Drone drone) {
         return droneService.createDrone(drone);
@@ -36,8 +63,26 @@ public class DroneController {
         return droneService.updateDrone(name, drone);
     }
 
+    @PostMapping(value = "/admin/import", consumes = "text/csv")
+    public ImportResult importCsv(InputStream body) throws IOException {
+        return droneImportService.importCsv(body);
+    }
+
+    @PostMapping(value = "/admin/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ImportResult importJson(InputStream body) throws IOException {
+        return droneImportService.importJson(body);
+    }
+
     @DeleteMapping("/admin/{name}")
     public String deleteDrone(@PathVariable String name) throws ServiceException {
         return droneService.deleteDrone(name);
     }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler({ ValidationException.class })
+    public Map<String, String> handleInvalidQuery(ValidationException ex) {
+        Map<String, String> errors = new HashMap<>();
+        errors.put("error", ex.getMessage());
+        return errors;
+    }
 }
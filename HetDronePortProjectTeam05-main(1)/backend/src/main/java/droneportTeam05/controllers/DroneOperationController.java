@@ -1,32 +1,79 @@
 package droneportTeam05.controllers;
 
+import droneportTeam05.controllers.dto.BatchOperationResult;
+import droneportTeam05.controllers.dto.CacheStatistics;
 import droneportTeam05.controllers.dto.DroneOperationRequest;
 import droneportTeam05.controllers.dto.DroneOperationResult;
+import droneportTeam05.controllers.dto.InverseRequest;
+import droneportTeam05.controllers.dto.InverseResult;
+import droneportTeam05.controllers.dto.SweepRequest;
+import droneportTeam05.controllers.dto.SweepResult;
+import droneportTeam05.service.orchestration.BatchOperationService;
+import droneportTeam05.domain.aircraft.UAVType;
 import droneportTeam05.service.orchestration.DroneOperationService;
+import droneportTeam05.service.orchestration.FleetOperationService;
+import droneportTeam05.service.orchestration.InverseSolverService;
+import droneportTeam05.service.orchestration.StageTimings;
+import droneportTeam05.service.orchestration.StreamingOperationService;
+import droneportTeam05.service.orchestration.SweepService;
+import droneportTeam05.service.metrics.DroneportMetrics;
 import droneportTeam05.service.validation.ValidationException;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/droneport")
 public class DroneOperationController {
     
     private final DroneOperationService calculationService;
+    private final BatchOperationService batchOperationService;
+    private final SweepService sweepService;
+    private final StreamingOperationService streamingOperationService;
+    private final FleetOperationService fleetOperationService;
+    private final InverseSolverService inverseSolverService;
     
-    public DroneOperationController(DroneOperationService calculationService) {
+    public DroneOperationController(DroneOperationService calculationService,
+                                    BatchOperationService batchOperationService,
+                                    SweepService sweepService,
+                                    StreamingOperationService streamingOperationService,
+                                    FleetOperationService fleetOperationService,
+                                    InverseSolverService inverseSolverService) {
         this.calculationService = calculationService;
+        this.batchOperationService = batchOperationService;
+        this.sweepService = sweepService;
+        this.streamingOperationService = streamingOperationService;
+        this.fleetOperationService = fleetOperationService;
+        this.inverseSolverService = inverseSolverService;
     }
     
+    public ResponseEntity<DroneOperationResult> calculateOperation(DroneOperationRequest request) {
+        return calculateOperation(request, false, false);
+    }
+
+    /**
+     * With the diagnostics flag or header the result carries nanosecond timings per calculation stage.
+     */
     @PostMapping("/calculate")
     public ResponseEntity<DroneOperationResult> calculateOperation(
-            @RequestBody DroneOperationRequest request) {
+            @RequestBody DroneOperationRequest request,
+            @RequestParam(defaultValue = "false") boolean diagnostics,
+            @RequestHeader(value = "X-Droneport-Diagnostics", defaultValue = "false") boolean diagnosticsHeader) {
         
         long startTime = System.currentTimeMillis();
         
         try {
-            DroneOperationResult result = calculationService.calculateOperation(request);
+            DroneOperationResult result = diagnostics || diagnosticsHeader
+                    ? calculationService.calculateOperation(request, new StageTimings())
+                    : calculationService.calculateOperation(request);
             result.setCalculationTimeMs(System.currentTimeMillis() - startTime);
             
             if (result.isSuccess()) {
@@ -40,9 +87,63 @@ public class DroneOperationController {
             errorResult.setCalculationTimeMs(System.currentTimeMillis() - startTime);
             return ResponseEntity.badRequest().body(errorResult);
         } catch (Exception e) {
+            DroneportMetrics.countError("calculate", e);
             DroneOperationResult errorResult = DroneOperationResult.error("Internal error: " + e.getMessage());
             errorResult.setCalculationTimeMs(System.currentTimeMillis() - startTime);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResult);
         }
     }
-}
+
+    @PostMapping("/calculate/batch")
+    public ResponseEntity<BatchOperationResult> calculateBatch(
+            @RequestBody List<DroneOperationRequest> requests) {
+        try {
+            return ResponseEntity.ok(batchOperationService.calculateBatch(requests));
+        } catch (ValidationException e) {
+            return ResponseEntity.badRequest().body(BatchOperationResult.error(e.getMessage()));
+        }
+    }
+
+    @PostMapping(value = "/calculate/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void calculateStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        streamingOperationService.calculateStream(request.getInputStream(), response.getOutputStream());
+    }
+
+    @GetMapping(value = "/fleet", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void calculateFleet(@RequestParam double flightHeight,
+                               @RequestParam(required = false) UAVType type,
+                               HttpServletResponse response) throws IOException {
+        try {
+            fleetOperationService.validateFleetRequest(flightHeight);
+        } catch (ValidationException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        fleetOperationService.calculateFleet(flightHeight, type, response.getOutputStream());
+    }
+
+    @PostMapping("/sweep")
+    public ResponseEntity<SweepResult> sweep(@RequestBody SweepRequest request) {
+        try {
+            return ResponseEntity.ok(sweepService.sweep(request));
+        } catch (ValidationException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(SweepResult.error(e.getMessage()));
+        }
+    }
+
+    @PostMapping("/inverse")
+    public ResponseEntity<InverseResult> solveInverse(@RequestBody InverseRequest request) {
+        try {
+            return ResponseEntity.ok(inverseSolverService.solve(request));
+        } catch (ValidationException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(InverseResult.error(e.getMessage()));
+        }
+    }
+
+    @GetMapping("/cache/stats")
+    public CacheStatistics getCacheStatistics() {
+        return calculationService.getCacheStatistics();
+    }
+}
\ No newline at end of file
@@ -1,21 +1,33 @@
 package droneportTeam05.controllers;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import droneportTeam05.controllers.dto.BulkMailRequest;
+import droneportTeam05.controllers.dto.BulkMailResult;
+import droneportTeam05.controllers.dto.MailDeliveryStatus;
 import droneportTeam05.domain.EmailTemplate;
 import droneportTeam05.service.EmailTemplateService;
-import droneportTeam05.service.email.MailSenderService;
-import jakarta.mail.MessagingException;
+import droneportTeam05.service.email.BulkMailService;
+import droneportTeam05.service.email.CompiledEmailTemplate;
+import droneportTeam05.service.email.MailOutboxService;
+import droneportTeam05.service.validation.ValidationException;
 
 import org.springframework.web.bind.annotation.GetMapping;
 
@@ -27,31 +39,57 @@ public class EmailController {
     private final EmailTemplateService emailTemplateService;
 
     @Autowired
-    private MailSenderService emailService;
+    private MailOutboxService mailOutboxService;
+
+    @Autowired
+    private BulkMailService bulkMailService;
 
     public EmailController(EmailTemplateService emailTemplateService) {
         this.emailTemplateService = emailTemplateService;
     }
+
+    /**
+     * Queues the default template and returns straight away; the returned message id can be looked up
+     * under /outbox. The other request parameters fill the template placeholders, e.g. {@code droneName}
+     * for {@code {{droneName}}}.
+     */
     @PostMapping("/send")
-    public ResponseEntity<String> sendEmail(
+    public ResponseEntity<MailDeliveryStatus> sendEmail(
             @RequestParam("to") String to,
-            @RequestParam(value = "file", required = false) List<MultipartFile> files
-    ) throws MessagingException, IOException {
-        String body = emailTemplateService.getTemplate().getBody();
-        String subject = emailTemplateService.getTemplate().getSubject();
-        emailService.sendNewMail(to, subject, body, files);
-        return ResponseEntity.ok("Email sent successfully");
+            @RequestParam(value = "file", required = false) List<MultipartFile> files,
+            @RequestParam Map<String, String> placeholders
+    ) throws IOException {
+        CompiledEmailTemplate template = emailTemplateService.getCompiledTemplate();
+        if (template == null) {
+            throw new ValidationException("No email template has been set");
+        }
+        return ResponseEntity.accepted().body(mailOutboxService.enqueue(to,
+                template.renderSubject(placeholders), template.renderBody(placeholders), files));
     }
 
     @PostMapping("/send-notification")
-    public ResponseEntity<String> sendEmailNotification(
+    public ResponseEntity<MailDeliveryStatus> sendEmailNotification(
             @RequestParam("to") String to,
             @RequestParam("body") String body,
             @RequestParam("subject") String subject,
             @RequestParam(value = "file", required = false) List<MultipartFile> files
-    ) throws MessagingException, IOException {
-        emailService.sendNewMail(to, subject, body, files);
-        return ResponseEntity.ok("Email sent successfully");
+    ) throws IOException {
+        return ResponseEntity.accepted().body(mailOutboxService.enqueue(to, subject, body, files));
+    }
+
+    /**
+     * Sends a rendered message to every recipient and reports the outcome per recipient.
+     */
+    @PostMapping("/bulk")
+    public BulkMailResult sendBulk(@RequestBody BulkMailRequest request) {
+        return bulkMailService.send(request);
+    }
+
+    @GetMapping("/outbox/{id}")
+    public ResponseEntity<MailDeliveryStatus> getDeliveryStatus(@PathVariable String id) {
+        return mailOutboxService.getStatus(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
 
 
@@ -66,4 +104,12 @@ public class EmailController {
             @RequestParam("subject") String subject) {
         return emailTemplateService.updateTemplate(subject, body);
     }
-}
\ No newline at end of file
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler({ ValidationException.class })
+    public Map<String, String> handleInvalidRequest(ValidationException ex) {
+        Map<String, String> errors = new HashMap<>();
+        errors.put("error", ex.getMessage());
+        return errors;
+    }
+}
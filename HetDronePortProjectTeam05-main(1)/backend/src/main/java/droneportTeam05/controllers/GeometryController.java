@@ -0,0 +1,79 @@
+package droneportTeam05.controllers;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import droneportTeam05.controllers.dto.DroneOperationRequest;
+import droneportTeam05.controllers.dto.DroneOperationResult;
+import droneportTeam05.controllers.dto.ZoneConflictRequest;
+import droneportTeam05.controllers.dto.ZoneConflictResult;
+import droneportTeam05.domain.zones.Zone;
+import droneportTeam05.service.ZoneService;
+import droneportTeam05.service.geometry.FootprintService;
+import droneportTeam05.service.geometry.ZoneConflictService;
+import droneportTeam05.service.orchestration.DroneOperationService;
+import droneportTeam05.service.validation.ValidationException;
+import droneportTeam05.util.ServiceException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/geometry")
+public class GeometryController {
+
+    private final FootprintService footprintService;
+    private final ZoneService zoneService;
+    private final DroneOperationService calculationService;
+    private final ZoneConflictService zoneConflictService;
+
+    public GeometryController(FootprintService footprintService, ZoneService zoneService,
+                              DroneOperationService calculationService, ZoneConflictService zoneConflictService) {
+        this.footprintService = footprintService;
+        this.zoneService = zoneService;
+        this.calculationService = calculationService;
+        this.zoneConflictService = zoneConflictService;
+    }
+
+    @PostMapping("/footprint/{zoneName}")
+    public Map<String, Object> getFootprint(
+            @PathVariable String zoneName,
+            @RequestBody DroneOperationRequest request) throws ServiceException {
+        Zone zone = zoneService.getZone(zoneName);
+        DroneOperationResult result = calculationService.calculateOperation(request);
+        return footprintService.footprint(zone, result);
+    }
+
+    @PostMapping("/footprints")
+    public Map<String, Object> getFootprints(@RequestBody DroneOperationRequest request) {
+        DroneOperationResult result = calculationService.calculateOperation(request);
+        return footprintService.footprints(zoneService.getAllZones(), result);
+    }
+
+    @PostMapping("/conflicts")
+    public ResponseEntity<ZoneConflictResult> getConflicts(@RequestBody ZoneConflictRequest request) {
+        if (request.getOperation() == null) {
+            return ResponseEntity.badRequest().body(ZoneConflictResult.error("Operation is required"));
+        }
+        DroneOperationResult result = calculationService.calculateOperation(request.getOperation());
+        if (!result.isSuccess()) {
+            return ResponseEntity.badRequest().body(ZoneConflictResult.error(result.getErrorMessage()));
+        }
+        return ResponseEntity.ok(zoneConflictService.findConflicts(request.getArea(), result));
+    }
+
+    @ExceptionHandler({ ServiceException.class })
+    public ResponseEntity<Map<String, String>> handleServiceException(ServiceException ex) {
+        Map<String, String> errors = new HashMap<>();
+        errors.put(ex.getField(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errors);
+    }
+
+    @ExceptionHandler({ ValidationException.class, IllegalArgumentException.class })
+    public ResponseEntity<Map<String, String>> handleValidationException(RuntimeException ex) {
+        Map<String, String> errors = new HashMap<>();
+        errors.put("error", ex.getMessage());
+        return ResponseEntity.badRequest().body(errors);
+    }
+}
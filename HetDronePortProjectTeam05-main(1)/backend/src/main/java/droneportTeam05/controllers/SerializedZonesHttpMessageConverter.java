@@ -0,0 +1,46 @@
+package droneportTeam05.controllers;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import droneportTeam05.service.SerializedZones;
+
+/**
+ * Writes the JSON the zone height index already holds instead of serializing the zones per request.
+ */
+public class SerializedZonesHttpMessageConverter extends AbstractHttpMessageConverter<SerializedZones> {
+
+    public SerializedZonesHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return SerializedZones.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected SerializedZones readInternal(Class<? extends SerializedZones> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Serialized zones are write-only", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(SerializedZones zones, MediaType contentType) {
+        return zones.contentLength();
+    }
+
+    @Override
+    protected void writeInternal(SerializedZones zones, HttpOutputMessage outputMessage) throws IOException {
+        zones.writeTo(outputMessage.getBody());
+    }
+}
@@ -3,12 +3,26 @@ package droneportTeam05.controllers;
 import jakarta.validation.Valid;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import droneportTeam05.controllers.dto.CacheStatistics;
+import droneportTeam05.controllers.dto.ImportResult;
+import droneportTeam05.controllers.dto.ZoneSnapshotStatistics;
 import droneportTeam05.domain.zones.Zone;
 import droneportTeam05.service.ZoneService;
+import droneportTeam05.service.geometry.ZoneDetail;
+import droneportTeam05.service.geometry.ZoneIndex;
+import droneportTeam05.service.imports.AltitudeUnit;
+import droneportTeam05.service.imports.ZoneFileFormat;
+import droneportTeam05.service.imports.ZoneImportService;
+import droneportTeam05.service.tiles.ZoneTileService;
+import droneportTeam05.service.validation.ValidationException;
 import droneportTeam05.util.ServiceException;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,20 +31,71 @@ import java.util.Map;
 @RequestMapping("/api/zones")
 public class ZoneController {
 
+    private static final MediaType MVT = MediaType.parseMediaType("application/vnd.mapbox-vector-tile");
+
     private final ZoneService zoneService;
+    private final ZoneIndex zoneIndex;
+    private final ZoneImportService zoneImportService;
+    private final ZoneTileService zoneTileService;
 
-    public ZoneController(ZoneService zoneService) {
+    public ZoneController(ZoneService zoneService, ZoneIndex zoneIndex, ZoneImportService zoneImportService,
+                          ZoneTileService zoneTileService) {
         this.zoneService = zoneService;
+        this.zoneIndex = zoneIndex;
+        this.zoneImportService = zoneImportService;
+        this.zoneTileService = zoneTileService;
     }
 
     @GetMapping
-    public List<Zone> getAllZones() {
-        return zoneService.getAllZones();
+    public List<Zone> getAllZones(@RequestParam(required = false) Double tolerance,
+                                  @RequestParam(required = false) Integer zoom) {
+        return zoneService.getAllZones(ZoneDetail.tolerance(tolerance, zoom));
+    }
+
+    @GetMapping("/bbox")
+    public List<Zone> getZonesIntersecting(@RequestParam double minLat, @RequestParam double minLng,
+                                           @RequestParam double maxLat, @RequestParam double maxLng) {
+        return zoneIndex.findIntersecting(minLat, minLng, maxLat, maxLng);
+    }
+
+    @GetMapping("/contains")
+    public List<Zone> getZonesContaining(@RequestParam double lat, @RequestParam double lng) {
+        return zoneIndex.findContaining(lat, lng);
+    }
+
+    @GetMapping("/height")
+    public List<Zone> getZonesWithMaxHeightBetween(@RequestParam double min, @RequestParam double max,
+                                                   @RequestParam(required = false) Double tolerance,
+                                                   @RequestParam(required = false) Integer zoom) {
+        return zoneService.getZonesWithMaxHeightBetween(min, max, ZoneDetail.tolerance(tolerance, zoom));
+    }
+
+    @GetMapping("/tiles/{z}/{x}/{y}")
+    public ResponseEntity<byte[]> getTile(@PathVariable int z, @PathVariable int x, @PathVariable int y) {
+        byte[] tile = zoneTileService.getTile(z, x, y);
+        if (tile.length == 0) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MVT)
+                .body(tile);
+    }
+
+    @GetMapping("/tiles/stats")
+    public CacheStatistics getTileCacheStatistics() {
+        return zoneTileService.getCacheStatistics();
+    }
+
+    @GetMapping("/snapshot/stats")
+    public ZoneSnapshotStatistics getSnapshotStatistics() {
+        return zoneService.getSnapshotStatistics();
     }
 
     @GetMapping("/{maxHeight}")
-    public List<Zone> getZonesGreaterThanMaxHeight(@PathVariable double maxHeight) {
-        List<Zone> zones = zoneService.getZonesGreaterThanMaxHeight(maxHeight);
+    public List<Zone> getZonesGreaterThanMaxHeight(@PathVariable double maxHeight,
+                                                   @RequestParam(required = false) Double tolerance,
+                                                   @RequestParam(required = false) Integer zoom) {
+        List<Zone> zones = zoneService.getZonesGreaterThanMaxHeight(maxHeight, ZoneDetail.tolerance(tolerance, zoom));
         return zones;
     }
 
@@ -46,6 +111,13 @@ public class ZoneController {
         return zoneService.updateZone(name, zone);
     }
 
+    @PostMapping("/admin/import")
+    public ImportResult importZones(@RequestParam String format,
+                                    @RequestParam(defaultValue = "m") String unit,
+                                    InputStream body) throws IOException {
+        return zoneImportService.importZones(body, ZoneFileFormat.parse(format), AltitudeUnit.parse(unit));
+    }
+
     @DeleteMapping("/admin/{name}")
     public String deleteZone(@PathVariable String name) throws ServiceException {
         return zoneService.deleteZone(name);
@@ -63,4 +135,12 @@ public class ZoneController {
         }
         return errors;
     }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler({ ValidationException.class })
+    public Map<String, String> handleInvalidQuery(ValidationException ex) {
+        Map<String, String> errors = new HashMap<>();
+        errors.put("error", ex.getMessage());
+        return errors;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package droneportTeam05.controllers.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BatchOperationResult {
+    private List<DroneOperationResult> results;
+    private int successCount;
+    private int failureCount;
+    private int parallelism;
+    private long totalTimeMs;
+    private String errorMessage;
+
+    public BatchOperationResult() {
+        this.results = new ArrayList<>();
+    }
+
+    public BatchOperationResult(List<DroneOperationResult> results, int parallelism, long totalTimeMs) {
+        this.results = results;
+        this.parallelism = parallelism;
+        this.totalTimeMs = totalTimeMs;
+        for (DroneOperationResult result : results) {
+            if (result.isSuccess()) {
+                successCount++;
+            } else {
+                failureCount++;
+            }
+        }
+    }
+
+    public static BatchOperationResult error(String message) {
+        BatchOperationResult result = new BatchOperationResult();
+        result.errorMessage = message;
+        return result;
+    }
+
+    public boolean isSuccess() {
+        return errorMessage == null && failureCount == 0;
+    }
+}
@@ -0,0 +1,19 @@
+package droneportTeam05.controllers.dto;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkMailRecipient {
+    private String to;
+    // Placeholder values for this recipient, e.g. droneName for {{droneName}}
+    private Map<String, String> values = new HashMap<>();
+}
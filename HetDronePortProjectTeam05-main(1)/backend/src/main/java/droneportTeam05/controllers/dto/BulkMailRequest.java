@@ -0,0 +1,20 @@
+package droneportTeam05.controllers.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkMailRequest {
+    // Subject and body may contain placeholders; when both are left out the default template is used
+    private String subject;
+    private String body;
+    private List<BulkMailRecipient> recipients = new ArrayList<>();
+}
@@ -0,0 +1,27 @@
+package droneportTeam05.controllers.dto;
+
+import java.util.List;
+
+import droneportTeam05.domain.MailStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkMailResult {
+    // In the order of the request's recipients
+    private List<RecipientOutcome> outcomes;
+    private long durationMillis;
+
+    public long getSent() {
+        return outcomes.stream().filter(outcome -> outcome.getStatus() == MailStatus.SENT).count();
+    }
+
+    public long getFailed() {
+        return outcomes.size() - getSent();
+    }
+}
@@ -7,12 +7,15 @@ import droneportTeam05.domain.risk.GroundRiskBuffer;
 import droneportTeam05.domain.volume.AdjacentVolume;
 import droneportTeam05.domain.volume.LateralContingencyVolume;
 import droneportTeam05.domain.volume.VerticalContingencyVolume;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Setter
 @Getter
@@ -33,6 +36,10 @@ public class DroneOperationResult {
     private LocalDateTime calculationTimestamp;
     private long calculationTimeMs;
     private ValidationResult validationResult;
+
+    // Only filled in when diagnostics were requested
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, Long> stageTimingsNanos;
     
     public DroneOperationResult() {
         this.calculationTimestamp = LocalDateTime.now();
@@ -0,0 +1,15 @@
+package droneportTeam05.controllers.dto;
+
+import droneportTeam05.domain.aircraft.UAVType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class DroneSummary {
+    private Long id;
+    private String name;
+    private UAVType type;
+    private double maxOperationalSpeed;
+    private double maxCharacteristicDimension;
+}
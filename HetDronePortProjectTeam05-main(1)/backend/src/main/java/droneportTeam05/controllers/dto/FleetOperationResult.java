@@ -0,0 +1,15 @@
+package droneportTeam05.controllers.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FleetOperationResult {
+    private String droneName;
+    private DroneOperationResult result;
+}
@@ -0,0 +1,35 @@
+package droneportTeam05.controllers.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ImportResult {
+    private int total;
+    private int created;
+    private int updated;
+    private int invalid;
+    private int failed;
+    private List<ImportRowResult> rows = new ArrayList<>();
+    private long durationMillis;
+
+    public void add(ImportRowResult row) {
+        rows.add(row);
+        count(row.getStatus());
+    }
+
+    // Counts a row without listing it, for imports too large to report every row
+    public void count(ImportStatus status) {
+        total++;
+        switch (status) {
+            case CREATED -> created++;
+            case UPDATED -> updated++;
+            case INVALID -> invalid++;
+            case FAILED -> failed++;
+        }
+    }
+}
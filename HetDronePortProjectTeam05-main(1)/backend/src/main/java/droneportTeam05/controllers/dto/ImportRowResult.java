@@ -0,0 +1,18 @@
+package droneportTeam05.controllers.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowResult {
+    // 1-based position of the record in the file, not counting a CSV header
+    private int row;
+    private String name;
+    private ImportStatus status;
+    private String errorMessage;
+}
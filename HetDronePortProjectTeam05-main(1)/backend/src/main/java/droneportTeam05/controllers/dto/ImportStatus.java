@@ -0,0 +1,8 @@
+package droneportTeam05.controllers.dto;
+
+public enum ImportStatus {
+    CREATED,
+    UPDATED,
+    INVALID,
+    FAILED,
+}
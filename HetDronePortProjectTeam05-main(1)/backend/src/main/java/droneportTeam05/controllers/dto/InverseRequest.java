@@ -0,0 +1,21 @@
+package droneportTeam05.controllers.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class InverseRequest {
+    private DroneOperationRequest base;
+    private InverseTarget solveFor;
+    // Highest point the minimum vertical dimension may reach, in meters
+    private Double ceiling;
+    // Available distance between the flight geography and the zone boundary, in meters
+    private Double lateralBudget;
+    private boolean includeAdjacentVolume;
+    private boolean includeGroundRiskBuffer;
+}
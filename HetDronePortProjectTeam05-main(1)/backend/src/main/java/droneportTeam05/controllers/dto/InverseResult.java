@@ -0,0 +1,36 @@
+package droneportTeam05.controllers.dto;
+
+import droneportTeam05.domain.operation.OperationVolumes;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class InverseResult {
+    private InverseTarget solveFor;
+    private Double value;
+    private boolean feasible;
+    private String limitingConstraint;
+    private OperationVolumes volumes;
+
+    private boolean success;
+    private String errorMessage;
+    private long calculationTimeMicros;
+
+    public InverseResult() {
+        this.success = true;
+    }
+
+    public InverseResult(InverseTarget solveFor, String limitingConstraint) {
+        this();
+        this.solveFor = solveFor;
+        this.limitingConstraint = limitingConstraint;
+    }
+
+    public static InverseResult error(String message) {
+        InverseResult result = new InverseResult();
+        result.success = false;
+        result.errorMessage = message;
+        return result;
+    }
+}
@@ -0,0 +1,10 @@
+package droneportTeam05.controllers.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public enum InverseTarget {
+    @JsonProperty("heightFlightGeo")
+    HEIGHT_FLIGHT_GEO,
+    @JsonProperty("maxOperationalSpeed")
+    MAX_OPERATIONAL_SPEED,
+}
@@ -0,0 +1,26 @@
+package droneportTeam05.controllers.dto;
+
+import java.time.Instant;
+
+import droneportTeam05.domain.MailStatus;
+import droneportTeam05.domain.OutboundMail;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MailDeliveryStatus {
+    private String messageId;
+    private String recipient;
+    private MailStatus status;
+    private int attempts;
+    private Instant nextAttemptAt;
+    private String lastError;
+    private Instant createdAt;
+    private Instant sentAt;
+
+    public static MailDeliveryStatus of(OutboundMail mail) {
+        return new MailDeliveryStatus(mail.getId(), mail.getRecipient(), mail.getStatus(), mail.getAttempts(),
+                mail.getNextAttemptAt(), mail.getLastError(), mail.getCreatedAt(), mail.getSentAt());
+    }
+}
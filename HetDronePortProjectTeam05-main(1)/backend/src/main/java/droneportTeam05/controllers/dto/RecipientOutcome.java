@@ -0,0 +1,17 @@
+package droneportTeam05.controllers.dto;
+
+import droneportTeam05.domain.MailStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipientOutcome {
+    private String to;
+    private MailStatus status;
+    private String errorMessage;
+}
@@ -0,0 +1,25 @@
+package droneportTeam05.controllers.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SweepAxis {
+    private SweepParameter parameter;
+    private double from;
+    private double to;
+    private int steps;
+
+    public double getStepSize() {
+        return steps > 1 ? (to - from) / (steps - 1) : 0.0;
+    }
+
+    public double valueAt(int index) {
+        return from + getStepSize() * index;
+    }
+}
@@ -0,0 +1,20 @@
+package droneportTeam05.controllers.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public enum SweepParameter {
+    @JsonProperty("heightFlightGeo")
+    HEIGHT_FLIGHT_GEO,
+    @JsonProperty("maxOperationalSpeed")
+    MAX_OPERATIONAL_SPEED,
+    @JsonProperty("responseTime")
+    RESPONSE_TIME,
+    @JsonProperty("pitchAngle")
+    PITCH_ANGLE,
+    @JsonProperty("rollAngle")
+    ROLL_ANGLE,
+    @JsonProperty("maxPermissibleWindSpeed")
+    MAX_PERMISSIBLE_WIND_SPEED,
+    @JsonProperty("glideRatio")
+    GLIDE_RATIO,
+}
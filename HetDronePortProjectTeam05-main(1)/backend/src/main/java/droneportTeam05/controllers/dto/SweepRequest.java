@@ -0,0 +1,18 @@
+package droneportTeam05.controllers.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SweepRequest {
+    private DroneOperationRequest base;
+    private List<SweepAxis> axes = new ArrayList<>();
+}
@@ -0,0 +1,50 @@
+package droneportTeam05.controllers.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Column-oriented sweep grid. Point {@code i} of every column belongs to the same parameter combination;
+ * points are laid out row-major over {@link #axes}, so the last axis varies fastest.
+ */
+@Getter
+@Setter
+public class SweepResult {
+    private List<SweepAxis> axes;
+    private int points;
+    private double[] lateralExtension;
+    private double[] minVerticalDimension;
+    private double[] groundRiskBuffer;
+    private double[] adjacentVolumeLateral;
+    private double[] adjacentVolumeVertical;
+
+    private boolean success;
+    private String errorMessage;
+    private long calculationTimeMs;
+
+    public SweepResult() {
+        this.axes = new ArrayList<>();
+        this.success = true;
+    }
+
+    public SweepResult(List<SweepAxis> axes, int points) {
+        this();
+        this.axes = axes;
+        this.points = points;
+        this.lateralExtension = new double[points];
+        this.minVerticalDimension = new double[points];
+        this.groundRiskBuffer = new double[points];
+        this.adjacentVolumeLateral = new double[points];
+        this.adjacentVolumeVertical = new double[points];
+    }
+
+    public static SweepResult error(String message) {
+        SweepResult result = new SweepResult();
+        result.success = false;
+        result.errorMessage = message;
+        return result;
+    }
+}
@@ -0,0 +1,23 @@
+package droneportTeam05.controllers.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ZoneConflict {
+    private String zoneName;
+    private double maxHeight;
+    // The zone overlaps the operation area itself
+    private boolean lateralConflict;
+    // The zone overlaps the adjacent volume footprint below the top of the adjacent volume
+    private boolean verticalConflict;
+    // Square meters shared with the operation area
+    private double operationOverlapArea;
+    // Square meters shared with the adjacent volume footprint, which includes the operation area
+    private double overlapArea;
+}
@@ -0,0 +1,19 @@
+package droneportTeam05.controllers.dto;
+
+import java.util.List;
+
+import droneportTeam05.domain.zones.Point;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ZoneConflictRequest {
+    // Outer edge of the ground risk buffer, like a zone path
+    private List<Point> area;
+    private DroneOperationRequest operation;
+}
@@ -0,0 +1,31 @@
+package droneportTeam05.controllers.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ZoneConflictResult {
+    private double requiredHeight;
+    private double adjacentLateral;
+    private int candidateCount;
+    private List<ZoneConflict> conflicts = new ArrayList<>();
+
+    private boolean success;
+    private String errorMessage;
+    private long calculationTimeMicros;
+
+    public ZoneConflictResult() {
+        this.success = true;
+    }
+
+    public static ZoneConflictResult error(String message) {
+        ZoneConflictResult result = new ZoneConflictResult();
+        result.success = false;
+        result.errorMessage = message;
+        return result;
+    }
+}
@@ -0,0 +1,15 @@
+package droneportTeam05.controllers.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ZoneSnapshotStatistics {
+    private boolean loaded;
+    private int zoneCount;
+    private long ageMillis;
+    private long rebuildDurationMicros;
+    private long rebuilds;
+    private long patches;
+}
@@ -0,0 +1,32 @@
+package droneportTeam05.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * An attachment of a queued message. The content stays in the spool file at {@code path} and is streamed
+ * from there when the message is sent.
+ */
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Embeddable
+public class MailAttachment {
+
+    @Column(name = "filename", nullable = false)
+    private String filename;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "path", length = 1000, nullable = false)
+    private String path;
+
+    @Column(name = "size", nullable = false)
+    private long size;
+}
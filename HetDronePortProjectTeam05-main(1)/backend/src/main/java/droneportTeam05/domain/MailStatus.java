@@ -0,0 +1,8 @@
+package droneportTeam05.domain;
+
+public enum MailStatus {
+    QUEUED,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,72 @@
+package droneportTeam05.domain;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A message in the outbox. It is stored before the request returns and sent later by
+ * {@link droneportTeam05.service.email.MailOutboxService}, so its id doubles as the message id for status
+ * lookups.
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "mail_outbox", indexes = @Index(name = "idx_mail_outbox_due", columnList = "status, next_attempt_at"))
+public class OutboundMail {
+
+    @Id
+    private String id;
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    @Column(name = "subject")
+    private String subject;
+
+    @Column(name = "body", columnDefinition = "TEXT", nullable = false)
+    private String body;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "mail_outbox_attachments", joinColumns = @JoinColumn(name = "mail_id"))
+    @OrderColumn(name = "position")
+    private List<MailAttachment> attachments = new ArrayList<>();
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private MailStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // When a queued message is due, or when the lease of a sending one runs out
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "sent_at")
+    private Instant sentAt;
+
+    public OutboundMail(String recipient, String subject, String body, List<MailAttachment> attachments) {
+        this.id = UUID.randomUUID().toString();
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+        this.attachments = new ArrayList<>(attachments);
+        this.status = MailStatus.QUEUED;
+        this.createdAt = Instant.now();
+        this.nextAttemptAt = createdAt;
+    }
+}
@@ -66,4 +66,18 @@ public class UAV {
         }
         setAltitudeMeasurementError(altitudeMeasurementErrorType);
     }
+
+    public UAV copy() {
+        UAV copy = new UAV();
+        copy.type = type;
+        copy.maxOperationalSpeed = maxOperationalSpeed;
+        copy.maxCharacteristicDimension = maxCharacteristicDimension;
+        copy.altitudeMeasurementErrorType = altitudeMeasurementErrorType;
+        copy.altitudeMeasurementError = altitudeMeasurementError;
+        copy.gpsInaccuracy = gpsInaccuracy;
+        copy.positionHoldingError = positionHoldingError;
+        copy.mapError = mapError;
+        copy.responseTime = responseTime;
+        return copy;
+    }
 }
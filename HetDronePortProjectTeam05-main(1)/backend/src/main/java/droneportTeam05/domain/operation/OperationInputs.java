@@ -0,0 +1,81 @@
+package droneportTeam05.domain.operation;
+
+import droneportTeam05.domain.aircraft.UAV;
+import droneportTeam05.domain.aircraft.UAVType;
+import droneportTeam05.domain.risk.GroundRiskBuffer;
+import droneportTeam05.domain.risk.TerminationType;
+import droneportTeam05.domain.volume.ContingencyManoeuvre;
+import droneportTeam05.domain.volume.LateralContingencyVolume;
+import droneportTeam05.domain.volume.VerticalContingencyVolume;
+
+/**
+ * Canonical, immutable view of every input that influences a drone operation calculation.
+ * Derived values (lateral extension, min vertical dimension, ...) and database ids are left out,
+ * so two requests with the same configuration produce equal instances.
+ */
+public record OperationInputs(
+        UAVType uavType,
+        double maxOperationalSpeed,
+        double maxCharacteristicDimension,
+        int altitudeMeasurementError,
+        int gpsInaccuracy,
+        int positionHoldingError,
+        int mapError,
+        double responseTime,
+        ContingencyManoeuvre lateralManoeuvre,
+        int rollAngle,
+        int pitchAngle,
+        double lateralTimeToOpenParachute,
+        ContingencyManoeuvre verticalManoeuvre,
+        double verticalTimeToOpenParachute,
+        TerminationType termination,
+        double grbTimeToOpenParachute,
+        double maxPermissibleWindSpeed,
+        double rateOfDescent,
+        double glideRatio,
+        double heightFlightGeo) {
+
+    public static OperationInputs of(UAV uav, LateralContingencyVolume lateralCV, VerticalContingencyVolume verticalCV,
+                                     GroundRiskBuffer grb, double heightFlightGeo) {
+        return new OperationInputs(
+                uav.getType(),
+                normalize(uav.getMaxOperationalSpeed()),
+                normalize(uav.getMaxCharacteristicDimension()),
+                uav.getAltitudeMeasurementError(),
+                uav.getGpsInaccuracy(),
+                uav.getPositionHoldingError(),
+                uav.getMapError(),
+                normalize(uav.getResponseTime()),
+                lateralCV.getContingencyManoeuvre(),
+                lateralCV.getRollAngle(),
+                lateralCV.getPitchAngle(),
+                normalize(lateralCV.getTimeToOpenParachute()),
+                verticalCV.getContingencyManoeuvre(),
+                normalize(verticalCV.getTimeToOpenParachute()),
+                grb.getTermination(),
+                normalize(grb.getTimeToOpenParachute()),
+                normalize(grb.getMaxPermissibleWindSpeed()),
+                normalize(grb.getRateOfDescent()),
+                normalize(grb.getGlideRatio()),
+                normalize(heightFlightGeo));
+    }
+
+    public OperationInputs withMaxOperationalSpeed(double speed) {
+        return new OperationInputs(uavType, normalize(speed), maxCharacteristicDimension, altitudeMeasurementError,
+                gpsInaccuracy, positionHoldingError, mapError, responseTime, lateralManoeuvre, rollAngle, pitchAngle,
+                lateralTimeToOpenParachute, verticalManoeuvre, verticalTimeToOpenParachute, termination,
+                grbTimeToOpenParachute, maxPermissibleWindSpeed, rateOfDescent, glideRatio, heightFlightGeo);
+    }
+
+    public OperationInputs withHeightFlightGeo(double height) {
+        return new OperationInputs(uavType, maxOperationalSpeed, maxCharacteristicDimension, altitudeMeasurementError,
+                gpsInaccuracy, positionHoldingError, mapError, responseTime, lateralManoeuvre, rollAngle, pitchAngle,
+                lateralTimeToOpenParachute, verticalManoeuvre, verticalTimeToOpenParachute, termination,
+                grbTimeToOpenParachute, maxPermissibleWindSpeed, rateOfDescent, glideRatio, normalize(height));
+    }
+
+    // Records compare doubles bitwise, so fold -0.0 into 0.0 to keep the key canonical
+    private static double normalize(double value) {
+        return value + 0.0;
+    }
+}
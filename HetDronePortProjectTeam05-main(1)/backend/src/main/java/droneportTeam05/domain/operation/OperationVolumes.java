@@ -0,0 +1,62 @@
+package droneportTeam05.domain.operation;
+
+import droneportTeam05.domain.geography.FlightGeography;
+import droneportTeam05.domain.risk.GroundRiskBuffer;
+import droneportTeam05.domain.volume.AdjacentVolume;
+import droneportTeam05.domain.volume.LateralContingencyVolume;
+import droneportTeam05.domain.volume.VerticalContingencyVolume;
+
+/**
+ * Immutable snapshot of the values produced by a drone operation calculation.
+ * It never holds on to entities, so it can be shared between threads and requests.
+ */
+public record OperationVolumes(
+        double lateralExtension,
+        double responseHeight,
+        double heightContingencyManoeuvre,
+        double minVerticalDimension,
+        double verticalTimeToOpenParachute,
+        double grbTimeToOpenParachute,
+        double groundRiskBuffer,
+        double heightFlightGeo,
+        double minFlightHeight,
+        double minFlightWidth,
+        double adjacentLateral,
+        double adjacentVertical) {
+
+    public static OperationVolumes of(LateralContingencyVolume lateralCV, VerticalContingencyVolume verticalCV,
+                                      GroundRiskBuffer grb, FlightGeography flightGeography,
+                                      AdjacentVolume adjacentVolume) {
+        return new OperationVolumes(
+                lateralCV.getLateralExtension(),
+                verticalCV.getResponseHeight(),
+                verticalCV.getHeightContingencyManoeuvre(),
+                verticalCV.getMinVerticalDimension(),
+                verticalCV.getTimeToOpenParachute(),
+                grb.getTimeToOpenParachute(),
+                grb.getMinLateralDimension(),
+                flightGeography.getHeightFlightGeo(),
+                flightGeography.getMinHeight(),
+                flightGeography.getMinWdith(),
+                adjacentVolume.getLateralInMeter(),
+                adjacentVolume.getVerticalInMeter());
+    }
+
+    public void applyTo(LateralContingencyVolume lateralCV, VerticalContingencyVolume verticalCV, GroundRiskBuffer grb) {
+        lateralCV.setLateralExtension(lateralExtension);
+        verticalCV.setResponseHeight(responseHeight);
+        verticalCV.setHeightContingencyManoeuvre(heightContingencyManoeuvre);
+        verticalCV.setMinVerticalDimension(minVerticalDimension);
+        verticalCV.setTimeToOpenParachute(verticalTimeToOpenParachute);
+        grb.setTimeToOpenParachute(grbTimeToOpenParachute);
+        grb.setMinLateralDimension(groundRiskBuffer);
+    }
+
+    public FlightGeography toFlightGeography() {
+        return new FlightGeography(heightFlightGeo, minFlightHeight, minFlightWidth);
+    }
+
+    public AdjacentVolume toAdjacentVolume() {
+        return new AdjacentVolume(adjacentLateral, adjacentVertical);
+    }
+}
@@ -66,4 +66,14 @@ public class GroundRiskBuffer {
     public static GroundRiskBuffer forPowerOffNoGlide() {
         return new GroundRiskBuffer(TerminationType.OFF_NO_GLIDING);
     }
+
+    public GroundRiskBuffer copy() {
+        GroundRiskBuffer copy = new GroundRiskBuffer(termination);
+        copy.timeToOpenParachute = timeToOpenParachute;
+        copy.maxPermissibleWindSpeed = maxPermissibleWindSpeed;
+        copy.rateOfDescent = rateOfDescent;
+        copy.glideRatio = glideRatio;
+        copy.minLateralDimension = minLateralDimension;
+        return copy;
+    }
 }
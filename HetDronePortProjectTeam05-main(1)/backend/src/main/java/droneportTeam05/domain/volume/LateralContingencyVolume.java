@@ -49,4 +49,13 @@ public class LateralContingencyVolume {
         return lcv;
     }
 
+    public LateralContingencyVolume copy() {
+        LateralContingencyVolume copy = new LateralContingencyVolume(contingencyManoeuvre);
+        copy.rollAngle = rollAngle;
+        copy.timeToOpenParachute = timeToOpenParachute;
+        copy.pitchAngle = pitchAngle;
+        copy.lateralExtension = lateralExtension;
+        return copy;
+    }
+
 }
@@ -48,4 +48,13 @@ public class VerticalContingencyVolume {
     public static VerticalContingencyVolume forCircularPath() {
         return new VerticalContingencyVolume(ContingencyManoeuvre.CIRCULAR_PATH);
     }
+
+    public VerticalContingencyVolume copy() {
+        VerticalContingencyVolume copy = new VerticalContingencyVolume(contingencyManoeuvre);
+        copy.responseHeight = responseHeight;
+        copy.timeToOpenParachute = timeToOpenParachute;
+        copy.heightContingencyManoeuvre = heightContingencyManoeuvre;
+        copy.minVerticalDimension = minVerticalDimension;
+        return copy;
+    }
 }
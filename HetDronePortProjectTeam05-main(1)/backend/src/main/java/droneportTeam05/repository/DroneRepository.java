@@ -1,10 +1,64 @@
 package droneportTeam05.repository;
 
+import droneportTeam05.controllers.dto.DroneSummary;
 import droneportTeam05.domain.Drone;
+import droneportTeam05.domain.aircraft.UAVType;
 import org.springframework.stereotype.Repository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface DroneRepository extends JpaRepository<Drone, Long> {
     Drone findByName(String name);
+
+    @Override
+    @EntityGraph(attributePaths = {"uav", "lateralContingencyVolume", "verticalContingencyVolume", "groundRiskBuffer"})
+    List<Drone> findAll();
+
+    // Sort on "name" or on the "u." alias of the UAV join
+    @Query(value = "select new droneportTeam05.controllers.dto.DroneSummary("
+            + "d.id, d.name, u.type, u.maxOperationalSpeed, u.maxCharacteristicDimension)"
+            + " from Drone d left join d.uav u",
+            countQuery = "select count(d) from Drone d")
+    Page<DroneSummary> findSummaries(Pageable pageable);
+
+    @Query(value = "select d from Drone d"
+            + " left join fetch d.uav u"
+            + " left join fetch d.lateralContingencyVolume"
+            + " left join fetch d.verticalContingencyVolume"
+            + " left join fetch d.groundRiskBuffer",
+            countQuery = "select count(d) from Drone d")
+    Page<Drone> findPageWithConfiguration(Pageable pageable);
+
+    @Query("select d from Drone d"
+            + " left join fetch d.uav"
+            + " left join fetch d.lateralContingencyVolume"
+            + " left join fetch d.verticalContingencyVolume"
+            + " left join fetch d.groundRiskBuffer"
+            + " order by d.name")
+    List<Drone> findAllWithConfiguration();
+
+    @Query("select d from Drone d"
+            + " join fetch d.uav u"
+            + " left join fetch d.lateralContingencyVolume"
+            + " left join fetch d.verticalContingencyVolume"
+            + " left join fetch d.groundRiskBuffer"
+            + " where u.type = :type"
+            + " order by d.name")
+    List<Drone> findAllWithConfigurationByUavType(@Param("type") UAVType type);
+
+    @Query("select d from Drone d"
+            + " left join fetch d.uav"
+            + " left join fetch d.lateralContingencyVolume"
+            + " left join fetch d.verticalContingencyVolume"
+            + " left join fetch d.groundRiskBuffer"
+            + " where d.name in :names")
+    List<Drone> findAllWithConfigurationByNameIn(@Param("names") Collection<String> names);
 }
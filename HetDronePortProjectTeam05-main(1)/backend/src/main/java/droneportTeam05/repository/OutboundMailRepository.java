@@ -0,0 +1,52 @@
+package droneportTeam05.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import droneportTeam05.domain.MailStatus;
+import droneportTeam05.domain.OutboundMail;
+
+@Repository
+public interface OutboundMailRepository extends JpaRepository<OutboundMail, String> {
+
+    @Query("select m.id from OutboundMail m where m.status in :statuses and m.nextAttemptAt <= :now "
+            + "order by m.nextAttemptAt")
+    List<String> findDueIds(@Param("statuses") Collection<MailStatus> statuses,
+                            @Param("now") Instant now,
+                            Pageable pageable);
+
+    /**
+     * Leases a due message to one sender. Only one caller can win it, and a lease that ran out because its
+     * sender died can be taken again.
+     */
+    @Transactional
+    @Modifying
+    @Query("update OutboundMail m set m.status = :sending, m.nextAttemptAt = :leaseUntil "
+            + "where m.id = :id and m.status in :claimable and m.nextAttemptAt <= :now")
+    int claim(@Param("id") String id,
+              @Param("sending") MailStatus sending,
+              @Param("claimable") Collection<MailStatus> claimable,
+              @Param("now") Instant now,
+              @Param("leaseUntil") Instant leaseUntil);
+
+    // Leaves the attachments alone, unlike saving the whole message again
+    @Transactional
+    @Modifying
+    @Query("update OutboundMail m set m.status = :status, m.attempts = :attempts, m.nextAttemptAt = :nextAttemptAt, "
+            + "m.lastError = :lastError, m.sentAt = :sentAt where m.id = :id")
+    int recordAttempt(@Param("id") String id,
+                      @Param("status") MailStatus status,
+                      @Param("attempts") int attempts,
+                      @Param("nextAttemptAt") Instant nextAttemptAt,
+                      @Param("lastError") String lastError,
+                      @Param("sentAt") Instant sentAt);
+}
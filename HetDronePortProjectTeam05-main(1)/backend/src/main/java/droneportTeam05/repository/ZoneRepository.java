@@ -1,8 +1,11 @@
 package droneportTeam05.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import droneportTeam05.domain.zones.Zone;
@@ -11,4 +14,11 @@ import droneportTeam05.domain.zones.Zone;
 public interface ZoneRepository extends JpaRepository<Zone, Long> {
     Zone findByName(String name);
     List<Zone> findByMaxHeightGreaterThan(double maxHeight);
+    List<Zone> findByMaxHeightBetween(double min, double max);
+
+    @Query("select distinct z from Zone z left join fetch z.path order by z.id")
+    List<Zone> findAllWithPath();
+
+    @Query("select distinct z from Zone z left join fetch z.path where z.name in :names")
+    List<Zone> findAllWithPathByNameIn(@Param("names") Collection<String> names);
 }
@@ -1,30 +1,78 @@
 package droneportTeam05.service;
 
+import droneportTeam05.controllers.dto.DroneSummary;
+import droneportTeam05.controllers.dto.PageResult;
 import droneportTeam05.domain.Drone;
 import droneportTeam05.repository.DroneRepository;
+import droneportTeam05.service.validation.ValidationException;
 import droneportTeam05.util.ServiceException;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class DroneService {
 
+    public static final int MAX_PAGE_SIZE = 200;
+
+    // Request sort keys to query paths; "u" is the UAV join alias in the paged queries
+    private static final Map<String, String> SORT_PROPERTIES = Map.of(
+            "name", "name",
+            "type", "u.type",
+            "maxOperationalSpeed", "u.maxOperationalSpeed",
+            "maxCharacteristicDimension", "u.maxCharacteristicDimension");
+
     @Autowired
     private final DroneRepository droneRepository;
+    private final CatalogVersion catalogVersion;
 
-    public DroneService(DroneRepository droneRepository) {
+    public DroneService(DroneRepository droneRepository, CatalogVersion catalogVersion) {
         this.droneRepository = droneRepository;
+        this.catalogVersion = catalogVersion;
     }
 
     public List<Drone> getAllDrones() {
         return droneRepository.findAll();
     }
 
+    public PageResult<DroneSummary> getDroneSummaries(int page, int size, String sort, String direction) {
+        return PageResult.of(droneRepository.findSummaries(pageRequest(page, size, sort, direction)));
+    }
+
+    public PageResult<Drone> getDronePage(int page, int size, String sort, String direction) {
+        return PageResult.of(droneRepository.findPageWithConfiguration(pageRequest(page, size, sort, direction)));
+    }
+
+    private PageRequest pageRequest(int page, int size, String sort, String direction) {
+        if (page < 0) {
+            throw new ValidationException("Page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        String property = SORT_PROPERTIES.get(sort);
+        if (property == null) {
+            throw new ValidationException("Cannot sort drones by " + sort);
+        }
+        Sort.Direction sortDirection = Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new ValidationException("Sort direction must be asc or desc"));
+        // The name breaks ties so pages never overlap
+        Sort order = Sort.by(sortDirection, property);
+        if (!property.equals("name")) {
+            order = order.and(Sort.by("name"));
+        }
+        return PageRequest.of(page, size, order);
+    }
+
     public Drone createDrone(Drone drone) {
-        return droneRepository.save(drone);
+        Drone saved = droneRepository.save(drone);
+        catalogVersion.bumpAfterCommit();
+        return saved;
     }
 
     @Transactional
@@ -57,7 +105,9 @@ public class DroneService {
             existingDrone.setGroundRiskBuffer(drone.getGroundRiskBuffer());
         }
 
-        return droneRepository.save(existingDrone);
+        Drone saved = droneRepository.save(existingDrone);
+        catalogVersion.bumpAfterCommit();
+        return saved;
     }
 
 
@@ -67,6 +117,7 @@ public class DroneService {
             throw new ServiceException("Drone", "Drone does not exist");
         }
         droneRepository.delete(drone);
+        catalogVersion.bumpAfterCommit();
         return "Drone deleted successfully";
     }
 }
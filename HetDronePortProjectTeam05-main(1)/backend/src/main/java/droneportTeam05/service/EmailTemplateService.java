@@ -4,29 +4,56 @@ import org.springframework.stereotype.Service;
 
 import droneportTeam05.domain.EmailTemplate;
 import droneportTeam05.repository.EmailTemplateRepository;
+import droneportTeam05.service.email.CompiledEmailTemplate;
 
+/**
+ * Keeps the default template compiled in memory. It is loaded on first use and replaced by
+ * {@link #updateTemplate}, so sending mail does not touch the database.
+ */
 @Service
 public class EmailTemplateService {
 
+    private static final String DEFAULT_TEMPLATE = "default";
+
     private final EmailTemplateRepository emailTemplateRepository;
+
+    private volatile CompiledEmailTemplate compiledTemplate;
     
     public EmailTemplateService(EmailTemplateRepository emailTemplateRepository) {
         this.emailTemplateRepository = emailTemplateRepository;
     }
     public EmailTemplate getTemplate() {
-        EmailTemplate emailTemplate = emailTemplateRepository.findByName("default");
-        return emailTemplate;
+        CompiledEmailTemplate compiled = getCompiledTemplate();
+        return compiled == null ? null : compiled.getTemplate();
+    }
+
+    public CompiledEmailTemplate getCompiledTemplate() {
+        CompiledEmailTemplate compiled = compiledTemplate;
+        if (compiled != null) {
+            return compiled;
+        }
+        // Shares the lock with updateTemplate, so a load cannot overwrite a newer template with an older one
+        synchronized (this) {
+            if (compiledTemplate == null) {
+                EmailTemplate emailTemplate = emailTemplateRepository.findByName(DEFAULT_TEMPLATE);
+                if (emailTemplate != null) {
+                    compiledTemplate = new CompiledEmailTemplate(emailTemplate);
+                }
+            }
+            return compiledTemplate;
+        }
     }
 
-    public String updateTemplate(String subject, String body) {
-        EmailTemplate emailTemplate = emailTemplateRepository.findByName("default");
+    public synchronized String updateTemplate(String subject, String body) {
+        EmailTemplate emailTemplate = emailTemplateRepository.findByName(DEFAULT_TEMPLATE);
         if (emailTemplate == null) {
-            emailTemplate = new EmailTemplate("default",subject, body);
+            emailTemplate = new EmailTemplate(DEFAULT_TEMPLATE,subject, body);
         } else {
             emailTemplate.setSubject(subject);
             emailTemplate.setBody(body);
         }
         emailTemplateRepository.save(emailTemplate);
+        compiledTemplate = new CompiledEmailTemplate(emailTemplate);
         return "Email template updated successfully";
     }
 }
@@ -0,0 +1,63 @@
+package droneportTeam05.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import droneportTeam05.domain.zones.Zone;
+
+/**
+ * Read-only slice of zones that also carries each zone's JSON, so a response can be written by copying
+ * bytes instead of serializing the zones again.
+ */
+public final class SerializedZones extends AbstractList<Zone> implements RandomAccess {
+
+    private static final byte[] OPEN = {'['};
+    private static final byte[] SEPARATOR = {','};
+    private static final byte[] CLOSE = {']'};
+
+    private final Zone[] zones;
+    private final byte[][] payloads;
+    private final int from;
+    private final int to;
+
+    SerializedZones(Zone[] zones, byte[][] payloads, int from, int to) {
+        this.zones = zones;
+        this.payloads = payloads;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public Zone get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return zones[from + index];
+    }
+
+    @Override
+    public int size() {
+        return to - from;
+    }
+
+    public long contentLength() {
+        long length = 2 + Math.max(0, size() - 1);
+        for (int i = from; i < to; i++) {
+            length += payloads[i].length;
+        }
+        return length;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(OPEN);
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                out.write(SEPARATOR);
+            }
+            out.write(payloads[i]);
+        }
+        out.write(CLOSE);
+    }
+}
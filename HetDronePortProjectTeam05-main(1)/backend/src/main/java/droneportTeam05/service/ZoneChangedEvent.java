@@ -0,0 +1,15 @@
+package droneportTeam05.service;
+
+/**
+ * Published by {@link ZoneService} after a zone was created, updated or deleted. An import publishes a
+ * single IMPORTED event without a zone id or name.
+ */
+public record ZoneChangedEvent(ChangeType type, Long zoneId, String zoneName) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        IMPORTED,
+    }
+}
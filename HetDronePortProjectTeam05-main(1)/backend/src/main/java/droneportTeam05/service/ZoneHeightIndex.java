@@ -0,0 +1,103 @@
+package droneportTeam05.service;
+
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import droneportTeam05.domain.zones.Zone;
+
+/**
+ * Zones sorted by maxHeight with their JSON serialized up front. Threshold and range queries are two
+ * binary searches over a double[] and return a view over the shared arrays.
+ */
+final class ZoneHeightIndex {
+
+    private final double[] heights;
+    private final Zone[] zones;
+    private final byte[][] payloads;
+
+    private ZoneHeightIndex(double[] heights, Zone[] zones, byte[][] payloads) {
+        this.heights = heights;
+        this.zones = zones;
+        this.payloads = payloads;
+    }
+
+    /**
+     * @param previous index of an earlier snapshot; payloads of zones it shares with this one are reused
+     */
+    static ZoneHeightIndex build(List<Zone> zones, ObjectWriter writer, ZoneHeightIndex previous) {
+        Map<Zone, byte[]> reusable = new IdentityHashMap<>();
+        if (previous != null) {
+            for (int i = 0; i < previous.zones.length; i++) {
+                reusable.put(previous.zones[i], previous.payloads[i]);
+            }
+        }
+
+        Zone[] sorted = zones.toArray(new Zone[0]);
+        Arrays.sort(sorted, Comparator.comparingDouble(Zone::getMaxHeight));
+        double[] heights = new double[sorted.length];
+        byte[][] payloads = new byte[sorted.length][];
+        for (int i = 0; i < sorted.length; i++) {
+            heights[i] = sorted[i].getMaxHeight();
+            byte[] payload = reusable.get(sorted[i]);
+            payloads[i] = payload != null ? payload : serialize(writer, sorted[i]);
+        }
+        return new ZoneHeightIndex(heights, sorted, payloads);
+    }
+
+    SerializedZones greaterThan(double maxHeight) {
+        return new SerializedZones(zones, payloads, firstAbove(maxHeight), zones.length);
+    }
+
+    // Both bounds inclusive
+    SerializedZones between(double min, double max) {
+        int from = firstAtLeast(min);
+        return new SerializedZones(zones, payloads, from, Math.max(from, firstAbove(max)));
+    }
+
+    int size() {
+        return zones.length;
+    }
+
+    private int firstAbove(double value) {
+        int low = 0;
+        int high = heights.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (heights[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int firstAtLeast(double value) {
+        int low = 0;
+        int high = heights.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (heights[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static byte[] serialize(ObjectWriter writer, Zone zone) {
+        try {
+            return writer.writeValueAsBytes(zone);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
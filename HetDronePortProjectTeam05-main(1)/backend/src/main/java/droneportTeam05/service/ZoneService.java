@@ -1,12 +1,25 @@
 package droneportTeam05.service;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import droneportTeam05.controllers.dto.ZoneSnapshotStatistics;
 import droneportTeam05.domain.zones.Zone;
 import droneportTeam05.repository.ZoneRepository;
+import droneportTeam05.service.geometry.ZoneDetail;
+import droneportTeam05.service.validation.ValidationException;
 import droneportTeam05.util.ServiceException;
 
 @Service
@@ -14,42 +27,198 @@ public class ZoneService {
     
     @Autowired
     private final ZoneRepository zoneRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectWriter zoneWriter;
+    private final CatalogVersion catalogVersion;
+
+    // Committed zones; null until the first read. Readers never lock, writers swap in a patched copy.
+    private final AtomicReference<ZoneSnapshot> snapshot = new AtomicReference<>();
+    // Bumped by every write so a load that overlapped a write is not installed
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong rebuilds = new AtomicLong();
+    private final AtomicLong patches = new AtomicLong();
+    // Held by writers across the save and the patch, so patches land in commit order; readers never take it
+    private final Object writeLock = new Object();
     
-    public ZoneService(ZoneRepository zoneRepository) {
+    public ZoneService(ZoneRepository zoneRepository, ApplicationEventPublisher eventPublisher,
+                       ObjectMapper objectMapper, CatalogVersion catalogVersion) {
         this.zoneRepository = zoneRepository;
+        this.eventPublisher = eventPublisher;
+        this.zoneWriter = objectMapper.writerFor(Zone.class);
+        this.catalogVersion = catalogVersion;
     }
 
     public List<Zone> getAllZones() {
-        return zoneRepository.findAll();
+        return getAllZones(0);
+    }
+
+    /**
+     * @param tolerance simplification error allowed in meters, 0 for the stored outlines
+     */
+    public List<Zone> getAllZones(double tolerance) {
+        int level = ZoneDetail.level(tolerance);
+        if (inTransaction()) {
+            return ZoneDetail.simplify(zoneRepository.findAll(), level);
+        }
+        return snapshot().getZones(level);
+    }
+
+    public Zone getZone(String name) throws ServiceException {
+        Zone zone = zoneRepository.findByName(name);
+        if (zone == null) {
+            throw new ServiceException("Zone", "Zone does not exist");
+        }
+        return zone;
     }
 
     public Zone createZone(Zone zone) {
-        return zoneRepository.save(zone);
+        Zone saved;
+        synchronized (writeLock) {
+            saved = zoneRepository.save(zone);
+            patchSnapshot(current -> current.withSaved(saved));
+        }
+        publish(ZoneChangedEvent.ChangeType.CREATED, saved);
+        return saved;
     }
 
     public Zone updateZone(String name, Zone zone) throws ServiceException {
-        Zone existingZone = zoneRepository.findByName(name);
-        if (existingZone == null) {
-            throw new ServiceException("Zone", "Zone does not exist");
+        Zone saved;
+        synchronized (writeLock) {
+            Zone existingZone = zoneRepository.findByName(name);
+            if (existingZone == null) {
+                throw new ServiceException("Zone", "Zone does not exist");
+            }
+            existingZone.setMaxHeight(zone.getMaxHeight());
+            existingZone.setName(zone.getName());
+            existingZone.setMaxHeight(zone.getMaxHeight());
+            existingZone.setPath(zone.getPath());
+            saved = zoneRepository.save(existingZone);
+            patchSnapshot(current -> current.withSaved(saved));
         }
-        existingZone.setMaxHeight(zone.getMaxHeight());
-        existingZone.setName(zone.getName());
-        existingZone.setMaxHeight(zone.getMaxHeight());
-        existingZone.setPath(zone.getPath());
-        return zoneRepository.save(existingZone);
+        publish(ZoneChangedEvent.ChangeType.UPDATED, saved);
+        return saved;
     }
 
     public String deleteZone(String name) throws ServiceException {
-        Zone zone = zoneRepository.findByName(name);
-        if (zone == null) {
-            throw new ServiceException("Zone", "Zone does not exist");
+        Zone zone;
+        synchronized (writeLock) {
+            zone = zoneRepository.findByName(name);
+            if (zone == null) {
+                throw new ServiceException("Zone", "Zone does not exist");
+            }
+            zoneRepository.delete(zone);
+            patchSnapshot(current -> current.without(zone));
         }
-        zoneRepository.delete(zone);
+        publish(ZoneChangedEvent.ChangeType.DELETED, zone);
         return "Zone deleted successfully";
     }
 
     public List<Zone> getZonesGreaterThanMaxHeight(double maxHeight) {
-        return zoneRepository.findByMaxHeightGreaterThan(maxHeight);
+        return getZonesGreaterThanMaxHeight(maxHeight, 0);
+    }
+
+    public List<Zone> getZonesGreaterThanMaxHeight(double maxHeight, double tolerance) {
+        int level = ZoneDetail.level(tolerance);
+        if (inTransaction()) {
+            return ZoneDetail.simplify(zoneRepository.findByMaxHeightGreaterThan(maxHeight), level);
+        }
+        return snapshot().heightIndex(zoneWriter, level).greaterThan(maxHeight);
+    }
+
+    public List<Zone> getZonesWithMaxHeightBetween(double min, double max) {
+        return getZonesWithMaxHeightBetween(min, max, 0);
+    }
+
+    public List<Zone> getZonesWithMaxHeightBetween(double min, double max, double tolerance) {
+        if (min > max) {
+            throw new ValidationException("Minimum height must not exceed the maximum height");
+        }
+        int level = ZoneDetail.level(tolerance);
+        if (inTransaction()) {
+            return ZoneDetail.simplify(zoneRepository.findByMaxHeightBetween(min, max), level);
+        }
+        return snapshot().heightIndex(zoneWriter, level).between(min, max);
+    }
+
+    public ZoneSnapshotStatistics getSnapshotStatistics() {
+        ZoneSnapshot current = snapshot.get();
+        if (current == null) {
+            return new ZoneSnapshotStatistics(false, 0, 0, 0, rebuilds.get(), patches.get());
+        }
+        return new ZoneSnapshotStatistics(true, current.getZones().size(), current.getAgeMillis(),
+                current.getRebuildDurationMicros(), rebuilds.get(), patches.get());
+    }
+
+    /**
+     * Drops the snapshot so the next read reloads it, for writes that bypass this service.
+     */
+    public void invalidateSnapshot() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+        catalogVersion.bump();
+    }
+
+    /**
+     * Refreshes the snapshot and notifies listeners once an import has written zones directly.
+     */
+    public void zonesImported() {
+        if (inTransaction()) {
+            invalidateAfterCommit();
+        } else {
+            invalidateSnapshot();
+        }
+        eventPublisher.publishEvent(new ZoneChangedEvent(ZoneChangedEvent.ChangeType.IMPORTED, null, null));
+    }
+
+    ZoneSnapshot snapshot() {
+        while (true) {
+            ZoneSnapshot current = snapshot.get();
+            if (current != null) {
+                return current;
+            }
+            long loadGeneration = generation.get();
+            long startTime = System.nanoTime();
+            List<Zone> zones = zoneRepository.findAllWithPath();
+            ZoneSnapshot loaded = ZoneSnapshot.of(zones,
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
+            if (generation.get() == loadGeneration && snapshot.compareAndSet(null, loaded)) {
+                rebuilds.incrementAndGet();
+                return loaded;
+            }
+        }
+    }
+
+    private void patchSnapshot(UnaryOperator<ZoneSnapshot> patch) {
+        if (inTransaction()) {
+            invalidateAfterCommit();
+            return;
+        }
+        generation.incrementAndGet();
+        if (snapshot.updateAndGet(current -> current == null ? null : patch.apply(current)) != null) {
+            patches.incrementAndGet();
+        }
+        catalogVersion.bump();
+    }
+
+    // The change only becomes visible to other readers once the caller's transaction commits
+    private void invalidateAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidateSnapshot();
+            }
+        });
+    }
+
+    // Inside a caller's transaction the snapshot would hide its own uncommitted writes
+    private static boolean inTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    private void publish(ZoneChangedEvent.ChangeType type, Zone zone) {
+        if (zone != null) {
+            eventPublisher.publishEvent(new ZoneChangedEvent(type, zone.getId(), zone.getName()));
+        }
     }
 
 }
@@ -0,0 +1,148 @@
+package droneportTeam05.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import droneportTeam05.domain.zones.Point;
+import droneportTeam05.domain.zones.Zone;
+import droneportTeam05.service.geometry.ZoneDetail;
+
+/**
+ * Immutable view of all committed zones. The zones are detached copies, so serializing them never goes
+ * back to the database; writes produce a new snapshot instead of changing this one. Each zone is also kept
+ * at every {@link ZoneDetail} level, simplified when it enters the snapshot.
+ */
+public final class ZoneSnapshot {
+
+    // One list per ZoneDetail level, index-aligned; level 0 holds the copies themselves
+    private final List<List<Zone>> levels;
+    private final long createdAtNanos;
+    private final long rebuildDurationMicros;
+
+    // Built on first use per level; those of the snapshot this one was patched from seed their payloads
+    private final AtomicReferenceArray<ZoneHeightIndex> heightIndexes;
+    private final AtomicReferenceArray<ZoneHeightIndex> previousHeightIndexes;
+
+    private ZoneSnapshot(List<List<Zone>> levels, long createdAtNanos, long rebuildDurationMicros,
+                         AtomicReferenceArray<ZoneHeightIndex> previousHeightIndexes) {
+        List<List<Zone>> unmodifiable = new ArrayList<>(levels.size());
+        for (List<Zone> level : levels) {
+            unmodifiable.add(Collections.unmodifiableList(level));
+        }
+        this.levels = unmodifiable;
+        this.createdAtNanos = createdAtNanos;
+        this.rebuildDurationMicros = rebuildDurationMicros;
+        this.heightIndexes = new AtomicReferenceArray<>(levels.size());
+        this.previousHeightIndexes = previousHeightIndexes != null
+                ? previousHeightIndexes : new AtomicReferenceArray<>(levels.size());
+    }
+
+    static ZoneSnapshot of(List<Zone> zones, long rebuildDurationMicros) {
+        List<List<Zone>> levels = emptyLevels(zones.size());
+        for (Zone zone : zones) {
+            addDetail(levels, copy(zone));
+        }
+        return new ZoneSnapshot(levels, System.nanoTime(), rebuildDurationMicros, null);
+    }
+
+    // The simplified outlines of the saved zone are computed here, once; other zones keep theirs
+    ZoneSnapshot withSaved(Zone zone) {
+        List<Zone> zones = getZones();
+        List<List<Zone>> patched = emptyLevels(zones.size() + 1);
+        boolean replaced = false;
+        for (int i = 0; i < zones.size(); i++) {
+            if (Objects.equals(zones.get(i).getId(), zone.getId())) {
+                addDetail(patched, copy(zone));
+                replaced = true;
+            } else {
+                addExisting(patched, i);
+            }
+        }
+        if (!replaced) {
+            addDetail(patched, copy(zone));
+        }
+        return new ZoneSnapshot(patched, System.nanoTime(), rebuildDurationMicros, seed());
+    }
+
+    ZoneSnapshot without(Zone zone) {
+        List<Zone> zones = getZones();
+        List<List<Zone>> patched = emptyLevels(zones.size());
+        for (int i = 0; i < zones.size(); i++) {
+            if (!Objects.equals(zones.get(i).getId(), zone.getId())) {
+                addExisting(patched, i);
+            }
+        }
+        return new ZoneSnapshot(patched, System.nanoTime(), rebuildDurationMicros, seed());
+    }
+
+    // Two threads may both build an index; they produce equal results and one of them is kept
+    ZoneHeightIndex heightIndex(ObjectWriter writer, int level) {
+        ZoneHeightIndex index = heightIndexes.get(level);
+        if (index == null) {
+            index = ZoneHeightIndex.build(levels.get(level), writer, previousHeightIndexes.get(level));
+            heightIndexes.set(level, index);
+            previousHeightIndexes.set(level, null);
+        }
+        return index;
+    }
+
+    private AtomicReferenceArray<ZoneHeightIndex> seed() {
+        AtomicReferenceArray<ZoneHeightIndex> seed = new AtomicReferenceArray<>(levels.size());
+        for (int level = 0; level < levels.size(); level++) {
+            ZoneHeightIndex index = heightIndexes.get(level);
+            seed.set(level, index != null ? index : previousHeightIndexes.get(level));
+        }
+        return seed;
+    }
+
+    private static List<List<Zone>> emptyLevels(int capacity) {
+        List<List<Zone>> levels = new ArrayList<>(ZoneDetail.levels());
+        for (int level = 0; level < ZoneDetail.levels(); level++) {
+            levels.add(new ArrayList<>(capacity));
+        }
+        return levels;
+    }
+
+    private static void addDetail(List<List<Zone>> levels, Zone zone) {
+        for (int level = 0; level < levels.size(); level++) {
+            levels.get(level).add(ZoneDetail.simplify(zone, level));
+        }
+    }
+
+    private void addExisting(List<List<Zone>> patched, int index) {
+        for (int level = 0; level < patched.size(); level++) {
+            patched.get(level).add(levels.get(level).get(index));
+        }
+    }
+
+    public List<Zone> getZones() {
+        return levels.get(0);
+    }
+
+    public List<Zone> getZones(int level) {
+        return levels.get(level);
+    }
+
+    public long getAgeMillis() {
+        return (System.nanoTime() - createdAtNanos) / 1_000_000;
+    }
+
+    public long getRebuildDurationMicros() {
+        return rebuildDurationMicros;
+    }
+
+    private static Zone copy(Zone zone) {
+        List<Point> path = new ArrayList<>(zone.getPath().size());
+        for (Point point : zone.getPath()) {
+            path.add(new Point(point.getLat(), point.getLng()));
+        }
+        Zone copy = new Zone(zone.getName(), path, zone.getMaxHeight());
+        copy.setId(zone.getId());
+        return copy;
+    }
+}
@@ -9,8 +9,8 @@ public class AdjacentVolumeService {
 
     public AdjacentVolume calculateAdjacentVolume(double maxOperationalSpeed, double minVerticalDimension)
     {
-        double adjacentVolumeLateral = 120 * maxOperationalSpeed;
-        double adjacentVolumeVertical = minVerticalDimension + 150;
+        double adjacentVolumeLateral = OperationKernel.adjacentLateral(maxOperationalSpeed);
+        double adjacentVolumeVertical = OperationKernel.adjacentVertical(minVerticalDimension);
         return new AdjacentVolume(adjacentVolumeLateral, adjacentVolumeVertical);
     }
     
@@ -8,8 +8,8 @@ import droneportTeam05.domain.geography.FlightGeography;
 public class FlightGeographyService {
 
     public FlightGeography calculateMinFlightDimensions(double flightHeight, double maxCharacteristicDimension) {
-        double minHeight = maxCharacteristicDimension *3;
-        double minWidth = maxCharacteristicDimension *3;
+        double minHeight = OperationKernel.minFlightDimension(maxCharacteristicDimension);
+        double minWidth = OperationKernel.minFlightDimension(maxCharacteristicDimension);
         return new FlightGeography(flightHeight, minHeight, minWidth);
     }
     
@@ -0,0 +1,118 @@
+package droneportTeam05.service.calculation;
+
+import java.util.function.DoubleUnaryOperator;
+
+import droneportTeam05.domain.operation.OperationInputs;
+import droneportTeam05.domain.operation.OperationVolumes;
+import droneportTeam05.domain.volume.ContingencyManoeuvre;
+
+/**
+ * Inverts the {@link OperationKernel} formulas. Every dimension grows monotonically with the flight height
+ * and the speed, so each limit is the largest value that keeps a dimension within its bound. The vertical
+ * dimension and the lateral extension are at most quadratic and are solved in closed form; anything that
+ * includes the ground risk buffer is bisected.
+ */
+public final class InverseKernel {
+
+    private static final int MAX_BISECTION_STEPS = 200;
+    private static final double MAX_SEARCH_VALUE = 1e9;
+
+    private InverseKernel() {
+    }
+
+    // HCV = h + hbaro + hrz + hcm, where only h is unknown
+    public static double maxHeightForCeiling(OperationInputs inputs, double ceiling, boolean includeAdjacentVolume) {
+        double v0 = inputs.maxOperationalSpeed();
+        double hrz = OperationKernel.responseHeight(v0, inputs.responseTime());
+        double hcm = OperationKernel.verticalManoeuvre(inputs.verticalManoeuvre(), v0, inputs.verticalTimeToOpenParachute());
+        return ceiling - verticalMargin(includeAdjacentVolume) - inputs.altitudeMeasurementError() - hrz - hcm;
+    }
+
+    // HCV = h + hbaro + 0.7*rt*V0 + hcm(V0), with hcm quadratic or linear in V0
+    public static double maxSpeedForCeiling(OperationInputs inputs, double ceiling, boolean includeAdjacentVolume) {
+        double quadratic = 0;
+        double linear = 0.7 * inputs.responseTime();
+        switch (inputs.verticalManoeuvre()) {
+            case ENERGY_CONVERSION -> quadratic = 0.5 / OperationKernel.G;
+            case CIRCULAR_PATH -> quadratic = 0.3 / OperationKernel.G;
+            case PARACHUTE_TERMINATION -> linear += 0.7 * inputs.verticalTimeToOpenParachute();
+            default -> throw new IllegalStateException("Unknown contingency manoeuvre: " + inputs.verticalManoeuvre());
+        }
+        double remaining = ceiling - verticalMargin(includeAdjacentVolume) - inputs.heightFlightGeo()
+                - inputs.altitudeMeasurementError();
+        return largestRoot(quadratic, linear, remaining);
+    }
+
+    // SCV = gps + pos + map + rt*V0 + scm(V0), with scm quadratic or linear in V0
+    public static double maxSpeedForLateralBudget(OperationInputs inputs, double budget) {
+        double quadratic = 0;
+        double linear = inputs.responseTime();
+        ContingencyManoeuvre manoeuvre = inputs.lateralManoeuvre();
+        switch (manoeuvre) {
+            case STOPPING -> quadratic = 1 / (2 * OperationKernel.G * Math.tan(Math.toRadians(inputs.pitchAngle())));
+            case TURN_180 -> quadratic = 1 / (OperationKernel.G * Math.tan(Math.toRadians(inputs.rollAngle())));
+            case PARACHUTE_TERMINATION -> linear += inputs.lateralTimeToOpenParachute();
+            default -> throw new IllegalStateException("Unknown contingency manoeuvre: " + manoeuvre);
+        }
+        double remaining = budget - inputs.gpsInaccuracy() - inputs.positionHoldingError() - inputs.mapError();
+        return largestRoot(quadratic, linear, remaining);
+    }
+
+    public static double maxHeightForLateralBudgetWithGroundRisk(OperationInputs inputs, double budget, double minHeight) {
+        return largestWithin(height -> lateralWithGroundRisk(inputs.withHeightFlightGeo(height)), budget, minHeight);
+    }
+
+    public static double maxSpeedForLateralBudgetWithGroundRisk(OperationInputs inputs, double budget) {
+        return largestWithin(speed -> lateralWithGroundRisk(inputs.withMaxOperationalSpeed(speed)), budget, 0);
+    }
+
+    public static double lateralWithGroundRisk(OperationInputs inputs) {
+        OperationVolumes volumes = OperationKernel.calculate(inputs);
+        return volumes.lateralExtension() + volumes.groundRiskBuffer();
+    }
+
+    // Largest x >= 0 with a*x² + b*x <= c, for a, b >= 0. Negative when no such x exists.
+    static double largestRoot(double a, double b, double c) {
+        if (c < 0) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        if (a == 0) {
+            return b == 0 ? Double.POSITIVE_INFINITY : c / b;
+        }
+        // Citardauq form avoids cancellation when b² dominates 4ac
+        double discriminant = Math.sqrt(b * b + 4 * a * c);
+        return 2 * c / (b + discriminant);
+    }
+
+    // Largest x >= lower with f(x) <= bound for a non-decreasing f. Negative infinity when even f(lower)
+    // exceeds the bound, positive infinity when f stays within it everywhere.
+    static double largestWithin(DoubleUnaryOperator f, double bound, double lower) {
+        if (f.applyAsDouble(lower) > bound) {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        double low = lower;
+        double high = Math.max(2 * lower, 1);
+        while (f.applyAsDouble(high) <= bound) {
+            low = high;
+            high *= 2;
+            if (high > MAX_SEARCH_VALUE) {
+                return Double.POSITIVE_INFINITY;
+            }
+        }
+
+        for (int i = 0; i < MAX_BISECTION_STEPS && high - low > Math.ulp(high); i++) {
+            double mid = low + (high - low) / 2;
+            if (f.applyAsDouble(mid) <= bound) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static double verticalMargin(boolean includeAdjacentVolume) {
+        return includeAdjacentVolume ? OperationKernel.adjacentVertical(0) : 0;
+    }
+}
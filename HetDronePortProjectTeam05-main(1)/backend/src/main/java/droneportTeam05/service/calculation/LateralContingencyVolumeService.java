@@ -16,16 +16,12 @@ public class LateralContingencyVolumeService {
         double sgps = uav.getGpsInaccuracy();
         double spos = uav.getPositionHoldingError();
         double sk = uav.getMapError();
-        double srz = calculateReactionDistance(uav);
+        double srz = OperationKernel.reactionDistance(uav.getMaxOperationalSpeed(), uav.getResponseTime());
         double scm = contingencyManoeuvreService.calculateLateralContingencyManoeuvre(uav, lateralCV);
         
-        double totalExtension = sgps + spos + sk + srz + scm;
+        double totalExtension = OperationKernel.lateralExtension(sgps, spos, sk, srz, scm);
         lateralCV.setLateralExtension(totalExtension);
         
         return lateralCV;
     }
-    
-    private double calculateReactionDistance(UAV uav) {
-        return uav.getMaxOperationalSpeed() * uav.getResponseTime();
-    }
-}
\ No newline at end of file
+}
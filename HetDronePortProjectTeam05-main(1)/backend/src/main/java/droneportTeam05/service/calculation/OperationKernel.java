@@ -0,0 +1,150 @@
+package droneportTeam05.service.calculation;
+
+import droneportTeam05.domain.aircraft.UAVType;
+import droneportTeam05.domain.operation.OperationInputs;
+import droneportTeam05.domain.operation.OperationVolumes;
+import droneportTeam05.domain.risk.TerminationType;
+import droneportTeam05.domain.volume.ContingencyManoeuvre;
+
+/**
+ * Side-effect free formulas behind the calculation services. Every method works on primitives and
+ * allocates nothing, except {@link #calculate(OperationInputs)} which allocates its result only.
+ */
+public final class OperationKernel {
+
+    public static final double G = 9.81;
+
+    private static final double ADJACENT_LATERAL_SECONDS = 120;
+    private static final double ADJACENT_VERTICAL_MARGIN = 150;
+    private static final double MIN_FLIGHT_DIMENSION_FACTOR = 3;
+
+    private OperationKernel() {
+    }
+
+    public static OperationVolumes calculate(OperationInputs inputs) {
+        double v0 = inputs.maxOperationalSpeed();
+        double cd = inputs.maxCharacteristicDimension();
+
+        double scm = lateralManoeuvre(inputs.lateralManoeuvre(), v0, inputs.pitchAngle(), inputs.rollAngle(),
+                inputs.lateralTimeToOpenParachute());
+        double lateralExtension = lateralExtension(inputs.gpsInaccuracy(), inputs.positionHoldingError(),
+                inputs.mapError(), reactionDistance(v0, inputs.responseTime()), scm);
+
+        double hrz = responseHeight(v0, inputs.responseTime());
+        double hcm = verticalManoeuvre(inputs.verticalManoeuvre(), v0, inputs.verticalTimeToOpenParachute());
+        double hcv = minVerticalDimension(inputs.heightFlightGeo(), inputs.altitudeMeasurementError(), hrz, hcm);
+
+        double verticalParachuteTime = inputs.lateralTimeToOpenParachute() != 0
+                ? inputs.lateralTimeToOpenParachute()
+                : inputs.verticalTimeToOpenParachute();
+        double grbParachuteTime = parachuteTime(inputs.lateralTimeToOpenParachute(),
+                inputs.verticalTimeToOpenParachute(), inputs.grbTimeToOpenParachute());
+        double sgrb = groundRiskBuffer(inputs.termination(), inputs.uavType(), v0, cd, hcv, grbParachuteTime,
+                inputs.maxPermissibleWindSpeed(), inputs.rateOfDescent(), inputs.glideRatio());
+
+        double minFlightDimension = minFlightDimension(cd);
+
+        return new OperationVolumes(lateralExtension, hrz, hcm, hcv, verticalParachuteTime, grbParachuteTime, sgrb,
+                inputs.heightFlightGeo(), minFlightDimension, minFlightDimension,
+                adjacentLateral(v0), adjacentVertical(hcv));
+    }
+
+    public static double lateralManoeuvre(ContingencyManoeuvre manoeuvre, double v0, double pitchAngle,
+                                          double rollAngle, double timeToOpenParachute) {
+        return switch (manoeuvre) {
+            // For multirotors: SCM = V0²/(2g*tan(pitch))
+            case STOPPING -> (v0 * v0) / (2 * G * Math.tan(Math.toRadians(pitchAngle)));
+            // For fixed-wing: SCM = V0²/(g*tan(roll))
+            case TURN_180 -> (v0 * v0) / (G * Math.tan(Math.toRadians(rollAngle)));
+            // SCM = V0 * t
+            case PARACHUTE_TERMINATION -> v0 * timeToOpenParachute;
+            default -> throw new IllegalStateException("Unknown contingency manoeuvre: " + manoeuvre);
+        };
+    }
+
+    public static double verticalManoeuvre(ContingencyManoeuvre manoeuvre, double v0, double timeToOpenParachute) {
+        return switch (manoeuvre) {
+            // Convert forward kinetic energy to potential energy
+            case ENERGY_CONVERSION -> 0.5 * (v0 * v0) / G;
+            // HCM = V0²/g * 0.3
+            case CIRCULAR_PATH -> (v0 * v0) / G * 0.3;
+            // Exit FG with 45° pitch angle
+            case PARACHUTE_TERMINATION -> v0 * timeToOpenParachute * 0.7;
+            default -> throw new IllegalStateException("Unknown contingency manoeuvre: " + manoeuvre);
+        };
+    }
+
+    public static double reactionDistance(double v0, double responseTime) {
+        return v0 * responseTime;
+    }
+
+    public static double lateralExtension(double gpsInaccuracy, double positionHoldingError, double mapError,
+                                          double reactionDistance, double contingencyManoeuvre) {
+        return gpsInaccuracy + positionHoldingError + mapError + reactionDistance + contingencyManoeuvre;
+    }
+
+    public static double responseHeight(double v0, double responseTime) {
+        return v0 * 0.7 * responseTime;
+    }
+
+    public static double minVerticalDimension(double flightHeight, double altitudeMeasurementError,
+                                              double responseHeight, double contingencyManoeuvreHeight) {
+        return flightHeight + altitudeMeasurementError + responseHeight + contingencyManoeuvreHeight;
+    }
+
+    // The lateral CV parachute time wins over the vertical one, which wins over the GRB's own value
+    public static double parachuteTime(double lateralTime, double verticalTime, double grbTime) {
+        if (lateralTime != 0) {
+            return lateralTime;
+        }
+        return verticalTime != 0 ? verticalTime : grbTime;
+    }
+
+    public static double groundRiskBuffer(TerminationType termination, UAVType type, double v0, double cd,
+                                          double minVerticalDimension, double timeToOpenParachute,
+                                          double maxPermissibleWindSpeed, double rateOfDescent, double glideRatio) {
+        return switch (termination) {
+            case BALLISTIC_APPROACH -> ballisticGroundRiskBuffer(type, v0, cd, minVerticalDimension);
+            case PARACHUTE -> parachuteGroundRiskBuffer(v0, minVerticalDimension, timeToOpenParachute,
+                    maxPermissibleWindSpeed, rateOfDescent);
+            case OFF_GLIDING -> glidingGroundRiskBuffer(minVerticalDimension, glideRatio);
+            case OFF_NO_GLIDING, SIMPLIFIED_APPROACH -> simplifiedGroundRiskBuffer(cd, minVerticalDimension);
+        };
+    }
+
+    public static double ballisticGroundRiskBuffer(UAVType type, double v0, double cd, double minVerticalDimension) {
+        if (type != UAVType.MULTIROTOR && type != UAVType.ROTORCRAFT) {
+            throw new IllegalArgumentException("Ballistic approach only allowed for multirotors and rotorcrafts");
+        }
+        return v0 * Math.sqrt(2 * minVerticalDimension / G) + 0.5 * cd;
+    }
+
+    public static double parachuteGroundRiskBuffer(double v0, double minVerticalDimension, double timeToOpenParachute,
+                                                   double maxPermissibleWindSpeed, double rateOfDescent) {
+        if (maxPermissibleWindSpeed < 3) {
+            throw new IllegalArgumentException("Wind speed below 3 m/s not considered realistic for parachute calculation");
+        }
+        return v0 * timeToOpenParachute + maxPermissibleWindSpeed * (minVerticalDimension / rateOfDescent);
+    }
+
+    public static double glidingGroundRiskBuffer(double minVerticalDimension, double glideRatio) {
+        double epsilon = 1.0 / glideRatio;
+        return minVerticalDimension / epsilon;
+    }
+
+    public static double simplifiedGroundRiskBuffer(double cd, double minVerticalDimension) {
+        return minVerticalDimension + 0.5 * cd;
+    }
+
+    public static double minFlightDimension(double maxCharacteristicDimension) {
+        return maxCharacteristicDimension * MIN_FLIGHT_DIMENSION_FACTOR;
+    }
+
+    public static double adjacentLateral(double maxOperationalSpeed) {
+        return ADJACENT_LATERAL_SECONDS * maxOperationalSpeed;
+    }
+
+    public static double adjacentVertical(double minVerticalDimension) {
+        return minVerticalDimension + ADJACENT_VERTICAL_MARGIN;
+    }
+}
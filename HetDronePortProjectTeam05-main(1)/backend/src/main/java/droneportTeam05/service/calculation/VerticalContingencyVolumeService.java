@@ -15,18 +15,14 @@ public class VerticalContingencyVolumeService {
     public VerticalContingencyVolume calculateVerticalContingencyVolume(UAV uav, VerticalContingencyVolume verticalCV, double flightHeight) {
         double hfg = flightHeight;
         double hbaro = uav.getAltitudeMeasurementError();
-        double hrz = calculateResponseHeight(uav);
+        double hrz = OperationKernel.responseHeight(uav.getMaxOperationalSpeed(), uav.getResponseTime());
         double hcm = contingencyManoeuvreService.calculateVerticalContingencyManoeuvre(uav, verticalCV);
         
         verticalCV.setHeightContingencyManoeuvre(hcm);
-        double totalExtension = hfg + hbaro + hrz + hcm;
+        double totalExtension = OperationKernel.minVerticalDimension(hfg, hbaro, hrz, hcm);
         verticalCV.setMinVerticalDimension(totalExtension);
         verticalCV.setResponseHeight(hrz);
         
         return verticalCV;
     }
-    
-    private double calculateResponseHeight(UAV uav) {
-        return uav.getMaxOperationalSpeed() * 0.7 * uav.getResponseTime();
-    }
 }
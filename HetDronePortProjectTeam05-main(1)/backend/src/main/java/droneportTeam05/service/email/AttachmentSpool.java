@@ -0,0 +1,107 @@
+package droneportTeam05.service.email;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import droneportTeam05.domain.MailAttachment;
+import droneportTeam05.service.metrics.DroneportMetrics;
+import droneportTeam05.service.validation.ValidationException;
+
+/**
+ * Copies uploaded attachments into spool files so a queued message can be sent after the request is gone.
+ * Uploads are copied stream to stream and sent from the file the same way, so no attachment is ever held on
+ * the heap whatever its size. The spool directory must survive restarts for as long as the outbox table does,
+ * so it has no default and is set in application.properties.
+ */
+@Service
+public class AttachmentSpool {
+
+    private final Path directory;
+    private final long maxFileSize;
+    private final long maxTotalSize;
+
+    public AttachmentSpool(@Value("${droneport.mail.spool-dir}") String directory,
+                           @Value("${droneport.mail.attachments.max-file-size:25MB}") DataSize maxFileSize,
+                           @Value("${droneport.mail.attachments.max-total-size:50MB}") DataSize maxTotalSize) {
+        this.directory = Paths.get(directory);
+        this.maxFileSize = maxFileSize.toBytes();
+        this.maxTotalSize = maxTotalSize.toBytes();
+    }
+
+    /**
+     * Spools the non-empty files, checking the limits before anything is written. On failure the files
+     * spooled so far are removed again.
+     */
+    public List<MailAttachment> spool(List<MultipartFile> files) throws IOException {
+        List<MultipartFile> accepted = new ArrayList<>();
+        long total = 0;
+        if (files != null) {
+            for (MultipartFile file : files) {
+                if (file == null || file.isEmpty() || file.getOriginalFilename() == null) {
+                    continue;
+                }
+                if (file.getSize() > maxFileSize) {
+                    throw new ValidationException("Attachment " + file.getOriginalFilename()
+                            + " exceeds the maximum size of " + maxFileSize + " bytes");
+                }
+                total += file.getSize();
+                if (total > maxTotalSize) {
+                    throw new ValidationException("Attachments exceed the maximum total size of "
+                            + maxTotalSize + " bytes");
+                }
+                accepted.add(file);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return List.of();
+        }
+
+        Files.createDirectories(directory);
+        List<MailAttachment> attachments = new ArrayList<>(accepted.size());
+        try {
+            for (MultipartFile file : accepted) {
+                Path path = Files.createTempFile(directory, "attachment-", ".bin");
+                attachments.add(new MailAttachment(file.getOriginalFilename(), file.getContentType(),
+                        path.toString(), file.getSize()));
+                // Streams to disk; for uploads already on disk the servlet container may just move the file
+                file.transferTo(path);
+            }
+        } catch (IOException | RuntimeException e) {
+            delete(attachments);
+            throw e;
+        }
+        return attachments;
+    }
+
+    /**
+     * Returns the first attachment whose spool file is gone, or null when all of them are still there.
+     */
+    public MailAttachment findMissing(List<MailAttachment> attachments) {
+        for (MailAttachment attachment : attachments) {
+            if (!Files.isRegularFile(Paths.get(attachment.getPath()))) {
+                return attachment;
+            }
+        }
+        return null;
+    }
+
+    // Best effort: a file that cannot be removed is counted and left behind rather than failing the caller
+    public void delete(List<MailAttachment> attachments) {
+        for (MailAttachment attachment : attachments) {
+            try {
+                Files.deleteIfExists(Paths.get(attachment.getPath()));
+            } catch (IOException e) {
+                DroneportMetrics.countError("mail_spool", e);
+            }
+        }
+    }
+}
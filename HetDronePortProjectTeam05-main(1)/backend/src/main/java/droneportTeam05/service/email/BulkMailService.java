@@ -0,0 +1,171 @@
+package droneportTeam05.service.email;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import droneportTeam05.controllers.dto.BulkMailRecipient;
+import droneportTeam05.controllers.dto.BulkMailRequest;
+import droneportTeam05.controllers.dto.BulkMailResult;
+import droneportTeam05.controllers.dto.RecipientOutcome;
+import droneportTeam05.domain.MailStatus;
+import droneportTeam05.service.EmailTemplateService;
+import droneportTeam05.service.validation.ValidationException;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Sends one rendered message per recipient. Recipients are split into chunks and each chunk goes out over a
+ * single SMTP connection, with at most {@code concurrency} connections open across all bulk sends and an
+ * optional limit on messages per second.
+ */
+@Service
+public class BulkMailService {
+
+    private final MailSenderService mailSenderService;
+    private final EmailTemplateService emailTemplateService;
+    private final int maxRecipients;
+    private final int chunkSize;
+    private final long nanosPerMessage;
+    private final ThreadPoolExecutor executor;
+    private long nextSendNanos;
+
+    public BulkMailService(MailSenderService mailSenderService,
+                           EmailTemplateService emailTemplateService,
+                           @Value("${droneport.mail.bulk.max-recipients:1000}") int maxRecipients,
+                           @Value("${droneport.mail.bulk.concurrency:4}") int concurrency,
+                           @Value("${droneport.mail.bulk.chunk-size:25}") int chunkSize,
+                           @Value("${droneport.mail.bulk.rate-per-second:0}") double ratePerSecond) {
+        this.mailSenderService = mailSenderService;
+        this.emailTemplateService = emailTemplateService;
+        this.maxRecipients = maxRecipients;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.nanosPerMessage = ratePerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond) : 0;
+        int threads = Math.max(1, concurrency);
+        // Each thread holds at most one SMTP connection. The queue is unbounded, but a send never queues more
+        // than maxRecipients / chunkSize chunks
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new BulkMailThreadFactory());
+    }
+
+    public BulkMailResult send(BulkMailRequest request) {
+        List<BulkMailRecipient> recipients = request == null ? null : request.getRecipients();
+        if (recipients == null || recipients.isEmpty()) {
+            throw new ValidationException("At least one recipient is required");
+        }
+        if (recipients.size() > maxRecipients) {
+            throw new ValidationException("Number of recipients exceeds maximum of " + maxRecipients);
+        }
+        CompiledTemplate subject;
+        CompiledTemplate body;
+        if (request.getSubject() == null && request.getBody() == null) {
+            CompiledEmailTemplate template = emailTemplateService.getCompiledTemplate();
+            if (template == null) {
+                throw new ValidationException("No email template has been set");
+            }
+            subject = template.getSubject();
+            body = template.getBody();
+        } else {
+            subject = CompiledTemplate.compile(request.getSubject());
+            body = CompiledTemplate.compile(request.getBody());
+        }
+
+        long startTime = System.nanoTime();
+        RecipientOutcome[] outcomes = new RecipientOutcome[recipients.size()];
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        List<MimeMessage> chunk = new ArrayList<>(chunkSize);
+        List<Integer> positions = new ArrayList<>(chunkSize);
+        for (int i = 0; i < recipients.size(); i++) {
+            BulkMailRecipient recipient = recipients.get(i);
+            String to = recipient == null ? null : recipient.getTo();
+            if (to == null || to.isBlank()) {
+                outcomes[i] = new RecipientOutcome(to, MailStatus.FAILED, "Recipient is required");
+                continue;
+            }
+            Map<String, String> values = recipient.getValues() == null ? Map.of() : recipient.getValues();
+            try {
+                chunk.add(mailSenderService.prepare(to, subject.render(values), body.render(values)));
+                positions.add(i);
+            } catch (MessagingException e) {
+                outcomes[i] = new RecipientOutcome(to, MailStatus.FAILED, e.getMessage());
+                continue;
+            }
+            if (chunk.size() == chunkSize) {
+                futures.add(submit(chunk, positions, recipients, outcomes));
+                chunk = new ArrayList<>(chunkSize);
+                positions = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            futures.add(submit(chunk, positions, recipients, outcomes));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        return new BulkMailResult(Arrays.asList(outcomes), durationMillis);
+    }
+
+    private CompletableFuture<Void> submit(List<MimeMessage> messages, List<Integer> positions,
+                                           List<BulkMailRecipient> recipients, RecipientOutcome[] outcomes) {
+        return CompletableFuture.runAsync(() -> {
+            awaitRate(messages.size());
+            Map<MimeMessage, Exception> failed = mailSenderService.sendAll(messages);
+            // Every chunk writes its own slots of the array, and join() publishes them to the caller
+            for (int i = 0; i < messages.size(); i++) {
+                int position = positions.get(i);
+                Exception cause = failed.get(messages.get(i));
+                outcomes[position] = cause == null
+                        ? new RecipientOutcome(recipients.get(position).getTo(), MailStatus.SENT, null)
+                        : new RecipientOutcome(recipients.get(position).getTo(), MailStatus.FAILED, cause.getMessage());
+            }
+        }, executor);
+    }
+
+    // Reserves send slots for the chunk and waits for the first one, so the average stays under the rate
+    private void awaitRate(int messages) {
+        if (nanosPerMessage == 0) {
+            return;
+        }
+        long slot;
+        synchronized (this) {
+            long now = System.nanoTime();
+            slot = Math.max(now, nextSendNanos);
+            nextSendNanos = slot + messages * nanosPerMessage;
+        }
+        long wait;
+        while ((wait = slot - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(wait);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class BulkMailThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "droneport-bulk-mail-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package droneportTeam05.service.email;
+
+import java.util.Map;
+
+import droneportTeam05.domain.EmailTemplate;
+import lombok.Getter;
+
+/**
+ * An email template with its subject and body compiled for rendering per recipient.
+ */
+@Getter
+public class CompiledEmailTemplate {
+
+    private final EmailTemplate template;
+    private final CompiledTemplate subject;
+    private final CompiledTemplate body;
+
+    public CompiledEmailTemplate(EmailTemplate template) {
+        // A copy, so the cached template is not tied to a persistence context
+        this.template = new EmailTemplate(template.getName(), template.getSubject(), template.getBody());
+        this.subject = CompiledTemplate.compile(template.getSubject());
+        this.body = CompiledTemplate.compile(template.getBody());
+    }
+
+    public String renderSubject(Map<String, ?> values) {
+        return subject.render(values);
+    }
+
+    public String renderBody(Map<String, ?> values) {
+        return body.render(values);
+    }
+}
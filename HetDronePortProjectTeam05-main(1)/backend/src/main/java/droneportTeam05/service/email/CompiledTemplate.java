@@ -0,0 +1,86 @@
+package droneportTeam05.service.email;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A template text split once into literal parts and {@code {{name}}} placeholders, so rendering is only
+ * appending parts and looking up values. Placeholders without a value are rendered as written, which keeps
+ * a typo visible in the sent mail instead of silently dropping text.
+ */
+public final class CompiledTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    // literals[i] comes before placeholder i; there is one more literal than there are placeholders
+    private final String[] literals;
+    private final String[] names;
+    private final int literalLength;
+
+    private CompiledTemplate(String[] literals, String[] names) {
+        this.literals = literals;
+        this.names = names;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static CompiledTemplate compile(String source) {
+        String text = source == null ? "" : source;
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+        while (position < text.length()) {
+            int open = text.indexOf(OPEN, position);
+            int close = open < 0 ? -1 : text.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                break;
+            }
+            String name = text.substring(open + OPEN.length(), close).trim();
+            if (name.isEmpty() || name.indexOf('{') >= 0 || name.indexOf('}') >= 0) {
+                // Not a placeholder: keep the opening braces as text and look further
+                literal.append(text, position, open + OPEN.length());
+                position = open + OPEN.length();
+                continue;
+            }
+            literal.append(text, position, open);
+            literals.add(literal.toString());
+            names.add(name);
+            literal.setLength(0);
+            position = close + CLOSE.length();
+        }
+        literal.append(text, position, text.length());
+        literals.add(literal.toString());
+        return new CompiledTemplate(literals.toArray(new String[0]), names.toArray(new String[0]));
+    }
+
+    public String render(Map<String, ?> values) {
+        if (names.length == 0) {
+            return literals[0];
+        }
+        StringBuilder out = new StringBuilder(literalLength + names.length * 16);
+        out.append(literals[0]);
+        for (int i = 0; i < names.length; i++) {
+            Object value = values.get(names[i]);
+            if (value == null) {
+                out.append(OPEN).append(names[i]).append(CLOSE);
+            } else {
+                out.append(value);
+            }
+            out.append(literals[i + 1]);
+        }
+        return out.toString();
+    }
+
+    public List<String> getPlaceholders() {
+        List<String> placeholders = new ArrayList<>(names.length);
+        Collections.addAll(placeholders, names);
+        return placeholders;
+    }
+}
@@ -0,0 +1,211 @@
+package droneportTeam05.service.email;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import droneportTeam05.controllers.dto.MailDeliveryStatus;
+import droneportTeam05.domain.MailAttachment;
+import droneportTeam05.domain.MailStatus;
+import droneportTeam05.domain.OutboundMail;
+import droneportTeam05.repository.OutboundMailRepository;
+import droneportTeam05.service.metrics.DroneportMetrics;
+import droneportTeam05.service.validation.ValidationException;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+
+/**
+ * Sends mail in the background. Requests only store the message in the outbox table; a poller leases due
+ * messages and a small pool of workers sends them, retrying failures with exponential backoff. A message
+ * whose sender dies mid-send is picked up again once its lease runs out, so delivery is at least once.
+ */
+@Service
+public class MailOutboxService {
+
+    private static final List<MailStatus> PENDING = List.of(MailStatus.QUEUED, MailStatus.SENDING);
+
+    private final OutboundMailRepository outboxRepository;
+    private final MailSenderService mailSenderService;
+    private final AttachmentSpool attachmentSpool;
+    private final int workers;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+    private final long leaseMillis;
+    private final long pollIntervalMillis;
+    private final ThreadPoolExecutor senders;
+    private final ScheduledExecutorService poller;
+
+    public MailOutboxService(OutboundMailRepository outboxRepository,
+                             MailSenderService mailSenderService,
+                             AttachmentSpool attachmentSpool,
+                             @Value("${droneport.mail.outbox.workers:4}") int workers,
+                             @Value("${droneport.mail.outbox.max-attempts:5}") int maxAttempts,
+                             @Value("${droneport.mail.outbox.backoff-millis:2000}") long backoffMillis,
+                             @Value("${droneport.mail.outbox.max-backoff-millis:300000}") long maxBackoffMillis,
+                             @Value("${droneport.mail.outbox.lease-millis:120000}") long leaseMillis,
+                             @Value("${droneport.mail.outbox.poll-interval-millis:5000}") long pollIntervalMillis) {
+        this.outboxRepository = outboxRepository;
+        this.mailSenderService = mailSenderService;
+        this.attachmentSpool = attachmentSpool;
+        this.workers = Math.max(1, workers);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.leaseMillis = leaseMillis;
+        this.pollIntervalMillis = pollIntervalMillis;
+        // The poller only hands out a new batch once the previous one is picked up, so the queue stays small
+        this.senders = new ThreadPoolExecutor(
+                this.workers, this.workers,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new MailThreadFactory("droneport-mail-"));
+        this.poller = Executors.newSingleThreadScheduledExecutor(new MailThreadFactory("droneport-mail-poller-"));
+    }
+
+    public MailDeliveryStatus enqueue(String to, String subject, String body, List<MultipartFile> files)
+            throws IOException {
+        if (to == null || to.isBlank()) {
+            throw new ValidationException("Recipient is required");
+        }
+        List<MailAttachment> attachments = attachmentSpool.spool(files);
+
+        OutboundMail mail;
+        try {
+            mail = outboxRepository.save(new OutboundMail(to, subject, body == null ? "" : body, attachments));
+        } catch (RuntimeException e) {
+            attachmentSpool.delete(attachments);
+            throw e;
+        }
+        poll();
+        return MailDeliveryStatus.of(mail);
+    }
+
+    public Optional<MailDeliveryStatus> getStatus(String id) {
+        return outboxRepository.findById(id).map(MailDeliveryStatus::of);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        poller.scheduleWithFixedDelay(this::pollDue, 0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdownNow();
+        senders.shutdown();
+    }
+
+    // Checks for due messages now instead of at the next tick
+    private void poll() {
+        if (!poller.isShutdown()) {
+            poller.execute(this::pollDue);
+        }
+    }
+
+    void pollDue() {
+        try {
+            if (senders.getQueue().size() >= workers) {
+                return;
+            }
+            Instant now = Instant.now();
+            Instant leaseUntil = now.plusMillis(leaseMillis);
+            for (String id : outboxRepository.findDueIds(PENDING, now, PageRequest.of(0, workers * 4))) {
+                if (outboxRepository.claim(id, MailStatus.SENDING, PENDING, now, leaseUntil) == 1) {
+                    senders.execute(() -> deliver(id));
+                }
+            }
+        } catch (RuntimeException e) {
+            // The next tick tries again; a failing poll must not cancel the schedule
+            DroneportMetrics.countError("mail_outbox", e);
+        }
+    }
+
+    void deliver(String id) {
+        OutboundMail mail = outboxRepository.findById(id).orElse(null);
+        if (mail == null) {
+            return;
+        }
+        int attempts = mail.getAttempts() + 1;
+        MailAttachment missing = attachmentSpool.findMissing(mail.getAttachments());
+        if (missing != null) {
+            // Lost with the spool directory, e.g. after a redeploy; no later attempt can bring it back
+            outboxRepository.recordAttempt(id, MailStatus.FAILED, attempts, Instant.now(),
+                    truncate("Attachment spool file missing: " + missing.getFilename()), null);
+            attachmentSpool.delete(mail.getAttachments());
+        } else {
+            try {
+                mailSenderService.send(mail);
+                outboxRepository.recordAttempt(id, MailStatus.SENT, attempts, Instant.now(), null, Instant.now());
+                attachmentSpool.delete(mail.getAttachments());
+            } catch (MessagingException | IOException | RuntimeException e) {
+                String error = truncate(e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage());
+                if (attempts >= maxAttempts || isPermanent(e)) {
+                    outboxRepository.recordAttempt(id, MailStatus.FAILED, attempts, Instant.now(), error, null);
+                    attachmentSpool.delete(mail.getAttachments());
+                } else {
+                    Instant retryAt = Instant.now().plusMillis(backoff(attempts));
+                    outboxRepository.recordAttempt(id, MailStatus.QUEUED, attempts, retryAt, error, null);
+                }
+            }
+        }
+        if (senders.getQueue().isEmpty()) {
+            poll();
+        }
+    }
+
+    // Exponential with +-20% jitter, so messages that failed together do not retry together
+    long backoff(int attempts) {
+        long delay = backoffMillis << Math.min(attempts - 1, 30);
+        if (delay <= 0 || delay > maxBackoffMillis) {
+            delay = maxBackoffMillis;
+        }
+        return (long) (delay * ThreadLocalRandom.current().nextDouble(0.8, 1.2));
+    }
+
+    // Fits the last_error column
+    private static String truncate(String error) {
+        return error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+
+    // A message that cannot be built will not be sent on a later attempt either
+    private static boolean isPermanent(Exception e) {
+        return e instanceof MessagingException
+                || e instanceof MailParseException
+                || e instanceof MailPreparationException;
+    }
+
+    private static class MailThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        MailThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -1,15 +1,22 @@
 package droneportTeam05.service.email;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
+import droneportTeam05.domain.MailAttachment;
+import droneportTeam05.domain.OutboundMail;
+import droneportTeam05.service.metrics.DroneportMetrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 
@@ -19,7 +26,57 @@ public class MailSenderService {
     @Autowired
     private JavaMailSender mailSender;
 
-    public void sendNewMail(String to, String subject, String body, List<MultipartFile> files) throws MessagingException, IOException {
+    /**
+     * Sends a message from the outbox. Called by the outbox workers, never on a request thread.
+     */
+    public void send(OutboundMail mail) throws MessagingException, IOException {
+        timed(() -> {
+            MimeMessageHelper helper = createMessage(mail.getRecipient(), mail.getSubject(), mail.getBody());
+            for (MailAttachment attachment : mail.getAttachments()) {
+                FileSystemResource content = new FileSystemResource(attachment.getPath());
+                if (attachment.getContentType() != null) {
+                    helper.addAttachment(attachment.getFilename(), content, attachment.getContentType());
+                } else {
+                    helper.addAttachment(attachment.getFilename(), content);
+                }
+            }
+
+            mailSender.send(helper.getMimeMessage());
+        });
+    }
+
+    /**
+     * Builds a message without attachments for {@link #sendAll}.
+     */
+    public MimeMessage prepare(String to, String subject, String body) throws MessagingException {
+        return createMessage(to, subject, body).getMimeMessage();
+    }
+
+    /**
+     * Sends the messages over one SMTP connection, reconnecting only if the server drops it. Returns the
+     * messages that could not be sent with their cause; an empty map means all of them were sent.
+     */
+    public Map<MimeMessage, Exception> sendAll(List<MimeMessage> messages) {
+        Timer.Sample sample = DroneportMetrics.start();
+        Map<MimeMessage, Exception> failed = new HashMap<>();
+        try {
+            mailSender.send(messages.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            e.getFailedMessages().forEach((message, cause) -> failed.put((MimeMessage) message, cause));
+            if (failed.isEmpty()) {
+                messages.forEach(message -> failed.put(message, e));
+            }
+        } catch (MailException e) {
+            // Authentication and the like: nothing in the batch was sent
+            messages.forEach(message -> failed.put(message, e));
+        }
+        failed.values().forEach(cause -> DroneportMetrics.countError("mail", cause));
+        DroneportMetrics.stop(sample, DroneportMetrics.MAIL_SEND_BATCH,
+                "outcome", failed.isEmpty() ? DroneportMetrics.SUCCESS : DroneportMetrics.ERROR);
+        return failed;
+    }
+
+    private MimeMessageHelper createMessage(String to, String subject, String body) throws MessagingException {
         MimeMessage message = mailSender.createMimeMessage();
 
         MimeMessageHelper helper = new MimeMessageHelper(message, true);
@@ -28,15 +85,26 @@ public class MailSenderService {
         helper.setSubject(subject);
         helper.setText(body);
         helper.setFrom("your@email.com");
+        return helper;
+    }
 
-        System.out.println("Sending email to: " + files);
-        for (MultipartFile file : files) {
-            if (file != null && !file.isEmpty() && file.getOriginalFilename() != null) {
-                helper.addAttachment(file.getOriginalFilename(), new ByteArrayResource(file.getBytes()));
-            }
+    private void timed(MailAction action) throws MessagingException, IOException {
+        Timer.Sample sample = DroneportMetrics.start();
+        String outcome = DroneportMetrics.ERROR;
+        try {
+            action.run();
+            outcome = DroneportMetrics.SUCCESS;
+        } catch (MessagingException | IOException | RuntimeException e) {
+            DroneportMetrics.countError("mail", e);
+            throw e;
+        } finally {
+            DroneportMetrics.stop(sample, DroneportMetrics.MAIL_SEND, "outcome", outcome);
         }
+    }
 
-        mailSender.send(message);
+    @FunctionalInterface
+    private interface MailAction {
+        void run() throws MessagingException, IOException;
     }
 
 }
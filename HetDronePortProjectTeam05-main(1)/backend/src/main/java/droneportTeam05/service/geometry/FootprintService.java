@@ -0,0 +1,200 @@
+package droneportTeam05.service.geometry;
+
+import java.awt.geom.Area;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import droneportTeam05.controllers.dto.DroneOperationResult;
+import droneportTeam05.domain.zones.Point;
+import droneportTeam05.domain.zones.Zone;
+import droneportTeam05.service.validation.ValidationException;
+
+/**
+ * Server-side version of the frontend's kmlPolygonGenerator: the zone itself is the ground risk buffer
+ * footprint, the contingency volume lies the ground risk buffer inside it, the flight geography another
+ * lateral extension further in and the adjacent volume its lateral size outside the zone.
+ */
+@Service
+public class FootprintService {
+
+    public static final String ADJACENT_VOLUME = "adjacentVolume";
+    public static final String GROUND_RISK_BUFFER = "groundRiskBuffer";
+    public static final String CONTINGENCY_VOLUME = "contingencyVolume";
+    public static final String FLIGHT_GEOGRAPHY = "flightGeography";
+
+    private final int maxSize;
+    private final Map<FootprintKey, Footprint> cache;
+
+    public FootprintService(@Value("${droneport.geometry.cache.max-size:512}") int maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FootprintKey, Footprint> eldest) {
+                return size() > FootprintService.this.maxSize;
+            }
+        };
+    }
+
+    public Map<String, Object> footprint(Zone zone, DroneOperationResult result) {
+        Map<String, Object> collection = new LinkedHashMap<>();
+        collection.put("type", "FeatureCollection");
+        collection.put("features", features(zone, zone.getPath(), result));
+        return collection;
+    }
+
+    public Map<String, Object> footprints(List<Zone> zones, DroneOperationResult result) {
+        // Outlines are copied on the calling thread: on managed zones getPath() may initialise a lazy
+        // collection through the request's session, which must not be touched from the ForkJoin pool
+        List<Map.Entry<Zone, List<Point>>> outlines = new ArrayList<>(zones.size());
+        for (Zone zone : zones) {
+            List<Point> path = zone.getPath();
+            if (path != null && path.size() >= 3) {
+                outlines.add(Map.entry(zone, new ArrayList<>(path)));
+            }
+        }
+        List<Map<String, Object>> features = outlines.parallelStream()
+                .flatMap(outline -> features(outline.getKey(), outline.getValue(), result).stream())
+                .toList();
+
+        Map<String, Object> collection = new LinkedHashMap<>();
+        collection.put("type", "FeatureCollection");
+        collection.put("features", features);
+        return collection;
+    }
+
+    public int getCacheSize() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private List<Map<String, Object>> features(Zone zone, List<Point> path, DroneOperationResult result) {
+        double groundRiskBuffer = result.getGrb().getMinLateralDimension();
+        double lateralExtension = result.getLateralCV().getLateralExtension();
+        double adjacentLateral = result.getAdjacentVolume().getLateralInMeter();
+
+        Footprint footprint = footprint(path, groundRiskBuffer, lateralExtension, adjacentLateral);
+
+        List<Map<String, Object>> features = new ArrayList<>(4);
+        addFeature(features, zone, ADJACENT_VOLUME, adjacentLateral,
+                result.getAdjacentVolume().getVerticalInMeter(), footprint.adjacentVolume());
+        addFeature(features, zone, GROUND_RISK_BUFFER, 0, 0, footprint.groundRiskBuffer());
+        addFeature(features, zone, CONTINGENCY_VOLUME, -groundRiskBuffer,
+                result.getVerticalCV().getMinVerticalDimension(), footprint.contingencyVolume());
+        addFeature(features, zone, FLIGHT_GEOGRAPHY, -(groundRiskBuffer + lateralExtension),
+                result.getFlightGeography().getHeightFlightGeo(), footprint.flightGeography());
+        return features;
+    }
+
+    Footprint footprint(List<Point> path, double groundRiskBuffer, double lateralExtension, double adjacentLateral) {
+        if (path == null || path.size() < 3) {
+            throw new ValidationException("Zone needs at least three points");
+        }
+
+        FootprintKey key = new FootprintKey(coordinates(path), groundRiskBuffer, lateralExtension, adjacentLateral);
+        synchronized (cache) {
+            Footprint cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // Computed outside the lock; two threads may race on the same key and store equal values
+        Footprint footprint = compute(path, groundRiskBuffer, lateralExtension, adjacentLateral);
+        if (maxSize > 0) {
+            synchronized (cache) {
+                cache.put(key, footprint);
+            }
+        }
+        return footprint;
+    }
+
+    private Footprint compute(List<Point> path, double groundRiskBuffer, double lateralExtension,
+                              double adjacentLateral) {
+        LocalProjection projection = LocalProjection.around(path);
+        int n = path.size();
+        // Zones may be stored with an explicit closing point
+        if (n > 3 && path.get(0).getLat() == path.get(n - 1).getLat() && path.get(0).getLng() == path.get(n - 1).getLng()) {
+            n--;
+        }
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = projection.x(path.get(i).getLng());
+            ys[i] = projection.y(path.get(i).getLat());
+        }
+
+        return new Footprint(
+                geometry(xs, ys, adjacentLateral, projection),
+                geometry(xs, ys, 0, projection),
+                geometry(xs, ys, -groundRiskBuffer, projection),
+                geometry(xs, ys, -(groundRiskBuffer + lateralExtension), projection));
+    }
+
+    private Map<String, Object> geometry(double[] xs, double[] ys, double distance, LocalProjection projection) {
+        Area area = PolygonBuffer.buffer(xs, ys, distance);
+        return GeoJson.geometry(area, projection);
+    }
+
+    private void addFeature(List<Map<String, Object>> features, Zone zone, String volume, double bufferMeters,
+                            double topAltitude, Map<String, Object> geometry) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("zone", zone.getName());
+        properties.put("volume", volume);
+        properties.put("bufferMeters", bufferMeters);
+        properties.put("topAltitude", topAltitude);
+
+        Map<String, Object> feature = new LinkedHashMap<>();
+        feature.put("type", "Feature");
+        feature.put("properties", properties);
+        // A buffer that eats the whole zone leaves no geometry, as turf.buffer does
+        feature.put("geometry", geometry);
+        features.add(feature);
+    }
+
+    private static double[] coordinates(List<Point> path) {
+        double[] coordinates = new double[path.size() * 2];
+        for (int i = 0; i < path.size(); i++) {
+            coordinates[2 * i] = path.get(i).getLat();
+            coordinates[2 * i + 1] = path.get(i).getLng();
+        }
+        return coordinates;
+    }
+
+    record Footprint(Map<String, Object> adjacentVolume, Map<String, Object> groundRiskBuffer,
+                     Map<String, Object> contingencyVolume, Map<String, Object> flightGeography) {
+    }
+
+    private record FootprintKey(double[] coordinates, double groundRiskBuffer, double lateralExtension,
+                                double adjacentLateral) {
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof FootprintKey other)) {
+                return false;
+            }
+            return Double.compare(groundRiskBuffer, other.groundRiskBuffer) == 0
+                    && Double.compare(lateralExtension, other.lateralExtension) == 0
+                    && Double.compare(adjacentLateral, other.adjacentLateral) == 0
+                    && Arrays.equals(coordinates, other.coordinates);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Arrays.hashCode(coordinates);
+            result = 31 * result + Double.hashCode(groundRiskBuffer);
+            result = 31 * result + Double.hashCode(lateralExtension);
+            result = 31 * result + Double.hashCode(adjacentLateral);
+            return result;
+        }
+    }
+}
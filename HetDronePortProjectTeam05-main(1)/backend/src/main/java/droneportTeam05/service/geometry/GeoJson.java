@@ -0,0 +1,188 @@
+package droneportTeam05.service.geometry;
+
+import java.awt.geom.Area;
+import java.awt.geom.Path2D;
+import java.awt.geom.PathIterator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts projected {@link Area}s back to GeoJSON geometries. Exterior rings are counter-clockwise and
+ * holes clockwise, as RFC 7946 asks for.
+ */
+public final class GeoJson {
+
+    // Area leaves near-duplicate vertices and zero-width slivers where buffer pieces meet; anything
+    // closer than a micrometre or smaller than a square millimetre is noise
+    private static final double VERTEX_TOLERANCE = 1e-6;
+    private static final double MIN_RING_AREA = 1e-6;
+
+    private GeoJson() {
+    }
+
+    /**
+     * @return a Polygon or MultiPolygon geometry, or {@code null} when the area is empty
+     */
+    public static Map<String, Object> geometry(Area area, LocalProjection projection) {
+        List<Ring> rings = rings(area);
+        if (rings.isEmpty()) {
+            return null;
+        }
+
+        // Area emits exterior rings and holes with opposite orientations; the largest ring is always exterior
+        Ring largest = rings.get(0);
+        for (Ring ring : rings) {
+            if (Math.abs(ring.signedArea) > Math.abs(largest.signedArea)) {
+                largest = ring;
+            }
+        }
+        boolean exteriorSign = largest.signedArea > 0;
+
+        List<Ring> exteriors = new ArrayList<>();
+        List<Ring> holes = new ArrayList<>();
+        for (Ring ring : rings) {
+            if ((ring.signedArea > 0) == exteriorSign) {
+                exteriors.add(ring);
+            } else {
+                holes.add(ring);
+            }
+        }
+
+        List<List<List<List<Double>>>> polygons = new ArrayList<>();
+        List<Path2D.Double> exteriorPaths = new ArrayList<>();
+        for (Ring exterior : exteriors) {
+            List<List<List<Double>>> polygon = new ArrayList<>();
+            polygon.add(coordinates(exterior, true, projection));
+            polygons.add(polygon);
+            exteriorPaths.add(PolygonBuffer.ring(exterior.xs, exterior.ys));
+        }
+        for (Ring hole : holes) {
+            int owner = smallestContaining(exteriors, exteriorPaths, hole);
+            if (owner >= 0) {
+                polygons.get(owner).add(coordinates(hole, false, projection));
+            }
+        }
+
+        Map<String, Object> geometry = new LinkedHashMap<>();
+        if (polygons.size() == 1) {
+            geometry.put("type", "Polygon");
+            geometry.put("coordinates", polygons.get(0));
+        } else {
+            geometry.put("type", "MultiPolygon");
+            geometry.put("coordinates", polygons);
+        }
+        return Collections.unmodifiableMap(geometry);
+    }
+
+    private static int smallestContaining(List<Ring> exteriors, List<Path2D.Double> paths, Ring hole) {
+        int owner = -1;
+        for (int i = 0; i < exteriors.size(); i++) {
+            if (paths.get(i).contains(hole.xs[0], hole.ys[0])
+                    && (owner < 0 || Math.abs(exteriors.get(i).signedArea) < Math.abs(exteriors.get(owner).signedArea))) {
+                owner = i;
+            }
+        }
+        return owner;
+    }
+
+    private static List<List<Double>> coordinates(Ring ring, boolean counterClockwise, LocalProjection projection) {
+        int n = ring.xs.length;
+        boolean reverse = (ring.signedArea > 0) != counterClockwise;
+        List<List<Double>> coordinates = new ArrayList<>(n + 1);
+        for (int i = 0; i < n; i++) {
+            int index = reverse ? n - 1 - i : i;
+            coordinates.add(List.of(projection.lng(ring.xs[index]), projection.lat(ring.ys[index])));
+        }
+        coordinates.add(coordinates.get(0));
+        return coordinates;
+    }
+
+    private static List<Ring> rings(Area area) {
+        List<Ring> rings = new ArrayList<>();
+        double[] segment = new double[6];
+        double[] xs = new double[16];
+        double[] ys = new double[16];
+        int size = 0;
+
+        for (PathIterator it = area.getPathIterator(null); !it.isDone(); it.next()) {
+            switch (it.currentSegment(segment)) {
+                case PathIterator.SEG_MOVETO -> {
+                    addRing(rings, xs, ys, size);
+                    size = 0;
+                    xs[size] = segment[0];
+                    ys[size++] = segment[1];
+                }
+                case PathIterator.SEG_LINETO -> {
+                    if (isSame(xs[size - 1], ys[size - 1], segment[0], segment[1])) {
+                        continue;
+                    }
+                    if (size == xs.length) {
+                        xs = Arrays.copyOf(xs, size * 2);
+                        ys = Arrays.copyOf(ys, size * 2);
+                    }
+                    xs[size] = segment[0];
+                    ys[size++] = segment[1];
+                }
+                case PathIterator.SEG_CLOSE -> {
+                    addRing(rings, xs, ys, size);
+                    size = 0;
+                }
+                default -> throw new IllegalStateException("Unexpected curve segment in polygon area");
+            }
+        }
+        addRing(rings, xs, ys, size);
+        return rings;
+    }
+
+    private static void addRing(List<Ring> rings, double[] xs, double[] ys, int size) {
+        // Drop the closing vertex if the iterator repeated the first one
+        if (size > 1 && isSame(xs[size - 1], ys[size - 1], xs[0], ys[0])) {
+            size--;
+        }
+        if (size >= 3) {
+            Ring ring = new Ring(Arrays.copyOf(xs, size), Arrays.copyOf(ys, size));
+            if (Math.abs(ring.signedArea) >= MIN_RING_AREA) {
+                rings.add(ring);
+            }
+        }
+    }
+
+    private static boolean isSame(double x1, double y1, double x2, double y2) {
+        return Math.abs(x1 - x2) < VERTEX_TOLERANCE && Math.abs(y1 - y2) < VERTEX_TOLERANCE;
+    }
+
+    private static final class Ring {
+        final double[] xs;
+        final double[] ys;
+        final double signedArea;
+
+        Ring(double[] xs, double[] ys) {
+            this.xs = xs;
+            this.ys = ys;
+            this.signedArea = signedArea(xs, ys);
+        }
+    }
+
+    // Holes run opposite to their exterior in an Area, so the signed ring areas already subtract them
+    static double area(Area area) {
+        double sum = 0;
+        for (Ring ring : rings(area)) {
+            sum += ring.signedArea;
+        }
+        return Math.abs(sum);
+    }
+
+    static double signedArea(double[] xs, double[] ys) {
+        double sum = 0;
+        int n = xs.length;
+        for (int i = 0; i < n; i++) {
+            int j = (i + 1) % n;
+            sum += xs[i] * ys[j] - xs[j] * ys[i];
+        }
+        return sum / 2;
+    }
+}
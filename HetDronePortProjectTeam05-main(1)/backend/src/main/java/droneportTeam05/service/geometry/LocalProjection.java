@@ -0,0 +1,57 @@
+package droneportTeam05.service.geometry;
+
+import java.util.List;
+
+import droneportTeam05.domain.zones.Point;
+
+/**
+ * Equirectangular projection to meters around the centre of a zone. Over the few kilometres a zone spans
+ * the distortion stays far below the precision of the buffer distances.
+ */
+public final class LocalProjection {
+
+    // Mean earth radius, the same value turf uses for its meter conversions
+    public static final double EARTH_RADIUS = 6371008.8;
+
+    private static final double METERS_PER_DEGREE = EARTH_RADIUS * Math.PI / 180;
+
+    private final double originLat;
+    private final double originLng;
+    private final double metersPerDegreeLng;
+
+    public LocalProjection(double originLat, double originLng) {
+        this.originLat = originLat;
+        this.originLng = originLng;
+        this.metersPerDegreeLng = METERS_PER_DEGREE * Math.cos(Math.toRadians(originLat));
+    }
+
+    public static LocalProjection around(List<Point> path) {
+        double minLat = Double.POSITIVE_INFINITY;
+        double maxLat = Double.NEGATIVE_INFINITY;
+        double minLng = Double.POSITIVE_INFINITY;
+        double maxLng = Double.NEGATIVE_INFINITY;
+        for (Point point : path) {
+            minLat = Math.min(minLat, point.getLat());
+            maxLat = Math.max(maxLat, point.getLat());
+            minLng = Math.min(minLng, point.getLng());
+            maxLng = Math.max(maxLng, point.getLng());
+        }
+        return new LocalProjection((minLat + maxLat) / 2, (minLng + maxLng) / 2);
+    }
+
+    public double x(double lng) {
+        return (lng - originLng) * metersPerDegreeLng;
+    }
+
+    public double y(double lat) {
+        return (lat - originLat) * METERS_PER_DEGREE;
+    }
+
+    public double lng(double x) {
+        return originLng + x / metersPerDegreeLng;
+    }
+
+    public double lat(double y) {
+        return originLat + y / METERS_PER_DEGREE;
+    }
+}
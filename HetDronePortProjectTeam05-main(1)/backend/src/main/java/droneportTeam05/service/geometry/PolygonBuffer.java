@@ -0,0 +1,98 @@
+package droneportTeam05.service.geometry;
+
+import java.awt.geom.Area;
+import java.awt.geom.Path2D;
+
+/**
+ * Buffers a simple polygon by a distance in meters with round joins, like turf/JSTS do: a positive
+ * distance grows the polygon, a negative one shrinks it. The result may be empty, or split into several
+ * parts when a narrow section of the polygon collapses.
+ */
+public final class PolygonBuffer {
+
+    // Same circle resolution as turf's default of 8 steps per quadrant
+    static final int SEGMENTS_PER_QUADRANT = 8;
+
+    private static final int CIRCLE_SEGMENTS = 4 * SEGMENTS_PER_QUADRANT;
+
+    private PolygonBuffer() {
+    }
+
+    /**
+     * @param xs x coordinates of the ring in meters, not closed
+     * @param ys y coordinates of the ring in meters, not closed
+     */
+    public static Area buffer(double[] xs, double[] ys, double distance) {
+        Area polygon = new Area(ring(xs, ys));
+        if (distance == 0 || polygon.isEmpty()) {
+            return polygon;
+        }
+
+        // Everything within |distance| of the boundary: the polygon grows by this band or loses it
+        Area band = new Area(boundaryBand(xs, ys, Math.abs(distance), distance > 0));
+        if (distance > 0) {
+            polygon.add(band);
+        } else {
+            polygon.subtract(band);
+        }
+        return polygon;
+    }
+
+    static Path2D.Double ring(double[] xs, double[] ys) {
+        Path2D.Double path = new Path2D.Double(Path2D.WIND_EVEN_ODD, xs.length + 1);
+        path.moveTo(xs[0], ys[0]);
+        for (int i = 1; i < xs.length; i++) {
+            path.lineTo(xs[i], ys[i]);
+        }
+        path.closePath();
+        return path;
+    }
+
+    // One path holding a rectangle per edge and a circle per vertex. All sub-paths share the same
+    // orientation, so the non-zero winding rule unions them in a single Area construction instead of
+    // one Area.add per piece. Growing only needs the circles at convex vertices and shrinking only at
+    // reflex ones; elsewhere the edge rectangles already cover the round join.
+    private static Path2D.Double boundaryBand(double[] xs, double[] ys, double radius, boolean outward) {
+        int n = xs.length;
+        Path2D.Double band = new Path2D.Double(Path2D.WIND_NON_ZERO, n * (CIRCLE_SEGMENTS + 6));
+
+        for (int i = 0; i < n; i++) {
+            double ax = xs[i];
+            double ay = ys[i];
+            double bx = xs[(i + 1) % n];
+            double by = ys[(i + 1) % n];
+            double length = Math.hypot(bx - ax, by - ay);
+            if (length == 0) {
+                continue;
+            }
+            double nx = -(by - ay) / length * radius;
+            double ny = (bx - ax) / length * radius;
+
+            // Counter-clockwise: right side of the edge first, then the left side back
+            band.moveTo(ax - nx, ay - ny);
+            band.lineTo(bx - nx, by - ny);
+            band.lineTo(bx + nx, by + ny);
+            band.lineTo(ax + nx, ay + ny);
+            band.closePath();
+        }
+
+        boolean counterClockwise = GeoJson.signedArea(xs, ys) > 0;
+        for (int i = 0; i < n; i++) {
+            int previous = (i + n - 1) % n;
+            int next = (i + 1) % n;
+            double turn = (xs[i] - xs[previous]) * (ys[next] - ys[i]) - (ys[i] - ys[previous]) * (xs[next] - xs[i]);
+            boolean convex = (turn > 0) == counterClockwise;
+            if (turn == 0 || convex != outward) {
+                continue;
+            }
+
+            band.moveTo(xs[i] + radius, ys[i]);
+            for (int s = 1; s < CIRCLE_SEGMENTS; s++) {
+                double angle = 2 * Math.PI * s / CIRCLE_SEGMENTS;
+                band.lineTo(xs[i] + radius * Math.cos(angle), ys[i] + radius * Math.sin(angle));
+            }
+            band.closePath();
+        }
+        return band;
+    }
+}
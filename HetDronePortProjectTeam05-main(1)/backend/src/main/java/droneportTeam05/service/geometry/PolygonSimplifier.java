@@ -0,0 +1,122 @@
+package droneportTeam05.service.geometry;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import droneportTeam05.domain.zones.Point;
+
+/**
+ * Douglas-Peucker simplification of a zone outline with the tolerance in meters. The outline is a ring
+ * without a repeated closing point; the result is a subset of its points in the same order and never has
+ * fewer than three.
+ */
+public final class PolygonSimplifier {
+
+    private PolygonSimplifier() {
+    }
+
+    public static List<Point> simplify(List<Point> path, double tolerance) {
+        int n = path.size();
+        if (n <= 3 || tolerance <= 0) {
+            return path;
+        }
+        LocalProjection projection = LocalProjection.around(path);
+        double[] x = new double[n + 1];
+        double[] y = new double[n + 1];
+        for (int i = 0; i < n; i++) {
+            x[i] = projection.x(path.get(i).getLng());
+            y[i] = projection.y(path.get(i).getLat());
+        }
+        // Index n closes the ring on the first point
+        x[n] = x[0];
+        y[n] = y[0];
+
+        // A closed ring has no chord to measure against, so split it at the point farthest from the first
+        int far = 0;
+        double farDistance = -1;
+        for (int i = 1; i < n; i++) {
+            double distance = Math.hypot(x[i] - x[0], y[i] - y[0]);
+            if (distance > farDistance) {
+                far = i;
+                farDistance = distance;
+            }
+        }
+        boolean[] keep = new boolean[n + 1];
+        keep[0] = true;
+        keep[far] = true;
+        simplifyChain(x, y, 0, far, tolerance, keep);
+        simplifyChain(x, y, far, n, tolerance, keep);
+
+        int kept = 0;
+        for (int i = 0; i < n; i++) {
+            if (keep[i]) {
+                kept++;
+            }
+        }
+        if (kept < 3) {
+            // Everything lies within the tolerance of one line; keep the widest point so it stays a polygon
+            keep[farthestFromChord(x, y, 0, far, n)] = true;
+        }
+
+        List<Point> simplified = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (keep[i]) {
+                simplified.add(path.get(i));
+            }
+        }
+        return simplified;
+    }
+
+    private static void simplifyChain(double[] x, double[] y, int from, int to, double tolerance, boolean[] keep) {
+        Deque<int[]> stack = new ArrayDeque<>();
+        stack.push(new int[] {from, to});
+        while (!stack.isEmpty()) {
+            int[] chain = stack.pop();
+            int start = chain[0];
+            int end = chain[1];
+            int index = -1;
+            double max = tolerance;
+            for (int i = start + 1; i < end; i++) {
+                double distance = segmentDistance(x[i], y[i], x[start], y[start], x[end], y[end]);
+                if (distance > max) {
+                    index = i;
+                    max = distance;
+                }
+            }
+            if (index >= 0) {
+                keep[index] = true;
+                stack.push(new int[] {start, index});
+                stack.push(new int[] {index, end});
+            }
+        }
+    }
+
+    private static int farthestFromChord(double[] x, double[] y, int from, int to, int n) {
+        int index = from == 0 ? 1 : 0;
+        double max = -1;
+        for (int i = 1; i < n; i++) {
+            if (i == to) {
+                continue;
+            }
+            double distance = segmentDistance(x[i], y[i], x[from], y[from], x[to], y[to]);
+            if (distance > max) {
+                index = i;
+                max = distance;
+            }
+        }
+        return index;
+    }
+
+    private static double segmentDistance(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        if (lengthSquared == 0) {
+            return Math.hypot(px - ax, py - ay);
+        }
+        double t = Math.max(0, Math.min(1, ((px - ax) * dx + (py - ay) * dy) / lengthSquared));
+        return Math.hypot(px - (ax + t * dx), py - (ay + t * dy));
+    }
+}
@@ -0,0 +1,144 @@
+package droneportTeam05.service.geometry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Static R-tree bulk loaded with Sort-Tile-Recursive packing. Immutable once built: changes to the zones
+ * produce a new tree rather than modifying this one.
+ */
+final class StrTree {
+
+    static final int NODE_CAPACITY = 16;
+
+    private final Node root;
+    private final int size;
+
+    StrTree(List<ZoneShape> shapes) {
+        this.size = shapes.size();
+        this.root = shapes.isEmpty() ? null : build(shapes);
+    }
+
+    int size() {
+        return size;
+    }
+
+    void search(double minLat, double minLng, double maxLat, double maxLng, Consumer<ZoneShape> visitor) {
+        if (root == null) {
+            return;
+        }
+        Node[] stack = new Node[64];
+        int top = 0;
+        stack[top++] = root;
+        while (top > 0) {
+            Node node = stack[--top];
+            if (node.shapes != null) {
+                for (ZoneShape shape : node.shapes) {
+                    if (shape.boundsIntersect(minLat, minLng, maxLat, maxLng)) {
+                        visitor.accept(shape);
+                    }
+                }
+                continue;
+            }
+            for (Node child : node.children) {
+                if (child.intersects(minLat, minLng, maxLat, maxLng)) {
+                    if (top == stack.length) {
+                        stack = Arrays.copyOf(stack, top * 2);
+                    }
+                    stack[top++] = child;
+                }
+            }
+        }
+    }
+
+    private static Node build(List<ZoneShape> shapes) {
+        List<Node> level = new ArrayList<>();
+        for (List<ZoneShape> group : tile(shapes,
+                shape -> centre(shape.minLng(), shape.maxLng()), shape -> centre(shape.minLat(), shape.maxLat()))) {
+            level.add(Node.leaf(group.toArray(new ZoneShape[0])));
+        }
+        while (level.size() > 1) {
+            List<Node> parents = new ArrayList<>();
+            for (List<Node> group : tile(level,
+                    node -> centre(node.minLng, node.maxLng), node -> centre(node.minLat, node.maxLat))) {
+                parents.add(Node.branch(group.toArray(new Node[0])));
+            }
+            level = parents;
+        }
+        return level.get(0);
+    }
+
+    // Sorts by x into vertical slices of about sqrt(n / capacity) groups each, then by y within a slice
+    private static <T> List<List<T>> tile(List<T> items, ToDoubleFunction<T> x, ToDoubleFunction<T> y) {
+        int groups = (int) Math.ceil(items.size() / (double) NODE_CAPACITY);
+        int slices = (int) Math.ceil(Math.sqrt(groups));
+        int sliceSize = slices * NODE_CAPACITY;
+
+        List<T> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparingDouble(x));
+
+        List<List<T>> result = new ArrayList<>(groups);
+        for (int start = 0; start < sorted.size(); start += sliceSize) {
+            List<T> slice = new ArrayList<>(sorted.subList(start, Math.min(start + sliceSize, sorted.size())));
+            slice.sort(Comparator.comparingDouble(y));
+            for (int from = 0; from < slice.size(); from += NODE_CAPACITY) {
+                result.add(slice.subList(from, Math.min(from + NODE_CAPACITY, slice.size())));
+            }
+        }
+        return result;
+    }
+
+    private static double centre(double min, double max) {
+        return (min + max) / 2;
+    }
+
+    private static final class Node {
+        private final double minLat;
+        private final double minLng;
+        private final double maxLat;
+        private final double maxLng;
+        private final Node[] children;
+        private final ZoneShape[] shapes;
+
+        private Node(double minLat, double minLng, double maxLat, double maxLng, Node[] children, ZoneShape[] shapes) {
+            this.minLat = minLat;
+            this.minLng = minLng;
+            this.maxLat = maxLat;
+            this.maxLng = maxLng;
+            this.children = children;
+            this.shapes = shapes;
+        }
+
+        static Node leaf(ZoneShape[] shapes) {
+            double minLat = Double.POSITIVE_INFINITY, minLng = Double.POSITIVE_INFINITY;
+            double maxLat = Double.NEGATIVE_INFINITY, maxLng = Double.NEGATIVE_INFINITY;
+            for (ZoneShape shape : shapes) {
+                minLat = Math.min(minLat, shape.minLat());
+                minLng = Math.min(minLng, shape.minLng());
+                maxLat = Math.max(maxLat, shape.maxLat());
+                maxLng = Math.max(maxLng, shape.maxLng());
+            }
+            return new Node(minLat, minLng, maxLat, maxLng, null, shapes);
+        }
+
+        static Node branch(Node[] children) {
+            double minLat = Double.POSITIVE_INFINITY, minLng = Double.POSITIVE_INFINITY;
+            double maxLat = Double.NEGATIVE_INFINITY, maxLng = Double.NEGATIVE_INFINITY;
+            for (Node child : children) {
+                minLat = Math.min(minLat, child.minLat);
+                minLng = Math.min(minLng, child.minLng);
+                maxLat = Math.max(maxLat, child.maxLat);
+                maxLng = Math.max(maxLng, child.maxLng);
+            }
+            return new Node(minLat, minLng, maxLat, maxLng, children, null);
+        }
+
+        boolean intersects(double minLat, double minLng, double maxLat, double maxLng) {
+            return this.minLat <= maxLat && this.maxLat >= minLat && this.minLng <= maxLng && this.maxLng >= minLng;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package droneportTeam05.service.geometry;
+
+import java.awt.geom.Area;
+import java.awt.geom.Rectangle2D;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Service;
+
+import droneportTeam05.controllers.dto.DroneOperationResult;
+import droneportTeam05.controllers.dto.ZoneConflict;
+import droneportTeam05.controllers.dto.ZoneConflictResult;
+import droneportTeam05.domain.zones.Point;
+import droneportTeam05.service.validation.ValidationException;
+
+/**
+ * Finds the zones an operation runs into. Zones are pruned on bounding boxes through the {@link ZoneIndex}
+ * and only the remaining candidates are intersected exactly.
+ */
+@Service
+public class ZoneConflictService {
+
+    private final ZoneIndex zoneIndex;
+
+    public ZoneConflictService(ZoneIndex zoneIndex) {
+        this.zoneIndex = zoneIndex;
+    }
+
+    public ZoneConflictResult findConflicts(List<Point> area, DroneOperationResult result) {
+        long startTime = System.nanoTime();
+        if (area == null || area.size() < 3) {
+            throw new ValidationException("Operation area needs at least three points");
+        }
+
+        double adjacentLateral = result.getAdjacentVolume().getLateralInMeter();
+        // The adjacent volume top is already measured from the ground, on top of the contingency volume
+        double requiredHeight = result.getAdjacentVolume().getVerticalInMeter();
+
+        LocalProjection projection = LocalProjection.around(area);
+        double[] lats = new double[area.size()];
+        double[] lngs = new double[area.size()];
+        for (int i = 0; i < area.size(); i++) {
+            lats[i] = area.get(i).getLat();
+            lngs[i] = area.get(i).getLng();
+        }
+        double[][] ring = project(lats, lngs, projection);
+        Area operationArea = new Area(PolygonBuffer.ring(ring[0], ring[1]));
+        Area footprint = PolygonBuffer.buffer(ring[0], ring[1], adjacentLateral);
+
+        Rectangle2D bounds = footprint.getBounds2D();
+        List<ZoneShape> candidates = zoneIndex.findCandidates(
+                projection.lat(bounds.getMinY()), projection.lng(bounds.getMinX()),
+                projection.lat(bounds.getMaxY()), projection.lng(bounds.getMaxX()));
+
+        ZoneConflictResult conflicts = new ZoneConflictResult();
+        conflicts.setRequiredHeight(requiredHeight);
+        conflicts.setAdjacentLateral(adjacentLateral);
+        conflicts.setCandidateCount(candidates.size());
+        for (ZoneShape candidate : candidates) {
+            ZoneConflict conflict = conflict(candidate, operationArea, footprint, requiredHeight, projection);
+            if (conflict != null) {
+                conflicts.getConflicts().add(conflict);
+            }
+        }
+        conflicts.getConflicts().sort(Comparator.comparing(ZoneConflict::getZoneName));
+        conflicts.setCalculationTimeMicros(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
+        return conflicts;
+    }
+
+    private ZoneConflict conflict(ZoneShape zone, Area operationArea, Area footprint, double requiredHeight,
+                                  LocalProjection projection) {
+        double[][] ring = project(zone.lats(), zone.lngs(), projection);
+        Area zoneArea = new Area(PolygonBuffer.ring(ring[0], ring[1]));
+
+        Area overlap = new Area(footprint);
+        overlap.intersect(zoneArea);
+        double overlapArea = GeoJson.area(overlap);
+        if (overlapArea == 0) {
+            return null;
+        }
+
+        double operationOverlapArea = 0;
+        if (zoneArea.getBounds2D().intersects(operationArea.getBounds2D())) {
+            Area operationOverlap = new Area(operationArea);
+            operationOverlap.intersect(zoneArea);
+            operationOverlapArea = GeoJson.area(operationOverlap);
+        }
+
+        boolean lateral = operationOverlapArea > 0;
+        boolean vertical = zone.maxHeight() < requiredHeight;
+        if (!lateral && !vertical) {
+            return null;
+        }
+        return new ZoneConflict(zone.name(), zone.maxHeight(), lateral, vertical, operationOverlapArea, overlapArea);
+    }
+
+    private static double[][] project(double[] lats, double[] lngs, LocalProjection projection) {
+        int n = lats.length;
+        // Paths may be stored with an explicit closing point
+        if (n > 3 && lats[0] == lats[n - 1] && lngs[0] == lngs[n - 1]) {
+            n--;
+        }
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = projection.x(lngs[i]);
+            ys[i] = projection.y(lats[i]);
+        }
+        return new double[][] {xs, ys};
+    }
+}
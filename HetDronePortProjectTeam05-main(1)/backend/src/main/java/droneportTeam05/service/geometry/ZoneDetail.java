@@ -0,0 +1,81 @@
+package droneportTeam05.service.geometry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import droneportTeam05.domain.zones.Zone;
+import droneportTeam05.service.validation.ValidationException;
+
+/**
+ * Fixed levels of detail for zone outlines. Requests pick the coarsest level whose tolerance does not
+ * exceed what they asked for, so every simplified outline can be computed once and shared.
+ */
+public final class ZoneDetail {
+
+    // Tolerance in meters per level; level 0 is the stored geometry
+    public static final double[] TOLERANCES = {0, 5, 25, 100, 500, 2000};
+
+    public static final int MAX_ZOOM = 22;
+
+    // Ground size of a 256 px web map tile pixel at the equator for zoom 0
+    private static final double METERS_PER_PIXEL_AT_ZOOM_0 = 156543.03392;
+
+    private ZoneDetail() {
+    }
+
+    public static int levels() {
+        return TOLERANCES.length;
+    }
+
+    /**
+     * Resolves the optional tolerance (meters) and zoom parameters of a listing request to a tolerance,
+     * 0 meaning full detail. A zoom allows half a pixel of error.
+     */
+    public static double tolerance(Double tolerance, Integer zoom) {
+        if (tolerance != null && zoom != null) {
+            throw new ValidationException("Use either tolerance or zoom, not both");
+        }
+        if (tolerance != null) {
+            if (!Double.isFinite(tolerance) || tolerance < 0) {
+                throw new ValidationException("Tolerance must be zero or positive");
+            }
+            return tolerance;
+        }
+        if (zoom != null) {
+            if (zoom < 0 || zoom > MAX_ZOOM) {
+                throw new ValidationException("Zoom must be between 0 and " + MAX_ZOOM);
+            }
+            return METERS_PER_PIXEL_AT_ZOOM_0 / (1L << zoom) / 2;
+        }
+        return 0;
+    }
+
+    public static int level(double tolerance) {
+        int level = 0;
+        while (level + 1 < TOLERANCES.length && TOLERANCES[level + 1] <= tolerance) {
+            level++;
+        }
+        return level;
+    }
+
+    public static Zone simplify(Zone zone, int level) {
+        if (level == 0) {
+            return zone;
+        }
+        Zone simplified = new Zone(zone.getName(), PolygonSimplifier.simplify(zone.getPath(), TOLERANCES[level]),
+                zone.getMaxHeight());
+        simplified.setId(zone.getId());
+        return simplified;
+    }
+
+    public static List<Zone> simplify(List<Zone> zones, int level) {
+        if (level == 0) {
+            return zones;
+        }
+        List<Zone> simplified = new ArrayList<>(zones.size());
+        for (Zone zone : zones) {
+            simplified.add(simplify(zone, level));
+        }
+        return simplified;
+    }
+}
@@ -0,0 +1,128 @@
+package droneportTeam05.service.geometry;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import droneportTeam05.domain.zones.Zone;
+import droneportTeam05.repository.ZoneRepository;
+import droneportTeam05.service.ZoneChangedEvent;
+import droneportTeam05.service.validation.ValidationException;
+
+/**
+ * In-memory R-tree over the zone outlines. Built on first use and rebuilt after every zone change, so
+ * spatial queries never touch the database.
+ */
+@Service
+public class ZoneIndex {
+
+    private final ZoneRepository zoneRepository;
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public ZoneIndex(ZoneRepository zoneRepository) {
+        this.zoneRepository = zoneRepository;
+    }
+
+    // Ahead of listeners that cache query results, so they never re-query a stale tree
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onZoneChanged(ZoneChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    /**
+     * Incremented on every zone change; results obtained under different versions may disagree.
+     */
+    public long version() {
+        return version.get();
+    }
+
+    public List<Zone> findIntersecting(double minLat, double minLng, double maxLat, double maxLng) {
+        validateLatLng(minLat, minLng);
+        validateLatLng(maxLat, maxLng);
+        if (minLat > maxLat || minLng > maxLng) {
+            throw new ValidationException("Bounding box minimum must not exceed its maximum");
+        }
+        List<ZoneShape> matches = new ArrayList<>();
+        tree().search(minLat, minLng, maxLat, maxLng, shape -> {
+            if (shape.intersects(minLat, minLng, maxLat, maxLng)) {
+                matches.add(shape);
+            }
+        });
+        return toZones(matches);
+    }
+
+    public List<Zone> findContaining(double lat, double lng) {
+        validateLatLng(lat, lng);
+        List<ZoneShape> matches = new ArrayList<>();
+        tree().search(lat, lng, lat, lng, shape -> {
+            if (shape.contains(lat, lng)) {
+                matches.add(shape);
+            }
+        });
+        return toZones(matches);
+    }
+
+    // Bounding box candidates only, for callers that do their own exact refinement
+    public List<ZoneShape> findCandidates(double minLat, double minLng, double maxLat, double maxLng) {
+        List<ZoneShape> candidates = new ArrayList<>();
+        tree().search(minLat, minLng, maxLat, maxLng, candidates::add);
+        return candidates;
+    }
+
+    public int size() {
+        return tree().size();
+    }
+
+    StrTree tree() {
+        Snapshot current = snapshot;
+        if (current != null && current.version == version.get()) {
+            return current.tree;
+        }
+        synchronized (this) {
+            current = snapshot;
+            long target = version.get();
+            if (current == null || current.version != target) {
+                current = new Snapshot(target, load());
+                snapshot = current;
+            }
+            return current.tree;
+        }
+    }
+
+    private StrTree load() {
+        List<ZoneShape> shapes = new ArrayList<>();
+        for (Zone zone : zoneRepository.findAllWithPath()) {
+            ZoneShape shape = ZoneShape.of(zone);
+            if (shape.isPolygon()) {
+                shapes.add(shape);
+            }
+        }
+        return new StrTree(shapes);
+    }
+
+    private static List<Zone> toZones(List<ZoneShape> shapes) {
+        shapes.sort(Comparator.comparing(ZoneShape::name));
+        List<Zone> zones = new ArrayList<>(shapes.size());
+        for (ZoneShape shape : shapes) {
+            zones.add(shape.toZone());
+        }
+        return zones;
+    }
+
+    private static void validateLatLng(double lat, double lng) {
+        if (!(lat >= -90 && lat <= 90) || !(lng >= -180 && lng <= 180)) {
+            throw new ValidationException("Coordinates must be valid latitude and longitude values");
+        }
+    }
+
+    private record Snapshot(long version, StrTree tree) {
+    }
+}
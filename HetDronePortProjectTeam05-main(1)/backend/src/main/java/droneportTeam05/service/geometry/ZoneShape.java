@@ -0,0 +1,120 @@
+package droneportTeam05.service.geometry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import droneportTeam05.domain.zones.Point;
+import droneportTeam05.domain.zones.Zone;
+
+/**
+ * Immutable copy of a zone's outline and bounding box, detached from the persistence context so it can be
+ * shared between request threads.
+ */
+public record ZoneShape(Long id, String name, double maxHeight, double[] lats, double[] lngs,
+                        double minLat, double minLng, double maxLat, double maxLng) {
+
+    public static ZoneShape of(Zone zone) {
+        List<Point> path = zone.getPath();
+        int n = path.size();
+        double[] lats = new double[n];
+        double[] lngs = new double[n];
+        double minLat = Double.POSITIVE_INFINITY;
+        double minLng = Double.POSITIVE_INFINITY;
+        double maxLat = Double.NEGATIVE_INFINITY;
+        double maxLng = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            lats[i] = path.get(i).getLat();
+            lngs[i] = path.get(i).getLng();
+            minLat = Math.min(minLat, lats[i]);
+            minLng = Math.min(minLng, lngs[i]);
+            maxLat = Math.max(maxLat, lats[i]);
+            maxLng = Math.max(maxLng, lngs[i]);
+        }
+        return new ZoneShape(zone.getId(), zone.getName(), zone.getMaxHeight(), lats, lngs,
+                minLat, minLng, maxLat, maxLng);
+    }
+
+    public boolean isPolygon() {
+        return lats.length >= 3;
+    }
+
+    public boolean boundsIntersect(double minLat, double minLng, double maxLat, double maxLng) {
+        return this.minLat <= maxLat && this.maxLat >= minLat && this.minLng <= maxLng && this.maxLng >= minLng;
+    }
+
+    public boolean boundsContain(double lat, double lng) {
+        return minLat <= lat && lat <= maxLat && minLng <= lng && lng <= maxLng;
+    }
+
+    // Even-odd ray casting along the latitude of the point
+    public boolean contains(double lat, double lng) {
+        if (!isPolygon() || !boundsContain(lat, lng)) {
+            return false;
+        }
+        boolean inside = false;
+        for (int i = 0, j = lats.length - 1; i < lats.length; j = i++) {
+            if ((lats[i] > lat) != (lats[j] > lat)
+                    && lng < (lngs[j] - lngs[i]) * (lat - lats[i]) / (lats[j] - lats[i]) + lngs[i]) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    public boolean intersects(double minLat, double minLng, double maxLat, double maxLng) {
+        if (!isPolygon() || !boundsIntersect(minLat, minLng, maxLat, maxLng)) {
+            return false;
+        }
+        for (int i = 0; i < lats.length; i++) {
+            if (minLat <= lats[i] && lats[i] <= maxLat && minLng <= lngs[i] && lngs[i] <= maxLng) {
+                return true;
+            }
+        }
+        // No vertex inside the rectangle: either the rectangle lies inside the polygon or an edge crosses it
+        if (contains(minLat, minLng)) {
+            return true;
+        }
+        for (int i = 0, j = lats.length - 1; i < lats.length; j = i++) {
+            if (edgeCrossesRectangle(lats[j], lngs[j], lats[i], lngs[i], minLat, minLng, maxLat, maxLng)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Zone toZone() {
+        List<Point> path = new ArrayList<>(lats.length);
+        for (int i = 0; i < lats.length; i++) {
+            path.add(new Point(lats[i], lngs[i]));
+        }
+        Zone zone = new Zone(name, path, maxHeight);
+        zone.setId(id);
+        return zone;
+    }
+
+    // Liang-Barsky clip of the segment against the rectangle
+    private static boolean edgeCrossesRectangle(double lat1, double lng1, double lat2, double lng2,
+                                                double minLat, double minLng, double maxLat, double maxLng) {
+        double dLat = lat2 - lat1;
+        double dLng = lng2 - lng1;
+        double[] p = {-dLng, dLng, -dLat, dLat};
+        double[] q = {lng1 - minLng, maxLng - lng1, lat1 - minLat, maxLat - lat1};
+        double enter = 0;
+        double exit = 1;
+        for (int k = 0; k < 4; k++) {
+            if (p[k] == 0) {
+                if (q[k] < 0) {
+                    return false;
+                }
+            } else {
+                double t = q[k] / p[k];
+                if (p[k] < 0) {
+                    enter = Math.max(enter, t);
+                } else {
+                    exit = Math.min(exit, t);
+                }
+            }
+        }
+        return enter <= exit;
+    }
+}
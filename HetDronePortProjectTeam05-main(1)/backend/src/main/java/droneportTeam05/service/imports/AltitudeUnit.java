@@ -0,0 +1,41 @@
+package droneportTeam05.service.imports;
+
+import java.util.Locale;
+
+import droneportTeam05.service.validation.ValidationException;
+
+/**
+ * Altitude units found in airspace files. Zone heights are stored in meters.
+ */
+public enum AltitudeUnit {
+    METERS(1),
+    FEET(0.3048),
+    FLIGHT_LEVEL(100 * 0.3048);
+
+    private final double meters;
+
+    AltitudeUnit(double meters) {
+        this.meters = meters;
+    }
+
+    public double toMeters(double value) {
+        return value * meters;
+    }
+
+    /**
+     * Accepts the spellings used by GeoJSON, KML and OpenAIP exports, including the numeric unit codes
+     * of the OpenAIP API (0 = m, 1 = ft, 6 = FL).
+     */
+    public static AltitudeUnit parse(String value) {
+        switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "m", "meter", "meters", "metre", "metres", "0":
+                return METERS;
+            case "f", "ft", "feet", "foot", "1":
+                return FEET;
+            case "fl", "flight_level", "flightlevel", "6":
+                return FLIGHT_LEVEL;
+            default:
+                throw new ValidationException("Unknown altitude unit " + value);
+        }
+    }
+}
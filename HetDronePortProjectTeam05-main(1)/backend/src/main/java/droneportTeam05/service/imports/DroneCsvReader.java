@@ -0,0 +1,172 @@
+package droneportTeam05.service.imports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import droneportTeam05.domain.Drone;
+import droneportTeam05.domain.aircraft.UAV;
+import droneportTeam05.domain.aircraft.UAVType;
+import droneportTeam05.domain.risk.GroundRiskBuffer;
+import droneportTeam05.domain.risk.TerminationType;
+import droneportTeam05.domain.volume.ContingencyManoeuvre;
+import droneportTeam05.domain.volume.LateralContingencyVolume;
+import droneportTeam05.domain.volume.VerticalContingencyVolume;
+import droneportTeam05.service.validation.ValidationException;
+
+/**
+ * Reads one drone per CSV line. Columns are matched on the header, so their order is free and optional
+ * columns may be left out; quoted fields may contain commas but not line breaks.
+ */
+public final class DroneCsvReader {
+
+    static final List<String> REQUIRED_COLUMNS = List.of(
+            "name", "type", "maxOperationalSpeed", "maxCharacteristicDimension",
+            "lateralManoeuvre", "verticalManoeuvre", "termination");
+
+    private DroneCsvReader() {
+    }
+
+    public static List<ParsedDrone> read(Reader input, int maxRows) throws IOException {
+        BufferedReader reader = new BufferedReader(input);
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            return List.of();
+        }
+        // Spreadsheet exports often start with a byte order mark
+        if (headerLine.startsWith("\uFEFF")) {
+            headerLine = headerLine.substring(1);
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = split(headerLine);
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new ValidationException("Missing CSV column " + column);
+            }
+        }
+
+        List<ParsedDrone> drones = new ArrayList<>();
+        String line;
+        int row = 0;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (++row > maxRows) {
+                throw new ValidationException("Imports are limited to " + maxRows + " drones");
+            }
+            try {
+                drones.add(new ParsedDrone(row, toDrone(new Row(columns, split(line))), null));
+            } catch (IllegalArgumentException e) {
+                drones.add(new ParsedDrone(row, null, e.getMessage()));
+            }
+        }
+        return drones;
+    }
+
+    private static Drone toDrone(Row row) {
+        UAV uav = new UAV(row.enumValue("type", UAVType.class),
+                row.number("maxOperationalSpeed", 0),
+                row.number("maxCharacteristicDimension", 0),
+                row.text("altitudeMeasurementErrorType", "barometric"),
+                (int) row.number("gpsInaccuracy", 0),
+                (int) row.number("positionHoldingError", 0),
+                (int) row.number("mapError", 0),
+                row.number("responseTime", 0));
+
+        LateralContingencyVolume lateralCV =
+                new LateralContingencyVolume(row.enumValue("lateralManoeuvre", ContingencyManoeuvre.class));
+        lateralCV.setRollAngle((int) row.number("rollAngle", lateralCV.getRollAngle()));
+        lateralCV.setPitchAngle((int) row.number("pitchAngle", lateralCV.getPitchAngle()));
+        lateralCV.setTimeToOpenParachute(row.number("lateralTimeToOpenParachute", 0));
+
+        VerticalContingencyVolume verticalCV =
+                new VerticalContingencyVolume(row.enumValue("verticalManoeuvre", ContingencyManoeuvre.class));
+        verticalCV.setTimeToOpenParachute(row.number("verticalTimeToOpenParachute", 0));
+
+        GroundRiskBuffer grb = new GroundRiskBuffer(row.enumValue("termination", TerminationType.class));
+        grb.setTimeToOpenParachute(row.number("grbTimeToOpenParachute", 0));
+        grb.setMaxPermissibleWindSpeed(row.number("maxPermissibleWindSpeed", 0));
+        grb.setRateOfDescent(row.number("rateOfDescent", 0));
+        grb.setGlideRatio(row.number("glideRatio", 0));
+
+        return new Drone(row.text("name", null), uav, lateralCV, verticalCV, grb);
+    }
+
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    public record ParsedDrone(int row, Drone drone, String errorMessage) {
+    }
+
+    private record Row(Map<String, Integer> columns, List<String> fields) {
+
+        String text(String column, String defaultValue) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size() || fields.get(index).isBlank()) {
+                return defaultValue;
+            }
+            return fields.get(index).trim();
+        }
+
+        double number(String column, double defaultValue) {
+            String value = text(column, null);
+            if (value == null) {
+                return defaultValue;
+            }
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number for " + column + ": " + value);
+            }
+        }
+
+        <E extends Enum<E>> E enumValue(String column, Class<E> type) {
+            String value = text(column, null);
+            if (value == null) {
+                throw new IllegalArgumentException("Missing value for " + column);
+            }
+            try {
+                return Enum.valueOf(type, value.toUpperCase(Locale.ROOT).replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid value for " + column + ": " + value);
+            }
+        }
+    }
+}
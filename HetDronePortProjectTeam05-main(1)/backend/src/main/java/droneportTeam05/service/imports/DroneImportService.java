@@ -0,0 +1,236 @@
+package droneportTeam05.service.imports;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import droneportTeam05.controllers.dto.ImportResult;
+import droneportTeam05.controllers.dto.ImportRowResult;
+import droneportTeam05.controllers.dto.ImportStatus;
+import droneportTeam05.domain.Drone;
+import droneportTeam05.repository.DroneRepository;
+import droneportTeam05.service.CatalogVersion;
+import droneportTeam05.service.imports.DroneCsvReader.ParsedDrone;
+import droneportTeam05.service.validation.DroneOperationValidationService;
+import droneportTeam05.service.validation.ValidationException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+
+/**
+ * Upserts a manufacturer catalog by drone name. Every row is validated first; the valid ones are written
+ * in a single transaction, looking existing drones up once per chunk instead of once per drone. The ids
+ * are IDENTITY columns, so Hibernate still inserts each entity with its own statement.
+ */
+@Service
+public class DroneImportService {
+
+    private final DroneRepository droneRepository;
+    private final DroneOperationValidationService validationService;
+    private final ObjectMapper objectMapper;
+    private final CatalogVersion catalogVersion;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxRows;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public DroneImportService(DroneRepository droneRepository,
+                              DroneOperationValidationService validationService,
+                              ObjectMapper objectMapper,
+                              CatalogVersion catalogVersion,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${droneport.import.chunk-size:500}") int chunkSize,
+                              @Value("${droneport.import.max-rows:20000}") int maxRows) {
+        this.droneRepository = droneRepository;
+        this.validationService = validationService;
+        this.objectMapper = objectMapper;
+        this.catalogVersion = catalogVersion;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxRows = maxRows;
+    }
+
+    public ImportResult importCsv(InputStream input) throws IOException {
+        long startTime = System.currentTimeMillis();
+        List<ParsedDrone> rows = DroneCsvReader.read(new InputStreamReader(input, StandardCharsets.UTF_8), maxRows);
+        return importRows(rows, startTime);
+    }
+
+    public ImportResult importJson(InputStream input) throws IOException {
+        long startTime = System.currentTimeMillis();
+        JsonNode array;
+        try {
+            array = objectMapper.readTree(input);
+        } catch (JsonProcessingException e) {
+            throw new ValidationException("Malformed JSON: " + e.getOriginalMessage());
+        }
+        if (array == null || !array.isArray()) {
+            throw new ValidationException("Expected a JSON array of drones");
+        }
+        if (array.size() > maxRows) {
+            throw new ValidationException("Imports are limited to " + maxRows + " drones");
+        }
+
+        List<ParsedDrone> rows = new ArrayList<>(array.size());
+        for (int i = 0; i < array.size(); i++) {
+            try {
+                rows.add(new ParsedDrone(i + 1, objectMapper.treeToValue(array.get(i), Drone.class), null));
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                rows.add(new ParsedDrone(i + 1, null, "Invalid drone: " + e.getMessage()));
+            }
+        }
+        return importRows(rows, startTime);
+    }
+
+    ImportResult importRows(List<ParsedDrone> rows, long startTime) {
+        ImportRowResult[] results = new ImportRowResult[rows.size()];
+        List<ParsedDrone> valid = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            ParsedDrone row = rows.get(i);
+            String name = row.drone() != null ? row.drone().getName() : null;
+            String error = row.errorMessage() != null ? row.errorMessage() : validate(row.drone());
+            if (error == null && !names.add(name)) {
+                error = "Duplicate drone name in import";
+            }
+            if (error != null) {
+                results[i] = new ImportRowResult(row.row(), name, ImportStatus.INVALID, error);
+            } else {
+                valid.add(row);
+            }
+        }
+
+        Map<Integer, ImportStatus> written = new HashMap<>();
+        if (!valid.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> upsert(valid, written));
+            } catch (DataAccessException | PersistenceException e) {
+                // The flush on the shared EntityManager is not translated, so a unique violation on the name,
+                // e.g. from a concurrent create, arrives as a plain PersistenceException
+                String message = "Import rolled back: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+                for (int i = 0; i < rows.size(); i++) {
+                    if (results[i] == null) {
+                        ParsedDrone row = rows.get(i);
+                        results[i] = new ImportRowResult(row.row(), row.drone().getName(), ImportStatus.FAILED, message);
+                    }
+                }
+            }
+        }
+
+        ImportResult result = new ImportResult();
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRowResult rowResult = results[i];
+            if (rowResult == null) {
+                ParsedDrone row = rows.get(i);
+                rowResult = new ImportRowResult(row.row(), row.drone().getName(), written.get(row.row()), null);
+            }
+            result.add(rowResult);
+        }
+        result.setDurationMillis(System.currentTimeMillis() - startTime);
+        return result;
+    }
+
+    private String validate(Drone drone) {
+        if (drone.getName() == null || drone.getName().isBlank()) {
+            return "Drone name is required";
+        }
+        if (drone.getUav() == null || drone.getUav().getType() == null) {
+            return "UAV specification is required";
+        }
+        if (drone.getLateralContingencyVolume() == null) {
+            return "Lateral contingency volume configuration is required";
+        }
+        if (drone.getVerticalContingencyVolume() == null) {
+            return "Vertical contingency volume configuration is required";
+        }
+        if (drone.getGroundRiskBuffer() == null) {
+            return "Ground risk buffer configuration is required";
+        }
+        try {
+            validationService.validateDroneConfiguration(drone.getUav(), drone.getLateralContingencyVolume(),
+                    drone.getGroundRiskBuffer());
+        } catch (ValidationException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    private void upsert(List<ParsedDrone> rows, Map<Integer, ImportStatus> written) {
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            List<ParsedDrone> chunk = rows.subList(from, Math.min(from + chunkSize, rows.size()));
+            List<String> names = new ArrayList<>(chunk.size());
+            for (ParsedDrone row : chunk) {
+                names.add(row.drone().getName());
+            }
+            Map<String, Drone> existing = new HashMap<>();
+            for (Drone drone : droneRepository.findAllWithConfigurationByNameIn(names)) {
+                existing.put(drone.getName(), drone);
+            }
+
+            for (ParsedDrone row : chunk) {
+                Drone incoming = row.drone();
+                clearIds(incoming);
+                Drone current = existing.get(incoming.getName());
+                if (current == null) {
+                    entityManager.persist(incoming);
+                    written.put(row.row(), ImportStatus.CREATED);
+                } else {
+                    replaceConfiguration(current, incoming);
+                    written.put(row.row(), ImportStatus.UPDATED);
+                }
+            }
+            // Surfaces constraint violations per chunk and keeps the persistence context from growing with the file
+            entityManager.flush();
+            entityManager.clear();
+        }
+        catalogVersion.bumpAfterCommit();
+    }
+
+    // Same effect as DroneService.updateDrone: the incoming parts take over the ids of the stored ones, and
+    // since those are already loaded the merge needs no further selects
+    private void replaceConfiguration(Drone current, Drone incoming) {
+        if (current.getUav() != null) {
+            incoming.getUav().setId(current.getUav().getId());
+        }
+        if (current.getLateralContingencyVolume() != null) {
+            incoming.getLateralContingencyVolume().setId(current.getLateralContingencyVolume().getId());
+        }
+        if (current.getVerticalContingencyVolume() != null) {
+            incoming.getVerticalContingencyVolume().setId(current.getVerticalContingencyVolume().getId());
+        }
+        if (current.getGroundRiskBuffer() != null) {
+            incoming.getGroundRiskBuffer().setId(current.getGroundRiskBuffer().getId());
+        }
+        incoming.setId(current.getId());
+        entityManager.merge(incoming);
+    }
+
+    // Ids in an uploaded file must never point the import at unrelated rows
+    private static void clearIds(Drone drone) {
+        drone.setId(null);
+        drone.getUav().setId(null);
+        drone.getLateralContingencyVolume().setId(null);
+        drone.getVerticalContingencyVolume().setId(null);
+        drone.getGroundRiskBuffer().setId(null);
+    }
+}
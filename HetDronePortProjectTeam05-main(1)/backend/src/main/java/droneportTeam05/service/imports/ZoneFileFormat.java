@@ -0,0 +1,19 @@
+package droneportTeam05.service.imports;
+
+import java.util.Locale;
+
+import droneportTeam05.service.validation.ValidationException;
+
+public enum ZoneFileFormat {
+    GEOJSON,
+    KML,
+    OPENAIP;
+
+    public static ZoneFileFormat parse(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Format must be geojson, kml or openaip");
+        }
+    }
+}
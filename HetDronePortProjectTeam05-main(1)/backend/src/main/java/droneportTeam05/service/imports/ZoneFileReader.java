@@ -0,0 +1,365 @@
+package droneportTeam05.service.imports;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingJsonFactory;
+
+import droneportTeam05.domain.zones.Point;
+import droneportTeam05.domain.zones.Zone;
+import droneportTeam05.service.validation.ValidationException;
+
+/**
+ * Stream-parses airspace files into zones and hands them to a sink one at a time, so only the zone being
+ * read is held in memory. A zone that cannot be used is passed on with an error instead; a file that is
+ * not well-formed ends the read with a {@link ValidationException}.
+ */
+public final class ZoneFileReader {
+
+    static final int MAX_NAME_LENGTH = 255;
+
+    private static final JsonFactory JSON_FACTORY = new MappingJsonFactory();
+    private static final XMLInputFactory XML_FACTORY = createXmlFactory();
+
+    private ZoneFileReader() {
+    }
+
+    public static void read(ZoneFileFormat format, InputStream input, AltitudeUnit defaultUnit,
+                            Consumer<ParsedZone> sink) throws IOException {
+        switch (format) {
+            case GEOJSON -> readGeoJson(input, defaultUnit, sink);
+            case KML -> readKml(input, defaultUnit, sink);
+            case OPENAIP -> readOpenAip(input, sink);
+        }
+    }
+
+    private static void readGeoJson(InputStream input, AltitudeUnit defaultUnit, Consumer<ParsedZone> sink)
+            throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(input)) {
+            boolean features = false;
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    if (parser.nextToken() == JsonToken.START_ARRAY && "features".equals(field)) {
+                        features = true;
+                        int row = 0;
+                        JsonToken token;
+                        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                            if (token == null) {
+                                throw new ValidationException("Malformed GeoJSON: unexpected end of input");
+                            }
+                            if (token != JsonToken.START_OBJECT) {
+                                // Reported like any other bad feature; the ones after it are still read
+                                parser.skipChildren();
+                                sink.accept(new ParsedZone(++row, null, null, "Feature must be a JSON object"));
+                                continue;
+                            }
+                            JsonNode feature = parser.readValueAsTree();
+                            String name = feature.path("properties").path("name").asText(null);
+                            sink.accept(parse(++row, name, () -> fromFeature(name, feature, defaultUnit)));
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+            if (!features) {
+                throw new ValidationException("Expected a GeoJSON FeatureCollection");
+            }
+        } catch (JsonProcessingException e) {
+            throw new ValidationException("Malformed GeoJSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private static Zone fromFeature(String name, JsonNode feature, AltitudeUnit defaultUnit) {
+        JsonNode geometry = feature.path("geometry");
+        if (!"Polygon".equals(geometry.path("type").asText())) {
+            throw new IllegalArgumentException("Only Polygon geometries can be imported");
+        }
+        List<Point> path = new ArrayList<>();
+        for (JsonNode position : geometry.path("coordinates").path(0)) {
+            if (!position.path(0).isNumber() || !position.path(1).isNumber()) {
+                throw new IllegalArgumentException("Invalid coordinates");
+            }
+            path.add(new Point(position.get(1).doubleValue(), position.get(0).doubleValue()));
+        }
+
+        JsonNode properties = feature.path("properties");
+        double maxHeight;
+        if (properties.path("maxHeight").isNumber()) {
+            JsonNode unit = properties.path("unit");
+            maxHeight = (unit.isTextual() || unit.isNumber() ? AltitudeUnit.parse(unit.asText()) : defaultUnit)
+                    .toMeters(properties.get("maxHeight").doubleValue());
+        } else if (properties.path("upperLimit").path("value").isNumber()) {
+            // OpenAIP exports describe the ceiling as {"value": 65, "unit": 6}
+            JsonNode upperLimit = properties.get("upperLimit");
+            maxHeight = AltitudeUnit.parse(upperLimit.path("unit").asText("m"))
+                    .toMeters(upperLimit.get("value").doubleValue());
+        } else {
+            throw new IllegalArgumentException("Missing maxHeight");
+        }
+        return toZone(name, maxHeight, path);
+    }
+
+    private static void readKml(InputStream input, AltitudeUnit defaultUnit, Consumer<ParsedZone> sink) {
+        readXml(input, "Placemark", "KML", (reader, row) -> {
+            String name = null;
+            String coordinates = null;
+            String dataName = null;
+            Map<String, String> data = new HashMap<>();
+            int polygons = 0;
+            boolean outerBoundary = false;
+
+            int depth = 1;
+            while (depth > 0) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    switch (reader.getLocalName()) {
+                        case "name" -> {
+                            String text = reader.getElementText();
+                            if (name == null) {
+                                name = text.trim();
+                            }
+                            continue;
+                        }
+                        case "coordinates" -> {
+                            String text = reader.getElementText();
+                            if (outerBoundary && coordinates == null) {
+                                coordinates = text;
+                            }
+                            continue;
+                        }
+                        case "value" -> {
+                            String text = reader.getElementText();
+                            if (dataName != null) {
+                                data.put(dataName, text.trim());
+                            }
+                            continue;
+                        }
+                        case "SimpleData" -> {
+                            String key = reader.getAttributeValue(null, "name");
+                            data.put(key, reader.getElementText().trim());
+                            continue;
+                        }
+                        case "Polygon" -> polygons++;
+                        case "outerBoundaryIs" -> outerBoundary = true;
+                        case "Data" -> dataName = reader.getAttributeValue(null, "name");
+                        default -> {
+                        }
+                    }
+                    depth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                    switch (reader.getLocalName()) {
+                        case "outerBoundaryIs" -> outerBoundary = false;
+                        case "Data" -> dataName = null;
+                        default -> {
+                        }
+                    }
+                }
+            }
+
+            String zoneName = name;
+            String ring = coordinates;
+            int polygonCount = polygons;
+            return parse(row, zoneName, () -> {
+                if (polygonCount != 1 || ring == null) {
+                    throw new IllegalArgumentException("Only placemarks with a single Polygon can be imported");
+                }
+                String maxHeight = data.get("maxHeight");
+                if (maxHeight == null) {
+                    throw new IllegalArgumentException("Missing maxHeight");
+                }
+                AltitudeUnit unit = data.containsKey("unit") ? AltitudeUnit.parse(data.get("unit")) : defaultUnit;
+                return toZone(zoneName, unit.toMeters(number(maxHeight)), kmlCoordinates(ring));
+            });
+        }, sink);
+    }
+
+    // Legacy OpenAIP airspace format: <ASP><NAME/><ALTLIMIT_TOP><ALT UNIT="F"/></ALTLIMIT_TOP><GEOMETRY><POLYGON/>
+    private static void readOpenAip(InputStream input, Consumer<ParsedZone> sink) {
+        readXml(input, "ASP", "OpenAIP", (reader, row) -> {
+            String name = null;
+            String altitude = null;
+            String unit = null;
+            String polygon = null;
+            boolean top = false;
+
+            int depth = 1;
+            while (depth > 0) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    switch (reader.getLocalName()) {
+                        case "NAME" -> {
+                            name = reader.getElementText().trim();
+                            continue;
+                        }
+                        case "ALT" -> {
+                            String alt = reader.getAttributeValue(null, "UNIT");
+                            String text = reader.getElementText();
+                            if (top) {
+                                unit = alt;
+                                altitude = text;
+                            }
+                            continue;
+                        }
+                        case "POLYGON" -> {
+                            polygon = reader.getElementText();
+                            continue;
+                        }
+                        case "ALTLIMIT_TOP" -> top = true;
+                        default -> {
+                        }
+                    }
+                    depth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                    if ("ALTLIMIT_TOP".equals(reader.getLocalName())) {
+                        top = false;
+                    }
+                }
+            }
+
+            String zoneName = name;
+            String maxHeight = altitude;
+            String altitudeUnit = unit;
+            String ring = polygon;
+            return parse(row, zoneName, () -> {
+                if (maxHeight == null || altitudeUnit == null) {
+                    throw new IllegalArgumentException("Missing ALTLIMIT_TOP");
+                }
+                if (ring == null) {
+                    throw new IllegalArgumentException("Missing POLYGON");
+                }
+                return toZone(zoneName, AltitudeUnit.parse(altitudeUnit).toMeters(number(maxHeight)),
+                        openAipCoordinates(ring));
+            });
+        }, sink);
+    }
+
+    private static void readXml(InputStream input, String element, String format, ElementReader elementReader,
+                                Consumer<ParsedZone> sink) {
+        XMLStreamReader reader = null;
+        try {
+            reader = XML_FACTORY.createXMLStreamReader(input);
+            int row = 0;
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && element.equals(reader.getLocalName())) {
+                    sink.accept(elementReader.read(reader, ++row));
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new ValidationException("Malformed " + format + ": " + e.getMessage());
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ignored) {
+                    // Nothing left to release
+                }
+            }
+        }
+    }
+
+    // "lng,lat[,alt]" tuples separated by whitespace
+    private static List<Point> kmlCoordinates(String text) {
+        List<Point> path = new ArrayList<>();
+        for (String tuple : text.trim().split("\\s+")) {
+            String[] values = tuple.split(",");
+            if (values.length < 2) {
+                throw new IllegalArgumentException("Invalid coordinates");
+            }
+            path.add(new Point(number(values[1]), number(values[0])));
+        }
+        return path;
+    }
+
+    // "lng lat" pairs separated by commas
+    private static List<Point> openAipCoordinates(String text) {
+        List<Point> path = new ArrayList<>();
+        for (String pair : text.trim().split(",")) {
+            String[] values = pair.trim().split("\\s+");
+            if (values.length < 2) {
+                throw new IllegalArgumentException("Invalid coordinates");
+            }
+            path.add(new Point(number(values[1]), number(values[0])));
+        }
+        return path;
+    }
+
+    private static double number(String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number " + value.trim());
+        }
+    }
+
+    static Zone toZone(String name, double maxHeight, List<Point> path) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Zone name is required");
+        }
+        if (name.trim().length() > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("Zone name is longer than " + MAX_NAME_LENGTH + " characters");
+        }
+        if (!Double.isFinite(maxHeight) || maxHeight < 0) {
+            throw new IllegalArgumentException("Invalid maxHeight");
+        }
+        // Files close their rings, stored zones do not repeat the first point
+        Point first = path.isEmpty() ? null : path.get(0);
+        Point last = path.isEmpty() ? null : path.get(path.size() - 1);
+        if (path.size() > 1 && first.getLat() == last.getLat() && first.getLng() == last.getLng()) {
+            path.remove(path.size() - 1);
+        }
+        if (path.size() < 3) {
+            throw new IllegalArgumentException("A zone needs at least three points");
+        }
+        for (Point point : path) {
+            if (Math.abs(point.getLat()) > 90 || Math.abs(point.getLng()) > 180) {
+                throw new IllegalArgumentException("Coordinates out of range");
+            }
+        }
+        return new Zone(name.trim(), path, maxHeight);
+    }
+
+    private static ParsedZone parse(int row, String name, Supplier<Zone> zone) {
+        try {
+            return new ParsedZone(row, name, zone.get(), null);
+        } catch (IllegalArgumentException | ValidationException e) {
+            return new ParsedZone(row, name, null, e.getMessage());
+        }
+    }
+
+    private static XMLInputFactory createXmlFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // Uploaded files must not pull in external entities
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    @FunctionalInterface
+    private interface ElementReader {
+        // Called on the start tag; returns once the matching end tag has been consumed
+        ParsedZone read(XMLStreamReader reader, int row) throws XMLStreamException;
+    }
+
+    public record ParsedZone(int row, String name, Zone zone, String errorMessage) {
+    }
+}
@@ -0,0 +1,153 @@
+package droneportTeam05.service.imports;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import droneportTeam05.controllers.dto.ImportResult;
+import droneportTeam05.controllers.dto.ImportRowResult;
+import droneportTeam05.controllers.dto.ImportStatus;
+import droneportTeam05.domain.zones.Zone;
+import droneportTeam05.repository.ZoneRepository;
+import droneportTeam05.service.ZoneService;
+import droneportTeam05.service.imports.ZoneFileReader.ParsedZone;
+import droneportTeam05.service.validation.ValidationException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+
+/**
+ * Upserts zones by name from an airspace file while it is being read. Zones are written in chunks, each in
+ * its own transaction, so memory stays bounded by the chunk size however large the file is. Only rows
+ * that were not written are listed in the result.
+ */
+@Service
+public class ZoneImportService {
+
+    // zone_points rows per JDBC batch; zones themselves have IDENTITY ids and are inserted one at a time
+    private static final int POINT_BATCH_SIZE = 50;
+
+    private final ZoneRepository zoneRepository;
+    private final ZoneService zoneService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ZoneImportService(ZoneRepository zoneRepository,
+                             ZoneService zoneService,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${droneport.import.chunk-size:500}") int chunkSize) {
+        this.zoneRepository = zoneRepository;
+        this.zoneService = zoneService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    public ImportResult importZones(InputStream input, ZoneFileFormat format, AltitudeUnit defaultUnit)
+            throws IOException {
+        long startTime = System.currentTimeMillis();
+        ImportResult result = new ImportResult();
+        List<ParsedZone> chunk = new ArrayList<>(chunkSize);
+        Set<String> names = new HashSet<>();
+        int[] lastRow = new int[1];
+
+        try {
+            try {
+                ZoneFileReader.read(format, input, defaultUnit, parsed -> {
+                    lastRow[0] = parsed.row();
+                    if (parsed.errorMessage() != null) {
+                        result.add(new ImportRowResult(parsed.row(), parsed.name(), ImportStatus.INVALID,
+                                parsed.errorMessage()));
+                    } else if (!names.add(parsed.zone().getName())) {
+                        result.add(new ImportRowResult(parsed.row(), parsed.name(), ImportStatus.INVALID,
+                                "Duplicate zone name in import"));
+                    } else {
+                        chunk.add(parsed);
+                        if (chunk.size() == chunkSize) {
+                            write(chunk, result);
+                            chunk.clear();
+                        }
+                    }
+                });
+            } catch (ValidationException e) {
+                if (lastRow[0] == 0) {
+                    throw e;
+                }
+                // Like a truncated stream: what was read before the error is still imported
+                write(chunk, result);
+                result.add(new ImportRowResult(lastRow[0] + 1, null, ImportStatus.FAILED, e.getMessage()));
+                result.setDurationMillis(System.currentTimeMillis() - startTime);
+                return result;
+            }
+            write(chunk, result);
+        } finally {
+            // Chunks are committed as they go, so whatever ends the import the caches must see them
+            if (result.getCreated() + result.getUpdated() > 0) {
+                zoneService.zonesImported();
+            }
+        }
+        result.setDurationMillis(System.currentTimeMillis() - startTime);
+        return result;
+    }
+
+    private void write(List<ParsedZone> chunk, ImportResult result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            List<ImportStatus> statuses = transactionTemplate.execute(status -> upsert(chunk));
+            statuses.forEach(result::count);
+        } catch (DataAccessException | PersistenceException e) {
+            // The flush on the shared EntityManager is not translated, so constraint violations arrive as a plain
+            // PersistenceException; the chunks committed before this one stay imported
+            String message = "Chunk rolled back: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            for (ParsedZone row : chunk) {
+                result.add(new ImportRowResult(row.row(), row.name(), ImportStatus.FAILED, message));
+            }
+        }
+    }
+
+    private List<ImportStatus> upsert(List<ParsedZone> chunk) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(POINT_BATCH_SIZE);
+        List<String> names = new ArrayList<>(chunk.size());
+        for (ParsedZone row : chunk) {
+            names.add(row.zone().getName());
+        }
+        Map<String, Zone> existing = new HashMap<>();
+        for (Zone zone : zoneRepository.findAllWithPathByNameIn(names)) {
+            existing.put(zone.getName(), zone);
+        }
+
+        List<ImportStatus> statuses = new ArrayList<>(chunk.size());
+        for (ParsedZone row : chunk) {
+            Zone current = existing.get(row.zone().getName());
+            if (current == null) {
+                entityManager.persist(row.zone());
+                statuses.add(ImportStatus.CREATED);
+            } else {
+                current.setMaxHeight(row.zone().getMaxHeight());
+                current.setPath(row.zone().getPath());
+                statuses.add(ImportStatus.UPDATED);
+            }
+        }
+        // The zone_points rows go out in JDBC batches; clearing keeps the persistence context chunk-sized
+        entityManager.flush();
+        entityManager.clear();
+        return statuses;
+    }
+}
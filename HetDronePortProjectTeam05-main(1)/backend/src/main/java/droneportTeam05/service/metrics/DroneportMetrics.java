@@ -0,0 +1,135 @@
+package droneportTeam05.service.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Timers and error counters for the calculation, validation and mail code. Meters are registered on the
+ * global registry, which Spring Boot links to the Prometheus registry; where no registry is linked, as in
+ * plain unit tests, they record nothing. Percentiles and histogram buckets are configured in
+ * application.properties rather than per meter. The meters on the calculation path are registered once and
+ * kept; the global registry hands them on to registries linked later.
+ */
+public final class DroneportMetrics {
+
+    public static final String CALCULATION = "droneport.calculation";
+    public static final String CALCULATION_STAGE = "droneport.calculation.stage";
+    public static final String VALIDATION_RULE = "droneport.validation.rule";
+    public static final String MAIL_SEND = "droneport.mail.send";
+    public static final String MAIL_SEND_BATCH = "droneport.mail.send.batch";
+    public static final String ERRORS = "droneport.errors";
+
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+
+    private DroneportMetrics() {
+    }
+
+    public static Timer.Sample start() {
+        return Timer.start(Metrics.globalRegistry);
+    }
+
+    public static void stop(Timer.Sample sample, String name, String... tags) {
+        sample.stop(Metrics.timer(name, tags));
+    }
+
+    /**
+     * Records one operation calculation, started at {@code start} from {@link System#nanoTime()}.
+     */
+    public static void calculated(long start, boolean cacheHit) {
+        Timer timer = cacheHit ? CalculationTimers.HIT : CalculationTimers.MISS;
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    public static void countError(String source, Throwable error) {
+        Metrics.counter(ERRORS, "source", source, "type", error.getClass().getSimpleName()).increment();
+    }
+
+    /**
+     * A stage of an operation calculation. A failing stage is timed with outcome "error" and counted as an
+     * error with source {@code "stage." + name}.
+     */
+    public enum Stage {
+        LATERAL_CV("lateral_cv"),
+        VERTICAL_CV("vertical_cv"),
+        GRB("grb"),
+        FLIGHT_GEOGRAPHY("flight_geography"),
+        ADJACENT_VOLUME("adjacent_volume");
+
+        private final StepTimers timers;
+
+        Stage(String name) {
+            this.timers = new StepTimers(CALCULATION_STAGE, "stage", name);
+        }
+
+        // Records the stage and returns the start of the next one
+        public long completed(long start) {
+            return timers.completed(start);
+        }
+
+        public void failed(long start, RuntimeException error) {
+            timers.failed(start, error);
+        }
+    }
+
+    /**
+     * A validation rule. A rule that rejects the request is timed with outcome "error" and counted as an
+     * error with source {@code "rule." + name}.
+     */
+    public enum Rule {
+        UAV("uav"),
+        FLIGHT_GEOGRAPHY("flight_geography"),
+        CONTINGENCY_VOLUMES("contingency_volumes"),
+        GROUND_RISK_BUFFER("ground_risk_buffer");
+
+        private final StepTimers timers;
+
+        Rule(String name) {
+            this.timers = new StepTimers(VALIDATION_RULE, "rule", name);
+        }
+
+        // Records the rule and returns the start of the next one
+        public long passed(long start) {
+            return timers.completed(start);
+        }
+
+        public void failed(long start, RuntimeException error) {
+            timers.failed(start, error);
+        }
+    }
+
+    // Registered on first use, as every calculation records one of them
+    private static final class CalculationTimers {
+        static final Timer HIT = Metrics.timer(CALCULATION, "cache", "hit");
+        static final Timer MISS = Metrics.timer(CALCULATION, "cache", "miss");
+    }
+
+    /**
+     * The timers of a stage or rule, registered once so the hot path does not look meters up by name and
+     * tags on every call. Prefixing the error source keeps stages and rules that share a name apart.
+     */
+    private static final class StepTimers {
+        private final Timer success;
+        private final Timer error;
+        private final String source;
+
+        StepTimers(String name, String tag, String value) {
+            this.success = Metrics.timer(name, tag, value, "outcome", SUCCESS);
+            this.error = Metrics.timer(name, tag, value, "outcome", ERROR);
+            this.source = tag + "." + value;
+        }
+
+        long completed(long start) {
+            long now = System.nanoTime();
+            success.record(now - start, TimeUnit.NANOSECONDS);
+            return now;
+        }
+
+        void failed(long start, RuntimeException e) {
+            error.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            countError(source, e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package droneportTeam05.service.orchestration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import droneportTeam05.controllers.dto.BatchOperationResult;
+import droneportTeam05.controllers.dto.DroneOperationRequest;
+import droneportTeam05.controllers.dto.DroneOperationResult;
+import droneportTeam05.service.validation.ValidationException;
+import jakarta.annotation.PreDestroy;
+
+@Service
+public class BatchOperationService {
+
+    private final DroneOperationService droneOperationService;
+    private final int maxBatchSize;
+    private final int parallelism;
+    private final ExecutorService executor;
+
+    public BatchOperationService(DroneOperationService droneOperationService,
+                                 @Value("${droneport.batch.max-size:1000}") int maxBatchSize,
+                                 @Value("${droneport.batch.parallelism:0}") int parallelism) {
+        this.droneOperationService = droneOperationService;
+        this.maxBatchSize = maxBatchSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        // Bounded queue: once it is full the submitting thread runs the item itself, which throttles callers
+        this.executor = new ThreadPoolExecutor(
+                this.parallelism, this.parallelism,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(this.parallelism * 64),
+                new CalculationThreadFactory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public BatchOperationResult calculateBatch(List<DroneOperationRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new ValidationException("Batch must contain at least one request");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new ValidationException("Batch size exceeds maximum of " + maxBatchSize);
+        }
+
+        long startTime = System.nanoTime();
+
+        List<CompletableFuture<DroneOperationResult>> futures = new ArrayList<>(requests.size());
+        for (DroneOperationRequest request : requests) {
+            futures.add(CompletableFuture.supplyAsync(() -> calculateItem(request), executor));
+        }
+
+        List<DroneOperationResult> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<DroneOperationResult> future : futures) {
+            results.add(future.join());
+        }
+
+        long totalTimeMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        return new BatchOperationResult(results, parallelism, totalTimeMs);
+    }
+
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    DroneOperationResult calculateItem(DroneOperationRequest request) {
+        long startTime = System.nanoTime();
+        DroneOperationResult result;
+
+        try {
+            if (request == null) {
+                throw new ValidationException("Request is required");
+            }
+            result = droneOperationService.calculateOperation(request);
+        } catch (ValidationException e) {
+            result = DroneOperationResult.error(e.getMessage());
+        } catch (Exception e) {
+            result = DroneOperationResult.error("Internal error: " + e.getMessage());
+        }
+
+        result.setCalculationTimeMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class CalculationThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "droneport-calc-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
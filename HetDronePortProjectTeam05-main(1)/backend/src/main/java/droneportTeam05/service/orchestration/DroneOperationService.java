@@ -3,10 +3,13 @@ package droneportTeam05.service.orchestration;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import droneportTeam05.controllers.dto.CacheStatistics;
 import droneportTeam05.controllers.dto.DroneOperationRequest;
 import droneportTeam05.controllers.dto.DroneOperationResult;
 import droneportTeam05.domain.aircraft.UAV;
 import droneportTeam05.domain.geography.FlightGeography;
+import droneportTeam05.domain.operation.OperationInputs;
+import droneportTeam05.domain.operation.OperationVolumes;
 import droneportTeam05.domain.risk.GroundRiskBuffer;
 import droneportTeam05.domain.volume.AdjacentVolume;
 import droneportTeam05.domain.volume.LateralContingencyVolume;
@@ -16,6 +19,7 @@ import droneportTeam05.service.calculation.GroundRiskBufferService;
 import droneportTeam05.service.calculation.LateralContingencyVolumeService;
 import droneportTeam05.service.calculation.FlightGeographyService;
 import droneportTeam05.service.calculation.VerticalContingencyVolumeService;
+import droneportTeam05.service.metrics.DroneportMetrics;
 import droneportTeam05.service.validation.DroneOperationValidationService;
 
 @Service
@@ -38,35 +42,119 @@ public class DroneOperationService {
     
     @Autowired
     private DroneOperationValidationService validationService;
+
+    @Autowired
+    private OperationResultCache resultCache;
     
     public DroneOperationResult calculateOperation(DroneOperationRequest request) {
+        return calculateOperation(request, null);
+    }
+
+    /**
+     * Calculates the operation and, when {@code timings} is given, records a lap for validation, the cache
+     * lookup, every calculation service call, building the result and storing it in the cache. The laps are returned in the result.
+     */
+    public DroneOperationResult calculateOperation(DroneOperationRequest request, StageTimings timings) {
+        long calculationStart = System.nanoTime();
         validationService.validateDroneOperation(request);
+        lap(timings, "validation");
         
         UAV uav = request.getUav();
-        LateralContingencyVolume lateralCV = request.getLateralCV();
-        VerticalContingencyVolume verticalCV = request.getVerticalCV();
-        GroundRiskBuffer grb = request.getGrb();
+        LateralContingencyVolume requestLateralCV = request.getLateralCV();
+        VerticalContingencyVolume requestVerticalCV = request.getVerticalCV();
+        GroundRiskBuffer requestGrb = request.getGrb();
         double flightHeight = request.getFlightGeography().getHeightFlightGeo();
-        
-        lateralCV = lateralCVService.calculateLateralContingencyVolume(uav, lateralCV);
-        verticalCV = verticalCVService.calculateVerticalContingencyVolume(uav, verticalCV, flightHeight);
-        if (lateralCV.getTimeToOpenParachute() != 0) {
-            verticalCV.setTimeToOpenParachute(lateralCV.getTimeToOpenParachute());
-            grb.setTimeToOpenParachute(lateralCV.getTimeToOpenParachute());
-        }
 
-        else if (verticalCV.getTimeToOpenParachute() != 0) grb.setTimeToOpenParachute(verticalCV.getTimeToOpenParachute());
+        // The calculation services write into the request entities, so only value snapshots are cached
+        // and a hit is replayed onto this request's own entities
+        OperationInputs cacheKey = OperationInputs.of(uav, requestLateralCV, requestVerticalCV, requestGrb, flightHeight);
+        OperationVolumes cached = resultCache.get(cacheKey);
+        lap(timings, "cache_lookup");
+        if (cached != null) {
+            cached.applyTo(requestLateralCV, requestVerticalCV, requestGrb);
+            DroneOperationResult result = buildResult(uav, requestLateralCV, requestVerticalCV, requestGrb,
+                    cached.toFlightGeography(), cached.toAdjacentVolume());
+            DroneportMetrics.calculated(calculationStart, true);
+            return withTimings(result, timings, "build_result");
+        }
         
-        grb = grbService.calculateGroundRiskBuffer(uav, grb, verticalCV);
-        FlightGeography minFlightDimension = minFlightDimensionService.calculateMinFlightDimensions(flightHeight, uav.getMaxCharacteristicDimension());
-        AdjacentVolume adjacentVolume = adjacentVolumeService.calculateAdjacentVolume(uav.getMaxOperationalSpeed(), verticalCV.getMinVerticalDimension());
+        // The stage that is running, so a failure is timed and counted against it
+        DroneportMetrics.Stage stage = DroneportMetrics.Stage.LATERAL_CV;
+        long stageStart = System.nanoTime();
+        LateralContingencyVolume lateralCV;
+        VerticalContingencyVolume verticalCV;
+        GroundRiskBuffer grb;
+        FlightGeography minFlightDimension;
+        AdjacentVolume adjacentVolume;
+        try {
+            lateralCV = lateralCVService.calculateLateralContingencyVolume(uav, requestLateralCV);
+            stageStart = stage.completed(stageStart);
+            lap(timings, "lateral_cv");
+
+            stage = DroneportMetrics.Stage.VERTICAL_CV;
+            verticalCV = verticalCVService.calculateVerticalContingencyVolume(uav, requestVerticalCV, flightHeight);
+            stageStart = stage.completed(stageStart);
+            lap(timings, "vertical_cv");
+            if (lateralCV.getTimeToOpenParachute() != 0) {
+                verticalCV.setTimeToOpenParachute(lateralCV.getTimeToOpenParachute());
+                requestGrb.setTimeToOpenParachute(lateralCV.getTimeToOpenParachute());
+            }
+
+            else if (verticalCV.getTimeToOpenParachute() != 0) requestGrb.setTimeToOpenParachute(verticalCV.getTimeToOpenParachute());
+
+            stage = DroneportMetrics.Stage.GRB;
+            grb = grbService.calculateGroundRiskBuffer(uav, requestGrb, verticalCV);
+            stageStart = stage.completed(stageStart);
+            lap(timings, "grb");
+
+            stage = DroneportMetrics.Stage.FLIGHT_GEOGRAPHY;
+            minFlightDimension = minFlightDimensionService.calculateMinFlightDimensions(flightHeight, uav.getMaxCharacteristicDimension());
+            stageStart = stage.completed(stageStart);
+            lap(timings, "flight_geography");
+
+            stage = DroneportMetrics.Stage.ADJACENT_VOLUME;
+            adjacentVolume = adjacentVolumeService.calculateAdjacentVolume(uav.getMaxOperationalSpeed(), verticalCV.getMinVerticalDimension());
+            stage.completed(stageStart);
+            lap(timings, "adjacent_volume");
+        } catch (RuntimeException e) {
+            stage.failed(stageStart, e);
+            throw e;
+        }
         
+        DroneOperationResult result = buildResult(uav, lateralCV, verticalCV, grb, minFlightDimension, adjacentVolume);
+        lap(timings, "build_result");
+        resultCache.put(cacheKey, result);
+        DroneportMetrics.calculated(calculationStart, false);
+        return withTimings(result, timings, "cache_store");
+    }
+
+    // A single null check per stage when diagnostics are off
+    private static void lap(StageTimings timings, String stage) {
+        if (timings != null) {
+            timings.lap(stage);
+        }
+    }
+
+    private static DroneOperationResult withTimings(DroneOperationResult result, StageTimings timings, String lastStage) {
+        if (timings != null) {
+            timings.lap(lastStage);
+            result.setStageTimingsNanos(timings.toMap());
+        }
+        return result;
+    }
+
+    public CacheStatistics getCacheStatistics() {
+        return resultCache.getStatistics();
+    }
+
+    private DroneOperationResult buildResult(UAV uav, LateralContingencyVolume lateralCV, VerticalContingencyVolume verticalCV,
+                                             GroundRiskBuffer grb, FlightGeography flightGeography, AdjacentVolume adjacentVolume) {
         return DroneOperationResult.builder()
             .uav(uav)
             .lateralCV(lateralCV)
             .verticalCV(verticalCV)
             .grb(grb)
-            .flightGeography(minFlightDimension)
+            .flightGeography(flightGeography)
             .adjacentVolume(adjacentVolume)
             .build();
     }
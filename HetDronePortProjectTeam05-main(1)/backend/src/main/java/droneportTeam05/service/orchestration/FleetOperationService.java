@@ -0,0 +1,89 @@
+package droneportTeam05.service.orchestration;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import droneportTeam05.controllers.dto.DroneOperationRequest;
+import droneportTeam05.controllers.dto.DroneOperationResult;
+import droneportTeam05.controllers.dto.FleetOperationResult;
+import droneportTeam05.domain.Drone;
+import droneportTeam05.domain.aircraft.UAVType;
+import droneportTeam05.domain.geography.FlightGeography;
+import droneportTeam05.repository.DroneRepository;
+import droneportTeam05.service.validation.ValidationException;
+
+@Service
+public class FleetOperationService {
+
+    private final DroneRepository droneRepository;
+    private final BatchOperationService batchOperationService;
+    private final ObjectWriter resultWriter;
+    private final int maxInFlight;
+
+    public FleetOperationService(DroneRepository droneRepository,
+                                 BatchOperationService batchOperationService,
+                                 ObjectMapper objectMapper,
+                                 @Value("${droneport.stream.max-in-flight:0}") int maxInFlight) {
+        this.droneRepository = droneRepository;
+        this.batchOperationService = batchOperationService;
+        this.resultWriter = objectMapper.writerFor(FleetOperationResult.class);
+        this.maxInFlight = maxInFlight > 0 ? maxInFlight : batchOperationService.getParallelism() * 4;
+    }
+
+    public void validateFleetRequest(double flightHeight) {
+        if (flightHeight <= 0) {
+            throw new ValidationException("Flight height must be positive");
+        }
+    }
+
+    /**
+     * Calculates the operation of every stored drone, or every drone of the given type, at the given
+     * flight height and writes one result line per drone ordered by drone name.
+     *
+     * @return the number of result lines written
+     */
+    public long calculateFleet(double flightHeight, UAVType type, OutputStream output) throws IOException {
+        validateFleetRequest(flightHeight);
+
+        List<Drone> drones = type == null
+                ? droneRepository.findAllWithConfiguration()
+                : droneRepository.findAllWithConfigurationByUavType(type);
+
+        OrderedResultWriter<FleetOperationResult> results = new OrderedResultWriter<>(resultWriter, output, maxInFlight);
+        for (Drone drone : drones) {
+            String droneName = drone.getName();
+            DroneOperationRequest request;
+            try {
+                request = toRequest(drone, flightHeight);
+            } catch (IllegalArgumentException e) {
+                results.submit(CompletableFuture.completedFuture(
+                        new FleetOperationResult(droneName, DroneOperationResult.error(e.getMessage()))));
+                continue;
+            }
+            results.submit(CompletableFuture.supplyAsync(
+                    () -> new FleetOperationResult(droneName, batchOperationService.calculateItem(request)),
+                    batchOperationService.getExecutor()));
+        }
+        return results.finish();
+    }
+
+    // The calculation writes its results into the volume entities, so it works on copies and the
+    // stored drones are never dirtied
+    private DroneOperationRequest toRequest(Drone drone, double flightHeight) {
+        return new DroneOperationRequest.Builder()
+                .uav(drone.getUav() != null ? drone.getUav().copy() : null)
+                .lateralCV(drone.getLateralContingencyVolume() != null ? drone.getLateralContingencyVolume().copy() : null)
+                .verticalCV(drone.getVerticalContingencyVolume() != null ? drone.getVerticalContingencyVolume().copy() : null)
+                .grb(drone.getGroundRiskBuffer() != null ? drone.getGroundRiskBuffer().copy() : null)
+                .flightGeography(new FlightGeography(flightHeight, 0, 0))
+                .build();
+    }
+}
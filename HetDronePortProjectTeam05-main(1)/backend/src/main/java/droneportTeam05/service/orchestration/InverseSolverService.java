@@ -0,0 +1,135 @@
+package droneportTeam05.service.orchestration;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Service;
+
+import droneportTeam05.controllers.dto.DroneOperationRequest;
+import droneportTeam05.controllers.dto.InverseRequest;
+import droneportTeam05.controllers.dto.InverseResult;
+import droneportTeam05.controllers.dto.InverseTarget;
+import droneportTeam05.domain.geography.FlightGeography;
+import droneportTeam05.domain.operation.OperationInputs;
+import droneportTeam05.domain.operation.OperationVolumes;
+import droneportTeam05.service.calculation.InverseKernel;
+import droneportTeam05.service.calculation.OperationKernel;
+import droneportTeam05.service.validation.DroneOperationValidationService;
+import droneportTeam05.service.validation.ValidationException;
+
+@Service
+public class InverseSolverService {
+
+    static final String CEILING = "ceiling";
+    static final String LATERAL_BUDGET = "lateralBudget";
+
+    private final DroneOperationValidationService validationService;
+
+    public InverseSolverService(DroneOperationValidationService validationService) {
+        this.validationService = validationService;
+    }
+
+    public InverseResult solve(InverseRequest request) {
+        long startTime = System.nanoTime();
+
+        InverseTarget target = request.getSolveFor();
+        DroneOperationRequest base = request.getBase();
+        validateRequest(request);
+        if (target == InverseTarget.HEIGHT_FLIGHT_GEO && base.getFlightGeography() == null) {
+            // The height is what gets solved, so any valid starting height will do
+            double minHeight = OperationKernel.minFlightDimension(base.getUav().getMaxCharacteristicDimension());
+            base.setFlightGeography(new FlightGeography(minHeight, 0, 0));
+        }
+        validationService.validateDroneOperation(base);
+
+        OperationInputs inputs = OperationInputs.of(base.getUav(), base.getLateralCV(), base.getVerticalCV(),
+                base.getGrb(), base.getFlightGeography().getHeightFlightGeo());
+        try {
+            OperationKernel.calculate(inputs);
+        } catch (IllegalStateException e) {
+            throw new ValidationException(e.getMessage());
+        }
+
+        double limit = Double.POSITIVE_INFINITY;
+        String limitingConstraint = null;
+        if (request.getCeiling() != null) {
+            limit = ceilingLimit(inputs, target, request.getCeiling(), request.isIncludeAdjacentVolume());
+            limitingConstraint = CEILING;
+        }
+        if (request.getLateralBudget() != null) {
+            double lateralLimit = lateralLimit(inputs, target, request.getLateralBudget(),
+                    request.isIncludeGroundRiskBuffer());
+            if (lateralLimit < limit) {
+                limit = lateralLimit;
+                limitingConstraint = LATERAL_BUDGET;
+            }
+        }
+        if (limit == Double.POSITIVE_INFINITY) {
+            throw new ValidationException("The given constraints do not limit " + target);
+        }
+
+        InverseResult result = new InverseResult(target, limitingConstraint);
+        boolean feasible = target == InverseTarget.HEIGHT_FLIGHT_GEO
+                ? limit >= OperationKernel.minFlightDimension(inputs.maxCharacteristicDimension())
+                : limit > 0;
+        if (feasible) {
+            OperationInputs solved = target == InverseTarget.HEIGHT_FLIGHT_GEO
+                    ? inputs.withHeightFlightGeo(limit)
+                    : inputs.withMaxOperationalSpeed(limit);
+            OperationVolumes volumes = OperationKernel.calculate(solved);
+            result.setFeasible(true);
+            result.setValue(limit);
+            result.setVolumes(volumes);
+        }
+
+        result.setCalculationTimeMicros(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
+        return result;
+    }
+
+    private void validateRequest(InverseRequest request) {
+        DroneOperationRequest base = request.getBase();
+        if (base == null || base.getUav() == null || base.getLateralCV() == null || base.getVerticalCV() == null
+                || base.getGrb() == null) {
+            throw new ValidationException("Inverse calculation requires a complete base configuration");
+        }
+        if (request.getSolveFor() == null) {
+            throw new ValidationException("Inverse calculation requires a parameter to solve for");
+        }
+        if (request.getSolveFor() == InverseTarget.MAX_OPERATIONAL_SPEED && base.getFlightGeography() == null) {
+            throw new ValidationException("Solving for speed requires a flight geography height");
+        }
+        if (request.getCeiling() == null && request.getLateralBudget() == null) {
+            throw new ValidationException("Inverse calculation requires a ceiling or a lateral budget");
+        }
+        if (request.getCeiling() != null && request.getCeiling() <= 0) {
+            throw new ValidationException("Ceiling must be positive");
+        }
+        if (request.getLateralBudget() != null && request.getLateralBudget() <= 0) {
+            throw new ValidationException("Lateral budget must be positive");
+        }
+    }
+
+    private double ceilingLimit(OperationInputs inputs, InverseTarget target, double ceiling,
+                                boolean includeAdjacentVolume) {
+        return switch (target) {
+            case HEIGHT_FLIGHT_GEO -> InverseKernel.maxHeightForCeiling(inputs, ceiling, includeAdjacentVolume);
+            case MAX_OPERATIONAL_SPEED -> InverseKernel.maxSpeedForCeiling(inputs, ceiling, includeAdjacentVolume);
+        };
+    }
+
+    private double lateralLimit(OperationInputs inputs, InverseTarget target, double budget,
+                                boolean includeGroundRiskBuffer) {
+        if (target == InverseTarget.MAX_OPERATIONAL_SPEED) {
+            return includeGroundRiskBuffer
+                    ? InverseKernel.maxSpeedForLateralBudgetWithGroundRisk(inputs, budget)
+                    : InverseKernel.maxSpeedForLateralBudget(inputs, budget);
+        }
+        if (includeGroundRiskBuffer) {
+            return InverseKernel.maxHeightForLateralBudgetWithGroundRisk(inputs, budget,
+                    OperationKernel.minFlightDimension(inputs.maxCharacteristicDimension()));
+        }
+        // The lateral extension does not depend on the height: the budget either always or never holds
+        return OperationKernel.calculate(inputs).lateralExtension() <= budget
+                ? Double.POSITIVE_INFINITY
+                : Double.NEGATIVE_INFINITY;
+    }
+}
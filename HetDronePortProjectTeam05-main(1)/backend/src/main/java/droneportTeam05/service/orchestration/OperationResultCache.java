@@ -0,0 +1,79 @@
+package droneportTeam05.service.orchestration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import droneportTeam05.controllers.dto.CacheStatistics;
+import droneportTeam05.controllers.dto.DroneOperationResult;
+import droneportTeam05.domain.operation.OperationInputs;
+import droneportTeam05.domain.operation.OperationVolumes;
+
+@Component
+public class OperationResultCache {
+
+    private final int maxSize;
+    private final Map<OperationInputs, OperationVolumes> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public OperationResultCache(@Value("${droneport.calculation.cache.max-size:1024}") int maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+        // Access-ordered, so the eldest entry is always the least recently used one
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<OperationInputs, OperationVolumes> eldest) {
+                if (size() > OperationResultCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public OperationVolumes get(OperationInputs key) {
+        OperationVolumes volumes;
+        synchronized (entries) {
+            volumes = entries.get(key);
+        }
+        if (volumes == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return volumes;
+    }
+
+    public void put(OperationInputs key, DroneOperationResult result) {
+        if (maxSize == 0) {
+            return;
+        }
+        OperationVolumes volumes = OperationVolumes.of(result.getLateralCV(), result.getVerticalCV(), result.getGrb(),
+                result.getFlightGeography(), result.getAdjacentVolume());
+        synchronized (entries) {
+            entries.put(key, volumes);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public CacheStatistics getStatistics() {
+        return new CacheStatistics(size(), maxSize, hits.sum(), misses.sum(), evictions.sum());
+    }
+}
@@ -0,0 +1,63 @@
+package droneportTeam05.service.orchestration;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Writes asynchronously computed results as newline-delimited JSON in submission order. Once
+ * {@code maxInFlight} results are pending, {@link #submit} blocks until the oldest one is written.
+ */
+class OrderedResultWriter<T> {
+
+    private static final byte NEWLINE = '\n';
+
+    private final ObjectWriter writer;
+    private final OutputStream output;
+    private final int maxInFlight;
+    private final Deque<CompletableFuture<T>> inFlight;
+    private long written;
+
+    OrderedResultWriter(ObjectWriter writer, OutputStream output, int maxInFlight) {
+        this.writer = writer;
+        this.output = output;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new ArrayDeque<>(maxInFlight);
+    }
+
+    void submit(CompletableFuture<T> result) throws IOException {
+        inFlight.addLast(result);
+        writeCompleted(inFlight.size() >= maxInFlight);
+    }
+
+    long finish() throws IOException {
+        while (!inFlight.isEmpty()) {
+            writeCompleted(true);
+        }
+        output.flush();
+        return written;
+    }
+
+    private void writeCompleted(boolean waitForOldest) throws IOException {
+        long before = written;
+        if (waitForOldest && !inFlight.isEmpty()) {
+            write(inFlight.removeFirst().join());
+        }
+        while (!inFlight.isEmpty() && inFlight.peekFirst().isDone()) {
+            write(inFlight.removeFirst().join());
+        }
+        if (written > before) {
+            output.flush();
+        }
+    }
+
+    private void write(T result) throws IOException {
+        output.write(writer.writeValueAsBytes(result));
+        output.write(NEWLINE);
+        written++;
+    }
+}
@@ -0,0 +1,29 @@
+package droneportTeam05.service.orchestration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Nanosecond laps through one operation calculation, only created when a caller asks for diagnostics.
+ * Each lap is the time since the previous one, so together they add up to the total.
+ */
+public class StageTimings {
+
+    public static final String TOTAL = "total";
+
+    private final Map<String, Long> laps = new LinkedHashMap<>();
+    private final long start = System.nanoTime();
+    private long last = start;
+
+    public void lap(String stage) {
+        long now = System.nanoTime();
+        laps.merge(stage, now - last, Long::sum);
+        last = now;
+    }
+
+    public Map<String, Long> toMap() {
+        Map<String, Long> result = new LinkedHashMap<>(laps);
+        result.put(TOTAL, last - start);
+        return result;
+    }
+}
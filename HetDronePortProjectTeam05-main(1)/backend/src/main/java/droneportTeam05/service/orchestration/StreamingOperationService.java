@@ -0,0 +1,73 @@
+package droneportTeam05.service.orchestration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import droneportTeam05.controllers.dto.DroneOperationRequest;
+import droneportTeam05.controllers.dto.DroneOperationResult;
+
+@Service
+public class StreamingOperationService {
+
+    private final BatchOperationService batchOperationService;
+    private final ObjectReader requestReader;
+    private final ObjectWriter resultWriter;
+    private final int maxInFlight;
+
+    public StreamingOperationService(BatchOperationService batchOperationService,
+                                     ObjectMapper objectMapper,
+                                     @Value("${droneport.stream.max-in-flight:0}") int maxInFlight) {
+        this.batchOperationService = batchOperationService;
+        this.requestReader = objectMapper.readerFor(DroneOperationRequest.class);
+        this.resultWriter = objectMapper.writerFor(DroneOperationResult.class);
+        this.maxInFlight = maxInFlight > 0 ? maxInFlight : batchOperationService.getParallelism() * 4;
+    }
+
+    /**
+     * Reads newline-delimited requests and writes one result line per request, in input order. At most
+     * {@code maxInFlight} requests are pending at any time; reading stops until the oldest one is written.
+     *
+     * @return the number of result lines written
+     */
+    public long calculateStream(InputStream input, OutputStream output) throws IOException {
+        OrderedResultWriter<DroneOperationResult> results = new OrderedResultWriter<>(resultWriter, output, maxInFlight);
+
+        try (MappingIterator<DroneOperationRequest> requests = requestReader.readValues(input)) {
+            while (true) {
+                CompletableFuture<DroneOperationResult> result;
+                try {
+                    if (!requests.hasNextValue()) {
+                        break;
+                    }
+                    DroneOperationRequest request = requests.nextValue();
+                    result = CompletableFuture.supplyAsync(
+                            () -> batchOperationService.calculateItem(request), batchOperationService.getExecutor());
+                } catch (JsonMappingException e) {
+                    // The iterator skips the rest of the broken line, so the stream can continue
+                    result = CompletableFuture.completedFuture(
+                            DroneOperationResult.error("Invalid request: " + e.getOriginalMessage()));
+                } catch (JsonParseException e) {
+                    // Malformed JSON cannot be resynchronised; report it after everything read so far
+                    results.submit(CompletableFuture.completedFuture(
+                            DroneOperationResult.error("Malformed input: " + e.getOriginalMessage())));
+                    break;
+                }
+                results.submit(result);
+            }
+        }
+
+        return results.finish();
+    }
+}
@@ -0,0 +1,205 @@
+package droneportTeam05.service.orchestration;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import droneportTeam05.controllers.dto.DroneOperationRequest;
+import droneportTeam05.controllers.dto.SweepAxis;
+import droneportTeam05.controllers.dto.SweepParameter;
+import droneportTeam05.controllers.dto.SweepRequest;
+import droneportTeam05.controllers.dto.SweepResult;
+import droneportTeam05.domain.operation.OperationInputs;
+import droneportTeam05.domain.risk.TerminationType;
+import droneportTeam05.service.calculation.OperationKernel;
+import droneportTeam05.service.validation.DroneOperationValidationService;
+import droneportTeam05.service.validation.ValidationException;
+
+@Service
+public class SweepService {
+
+    private final DroneOperationValidationService validationService;
+    private final int maxPoints;
+
+    public SweepService(DroneOperationValidationService validationService,
+                        @Value("${droneport.sweep.max-points:1000000}") int maxPoints) {
+        this.validationService = validationService;
+        this.maxPoints = maxPoints;
+    }
+
+    public SweepResult sweep(SweepRequest request) {
+        long startTime = System.nanoTime();
+
+        DroneOperationRequest base = request.getBase();
+        validateBase(base);
+        int points = validateAxes(request.getAxes());
+        validationService.validateDroneOperation(base);
+
+        OperationInputs inputs = OperationInputs.of(base.getUav(), base.getLateralCV(), base.getVerticalCV(),
+                base.getGrb(), base.getFlightGeography().getHeightFlightGeo());
+        validateRanges(inputs, request.getAxes());
+        try {
+            // Surface unsupported manoeuvre/termination combinations once instead of from every worker
+            OperationKernel.calculate(inputs);
+        } catch (IllegalStateException e) {
+            throw new ValidationException(e.getMessage());
+        }
+
+        SweepResult result = new SweepResult(request.getAxes(), points);
+        SweepGrid grid = new SweepGrid(inputs, request.getAxes(), result);
+        IntStream.range(0, points).parallel().forEach(grid::evaluate);
+
+        result.setCalculationTimeMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        return result;
+    }
+
+    private void validateBase(DroneOperationRequest base) {
+        if (base == null || base.getUav() == null || base.getLateralCV() == null || base.getVerticalCV() == null
+                || base.getGrb() == null || base.getFlightGeography() == null) {
+            throw new ValidationException("Sweep requires a complete base configuration");
+        }
+    }
+
+    private int validateAxes(List<SweepAxis> axes) {
+        if (axes == null || axes.isEmpty()) {
+            throw new ValidationException("Sweep requires at least one axis");
+        }
+
+        Set<SweepParameter> seen = EnumSet.noneOf(SweepParameter.class);
+        long points = 1;
+        for (SweepAxis axis : axes) {
+            if (axis.getParameter() == null) {
+                throw new ValidationException("Sweep axis parameter is required");
+            }
+            if (!seen.add(axis.getParameter())) {
+                throw new ValidationException("Sweep axis " + axis.getParameter() + " is defined more than once");
+            }
+            if (axis.getSteps() < 1) {
+                throw new ValidationException("Sweep axis " + axis.getParameter() + " needs at least one step");
+            }
+            points *= axis.getSteps();
+            if (points > maxPoints) {
+                throw new ValidationException("Sweep exceeds maximum of " + maxPoints + " points");
+            }
+        }
+        return (int) points;
+    }
+
+    // Every formula is monotonic in the swept parameters, so checking both ends covers the whole range
+    private void validateRanges(OperationInputs inputs, List<SweepAxis> axes) {
+        for (SweepAxis axis : axes) {
+            double min = Math.min(axis.getFrom(), axis.getTo());
+            double max = Math.max(axis.getFrom(), axis.getTo());
+
+            switch (axis.getParameter()) {
+                case HEIGHT_FLIGHT_GEO -> {
+                    if (min < 3 * inputs.maxCharacteristicDimension()) {
+                        throw new ValidationException("Flight geometry height must be at least 3×CD");
+                    }
+                }
+                case MAX_OPERATIONAL_SPEED -> {
+                    if (min <= 0) {
+                        throw new ValidationException("Speed too low");
+                    }
+                }
+                case RESPONSE_TIME -> {
+                    if (min < 0) {
+                        throw new ValidationException("Response time cannot be negative");
+                    }
+                }
+                case PITCH_ANGLE, ROLL_ANGLE -> {
+                    if (min <= 0 || max >= 90) {
+                        throw new ValidationException(axis.getParameter() + " must be between 0 and 90 degrees");
+                    }
+                }
+                case MAX_PERMISSIBLE_WIND_SPEED -> {
+                    if (inputs.termination() == TerminationType.PARACHUTE && min < 3) {
+                        throw new ValidationException("Wind speed below 3 m/s not considered realistic for parachute calculation");
+                    }
+                }
+                case GLIDE_RATIO -> {
+                    if (min <= 0) {
+                        throw new ValidationException("Glide ratio must be positive");
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class SweepGrid {
+        private final OperationInputs base;
+        private final SweepParameter[] parameters;
+        private final double[] from;
+        private final double[] stepSize;
+        private final int[] steps;
+        private final SweepResult result;
+
+        SweepGrid(OperationInputs base, List<SweepAxis> axes, SweepResult result) {
+            this.base = base;
+            this.result = result;
+            int size = axes.size();
+            this.parameters = new SweepParameter[size];
+            this.from = new double[size];
+            this.stepSize = new double[size];
+            this.steps = new int[size];
+            for (int a = 0; a < size; a++) {
+                SweepAxis axis = axes.get(a);
+                parameters[a] = axis.getParameter();
+                from[a] = axis.getFrom();
+                stepSize[a] = axis.getStepSize();
+                steps[a] = axis.getSteps();
+            }
+        }
+
+        void evaluate(int index) {
+            double height = base.heightFlightGeo();
+            double v0 = base.maxOperationalSpeed();
+            double responseTime = base.responseTime();
+            double pitchAngle = base.pitchAngle();
+            double rollAngle = base.rollAngle();
+            double windSpeed = base.maxPermissibleWindSpeed();
+            double glideRatio = base.glideRatio();
+
+            int remainder = index;
+            for (int a = parameters.length - 1; a >= 0; a--) {
+                double value = from[a] + stepSize[a] * (remainder % steps[a]);
+                remainder /= steps[a];
+                switch (parameters[a]) {
+                    case HEIGHT_FLIGHT_GEO -> height = value;
+                    case MAX_OPERATIONAL_SPEED -> v0 = value;
+                    case RESPONSE_TIME -> responseTime = value;
+                    case PITCH_ANGLE -> pitchAngle = value;
+                    case ROLL_ANGLE -> rollAngle = value;
+                    case MAX_PERMISSIBLE_WIND_SPEED -> windSpeed = value;
+                    case GLIDE_RATIO -> glideRatio = value;
+                }
+            }
+
+            double scm = OperationKernel.lateralManoeuvre(base.lateralManoeuvre(), v0, pitchAngle, rollAngle,
+                    base.lateralTimeToOpenParachute());
+            double lateralExtension = OperationKernel.lateralExtension(base.gpsInaccuracy(),
+                    base.positionHoldingError(), base.mapError(), OperationKernel.reactionDistance(v0, responseTime), scm);
+
+            double hrz = OperationKernel.responseHeight(v0, responseTime);
+            double hcm = OperationKernel.verticalManoeuvre(base.verticalManoeuvre(), v0,
+                    base.verticalTimeToOpenParachute());
+            double hcv = OperationKernel.minVerticalDimension(height, base.altitudeMeasurementError(), hrz, hcm);
+
+            double parachuteTime = OperationKernel.parachuteTime(base.lateralTimeToOpenParachute(),
+                    base.verticalTimeToOpenParachute(), base.grbTimeToOpenParachute());
+            double sgrb = OperationKernel.groundRiskBuffer(base.termination(), base.uavType(), v0,
+                    base.maxCharacteristicDimension(), hcv, parachuteTime, windSpeed, base.rateOfDescent(), glideRatio);
+
+            result.getLateralExtension()[index] = lateralExtension;
+            result.getMinVerticalDimension()[index] = hcv;
+            result.getGroundRiskBuffer()[index] = sgrb;
+            result.getAdjacentVolumeLateral()[index] = OperationKernel.adjacentLateral(v0);
+            result.getAdjacentVolumeVertical()[index] = OperationKernel.adjacentVertical(hcv);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package droneportTeam05.service.tiles;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import droneportTeam05.controllers.dto.CacheStatistics;
+
+/**
+ * LRU cache of encoded tiles that remembers which zones each tile drew, so a zone change only drops the
+ * tiles that showed its old outline or cover its new one.
+ */
+final class TileCache {
+
+    private final int maxSize;
+    private final Map<TileKey, CachedTile> entries;
+    private final Map<Long, Set<TileKey>> tilesByZone = new HashMap<>();
+
+    // Bumped by every invalidation so a tile rendered from older zones is not stored afterwards
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    TileCache(int maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+        // Access-ordered, so the eldest entry is always the least recently used one
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TileKey, CachedTile> eldest) {
+                if (size() > TileCache.this.maxSize) {
+                    evictions++;
+                    unindex(eldest.getKey(), eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    synchronized byte[] get(TileKey key) {
+        CachedTile tile = entries.get(key);
+        if (tile == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return tile.data();
+    }
+
+    synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Stores a tile unless the cache was invalidated since {@code renderedGeneration} was read.
+     */
+    synchronized void put(TileKey key, byte[] data, long[] zoneIds, long renderedGeneration) {
+        if (maxSize == 0 || renderedGeneration != generation) {
+            return;
+        }
+        CachedTile previous = entries.put(key, new CachedTile(data, zoneIds));
+        if (previous != null) {
+            unindex(key, previous);
+        }
+        for (long zoneId : zoneIds) {
+            tilesByZone.computeIfAbsent(zoneId, id -> new HashSet<>()).add(key);
+        }
+    }
+
+    synchronized void invalidateZone(long zoneId) {
+        generation++;
+        Set<TileKey> keys = tilesByZone.remove(zoneId);
+        if (keys != null) {
+            for (TileKey key : keys) {
+                CachedTile tile = entries.remove(key);
+                if (tile != null) {
+                    unindex(key, tile);
+                }
+            }
+        }
+    }
+
+    synchronized void invalidateArea(double minLat, double minLng, double maxLat, double maxLng, double buffer) {
+        generation++;
+        Iterator<Map.Entry<TileKey, CachedTile>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<TileKey, CachedTile> entry = iterator.next();
+            double[] bounds = entry.getKey().bounds(buffer);
+            if (bounds[0] <= maxLat && bounds[2] >= minLat && bounds[1] <= maxLng && bounds[3] >= minLng) {
+                iterator.remove();
+                unindex(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    synchronized void clear() {
+        generation++;
+        entries.clear();
+        tilesByZone.clear();
+    }
+
+    synchronized CacheStatistics getStatistics() {
+        return new CacheStatistics(entries.size(), maxSize, hits, misses, evictions);
+    }
+
+    private void unindex(TileKey key, CachedTile tile) {
+        for (long zoneId : tile.zoneIds()) {
+            Set<TileKey> keys = tilesByZone.get(zoneId);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    tilesByZone.remove(zoneId);
+                }
+            }
+        }
+    }
+
+    private record CachedTile(byte[] data, long[] zoneIds) {
+    }
+}
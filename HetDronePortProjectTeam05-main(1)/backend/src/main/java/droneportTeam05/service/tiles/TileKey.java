@@ -0,0 +1,49 @@
+package droneportTeam05.service.tiles;
+
+/**
+ * A web map tile in the usual z/x/y scheme: 2^z tiles per axis in web mercator, y counted from the north.
+ */
+record TileKey(int z, int x, int y) {
+
+    // Web mercator stops here so that the world is square
+    static final double MAX_LAT = 85.0511287798066;
+
+    /**
+     * Longitude of a fractional tile column.
+     */
+    double lng(double column) {
+        return column / (1L << z) * 360 - 180;
+    }
+
+    /**
+     * Latitude of a fractional tile row.
+     */
+    double lat(double row) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * row / (1L << z)))));
+    }
+
+    /**
+     * Fractional tile column of a longitude, relative to this tile's west edge.
+     */
+    double column(double lng) {
+        return (lng + 180) / 360 * (1L << z) - x;
+    }
+
+    /**
+     * Fractional tile row of a latitude, relative to this tile's north edge.
+     */
+    double row(double lat) {
+        double clamped = Math.max(-MAX_LAT, Math.min(MAX_LAT, lat));
+        double sin = Math.sin(Math.toRadians(clamped));
+        return (0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI)) * (1L << z) - y;
+    }
+
+    // Bounds of the tile grown by a fraction of a tile on every side, as minLat, minLng, maxLat, maxLng
+    double[] bounds(double buffer) {
+        return new double[] {
+                Math.max(-MAX_LAT, lat(y + 1 + buffer)),
+                Math.max(-180, lng(x - buffer)),
+                Math.min(MAX_LAT, lat(y - buffer)),
+                Math.min(180, lng(x + 1 + buffer))};
+    }
+}
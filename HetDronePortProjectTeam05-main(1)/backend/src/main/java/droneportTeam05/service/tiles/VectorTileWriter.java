@@ -0,0 +1,148 @@
+package droneportTeam05.service.tiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes one layer of polygons as a Mapbox Vector Tile (protobuf, spec version 2). Keys and values are
+ * shared between features as the format intends; a tile without features encodes to zero bytes.
+ */
+final class VectorTileWriter {
+
+    private static final int VARINT = 0;
+    private static final int FIXED64 = 1;
+    private static final int LENGTH_DELIMITED = 2;
+
+    private static final int MOVE_TO = 1;
+    private static final int LINE_TO = 2;
+    private static final int CLOSE_PATH = 7;
+    private static final int POLYGON = 3;
+
+    private final String layer;
+    private final int extent;
+    private final List<String> keys = new ArrayList<>();
+    private final Map<Object, Integer> values = new LinkedHashMap<>();
+    private final ByteArrayOutputStream features = new ByteArrayOutputStream();
+    private int featureCount;
+
+    VectorTileWriter(String layer, int extent) {
+        this.layer = layer;
+        this.extent = extent;
+    }
+
+    /**
+     * @param ring exterior ring in tile coordinates as x0, y0, x1, y1, ...; not closed, clockwise on screen
+     * @param properties string or number values by key
+     */
+    void addPolygon(long id, int[] ring, Map<String, Object> properties) {
+        ByteArrayOutputStream tags = new ByteArrayOutputStream();
+        for (Map.Entry<String, Object> property : properties.entrySet()) {
+            int key = keys.indexOf(property.getKey());
+            if (key < 0) {
+                key = keys.size();
+                keys.add(property.getKey());
+            }
+            writeVarint(tags, key);
+            writeVarint(tags, values.computeIfAbsent(property.getValue(), value -> values.size()));
+        }
+
+        ByteArrayOutputStream geometry = new ByteArrayOutputStream();
+        int points = ring.length / 2;
+        int cursorX = 0;
+        int cursorY = 0;
+        for (int i = 0; i < points; i++) {
+            if (i == 0) {
+                writeVarint(geometry, command(MOVE_TO, 1));
+            } else if (i == 1) {
+                writeVarint(geometry, command(LINE_TO, points - 1));
+            }
+            writeVarint(geometry, zigzag(ring[2 * i] - cursorX));
+            writeVarint(geometry, zigzag(ring[2 * i + 1] - cursorY));
+            cursorX = ring[2 * i];
+            cursorY = ring[2 * i + 1];
+        }
+        writeVarint(geometry, command(CLOSE_PATH, 1));
+
+        ByteArrayOutputStream feature = new ByteArrayOutputStream();
+        writeTag(feature, 1, VARINT);
+        writeVarint(feature, id);
+        writeBytes(feature, 2, tags.toByteArray());
+        writeTag(feature, 3, VARINT);
+        writeVarint(feature, POLYGON);
+        writeBytes(feature, 4, geometry.toByteArray());
+
+        writeBytes(features, 2, feature.toByteArray());
+        featureCount++;
+    }
+
+    int featureCount() {
+        return featureCount;
+    }
+
+    byte[] toByteArray() {
+        if (featureCount == 0) {
+            return new byte[0];
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(features.size() + 64);
+        writeTag(out, 15, VARINT);
+        writeVarint(out, 2);
+        writeBytes(out, 1, layer.getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(features.toByteArray());
+        for (String key : keys) {
+            writeBytes(out, 3, key.getBytes(StandardCharsets.UTF_8));
+        }
+        for (Object value : values.keySet()) {
+            writeBytes(out, 4, encodeValue(value));
+        }
+        writeTag(out, 5, VARINT);
+        writeVarint(out, extent);
+
+        ByteArrayOutputStream tile = new ByteArrayOutputStream(out.size() + 8);
+        writeBytes(tile, 3, out.toByteArray());
+        return tile.toByteArray();
+    }
+
+    private static byte[] encodeValue(Object value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (value instanceof Number number) {
+            writeTag(out, 3, FIXED64);
+            long bits = Double.doubleToLongBits(number.doubleValue());
+            for (int i = 0; i < 8; i++) {
+                out.write((int) (bits >>> (8 * i)));
+            }
+        } else {
+            writeBytes(out, 1, String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+    private static int command(int id, int count) {
+        return (id & 0x7) | (count << 3);
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static void writeTag(ByteArrayOutputStream out, int field, int wireType) {
+        writeVarint(out, (field << 3) | wireType);
+    }
+
+    private static void writeBytes(ByteArrayOutputStream out, int field, byte[] bytes) {
+        writeTag(out, field, LENGTH_DELIMITED);
+        writeVarint(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
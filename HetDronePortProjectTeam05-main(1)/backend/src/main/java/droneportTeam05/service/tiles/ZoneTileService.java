@@ -0,0 +1,227 @@
+package droneportTeam05.service.tiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import droneportTeam05.controllers.dto.CacheStatistics;
+import droneportTeam05.domain.zones.Point;
+import droneportTeam05.domain.zones.Zone;
+import droneportTeam05.repository.ZoneRepository;
+import droneportTeam05.service.ZoneChangedEvent;
+import droneportTeam05.service.geometry.PolygonSimplifier;
+import droneportTeam05.service.geometry.ZoneDetail;
+import droneportTeam05.service.geometry.ZoneIndex;
+import droneportTeam05.service.geometry.ZoneShape;
+import droneportTeam05.service.validation.ValidationException;
+
+/**
+ * Renders zones as Mapbox Vector Tiles. Outlines are simplified to one tile unit, clipped to the tile
+ * plus a small buffer and snapped to the integer tile grid before encoding.
+ */
+@Service
+public class ZoneTileService {
+
+    public static final String LAYER = "zones";
+    public static final int EXTENT = 4096;
+    // Geometry beyond the tile edge, so strokes do not show seams between neighbouring tiles
+    static final int BUFFER = 64;
+
+    private static final double EARTH_CIRCUMFERENCE = 40075016.686;
+
+    private final ZoneIndex zoneIndex;
+    private final ZoneRepository zoneRepository;
+    private final TileCache cache;
+
+    public ZoneTileService(ZoneIndex zoneIndex, ZoneRepository zoneRepository,
+                           @Value("${droneport.tiles.cache.max-size:2048}") int maxSize) {
+        this.zoneIndex = zoneIndex;
+        this.zoneRepository = zoneRepository;
+        this.cache = new TileCache(maxSize);
+    }
+
+    public byte[] getTile(int z, int x, int y) {
+        if (z < 0 || z > ZoneDetail.MAX_ZOOM) {
+            throw new ValidationException("Zoom must be between 0 and " + ZoneDetail.MAX_ZOOM);
+        }
+        if (x < 0 || y < 0 || x >= (1L << z) || y >= (1L << z)) {
+            throw new ValidationException("Tile coordinates are outside the zoom level");
+        }
+        TileKey key = new TileKey(z, x, y);
+        byte[] cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = cache.generation();
+        long indexVersion = zoneIndex.version();
+        List<Long> zoneIds = new ArrayList<>();
+        byte[] tile = render(key, zoneIds);
+        // A zone changed while rendering, so the tile may show the old outline; serve it but do not keep it
+        if (zoneIndex.version() == indexVersion) {
+            cache.put(key, tile, zoneIds.stream().mapToLong(Long::longValue).toArray(), generation);
+        }
+        return tile;
+    }
+
+    public CacheStatistics getCacheStatistics() {
+        return cache.getStatistics();
+    }
+
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onZoneChanged(ZoneChangedEvent event) {
+        if (event.zoneId() == null) {
+            cache.clear();
+            return;
+        }
+        // Tiles that drew the old outline
+        cache.invalidateZone(event.zoneId());
+        if (event.type() != ZoneChangedEvent.ChangeType.DELETED) {
+            // Tiles the new outline reaches into
+            for (Zone zone : zoneRepository.findAllWithPathByNameIn(List.of(event.zoneName()))) {
+                ZoneShape shape = ZoneShape.of(zone);
+                cache.invalidateArea(shape.minLat(), shape.minLng(), shape.maxLat(), shape.maxLng(),
+                        (double) BUFFER / EXTENT);
+            }
+        }
+    }
+
+    byte[] render(TileKey key, List<Long> zoneIds) {
+        double[] bounds = key.bounds((double) BUFFER / EXTENT);
+        List<ZoneShape> shapes = zoneIndex.findCandidates(bounds[0], bounds[1], bounds[2], bounds[3]);
+        shapes.sort(Comparator.comparing(ZoneShape::name));
+
+        // Web Mercator shrinks ground distance per tile unit by cos(latitude)
+        double[] tileBounds = key.bounds(0);
+        double unitMeters = EARTH_CIRCUMFERENCE / (1L << key.z()) / EXTENT
+                * Math.cos(Math.toRadians((tileBounds[0] + tileBounds[2]) / 2));
+        VectorTileWriter writer = new VectorTileWriter(LAYER, EXTENT);
+        for (ZoneShape shape : shapes) {
+            List<Point> path = PolygonSimplifier.simplify(shape.toZone().getPath(), unitMeters);
+            int[] ring = toTileRing(key, path);
+            if (ring == null) {
+                continue;
+            }
+            Map<String, Object> properties = new LinkedHashMap<>();
+            properties.put("name", shape.name());
+            properties.put("maxHeight", shape.maxHeight());
+            writer.addPolygon(shape.id() != null ? shape.id() : 0, ring, properties);
+            if (shape.id() != null) {
+                zoneIds.add(shape.id());
+            }
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * Projects, clips and snaps a zone outline; null when nothing with an area is left inside the tile.
+     */
+    static int[] toTileRing(TileKey key, List<Point> path) {
+        int n = path.size();
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = key.column(path.get(i).getLng()) * EXTENT;
+            ys[i] = key.row(path.get(i).getLat()) * EXTENT;
+        }
+        double[][] clipped = clip(xs, ys, -BUFFER, EXTENT + BUFFER);
+        if (clipped[0].length < 3) {
+            return null;
+        }
+
+        int[] ring = new int[clipped[0].length * 2];
+        int count = 0;
+        for (int i = 0; i < clipped[0].length; i++) {
+            int x = (int) Math.round(clipped[0][i]);
+            int y = (int) Math.round(clipped[1][i]);
+            if (count > 0 && ring[2 * count - 2] == x && ring[2 * count - 1] == y) {
+                continue;
+            }
+            ring[2 * count] = x;
+            ring[2 * count + 1] = y;
+            count++;
+        }
+        if (count > 1 && ring[0] == ring[2 * count - 2] && ring[1] == ring[2 * count - 1]) {
+            count--;
+        }
+        if (count < 3) {
+            return null;
+        }
+        ring = Arrays.copyOf(ring, 2 * count);
+
+        long area = 0;
+        for (int i = 0; i < count; i++) {
+            int j = (i + 1) % count;
+            area += (long) ring[2 * i] * ring[2 * j + 1] - (long) ring[2 * j] * ring[2 * i + 1];
+        }
+        if (area == 0) {
+            return null;
+        }
+        if (area < 0) {
+            // The format wants exterior rings clockwise on screen, which is a positive area with y down
+            for (int i = 0, j = count - 1; i < j; i++, j--) {
+                int x = ring[2 * i];
+                int y = ring[2 * i + 1];
+                ring[2 * i] = ring[2 * j];
+                ring[2 * i + 1] = ring[2 * j + 1];
+                ring[2 * j] = x;
+                ring[2 * j + 1] = y;
+            }
+        }
+        return ring;
+    }
+
+    // Sutherland-Hodgman against the square [min, max]; returns {xs, ys}
+    private static double[][] clip(double[] xs, double[] ys, double min, double max) {
+        for (int edge = 0; edge < 4 && xs.length > 0; edge++) {
+            List<double[]> output = new ArrayList<>(xs.length + 4);
+            for (int i = 0; i < xs.length; i++) {
+                int previous = (i + xs.length - 1) % xs.length;
+                boolean inside = inside(edge, xs[i], ys[i], min, max);
+                boolean previousInside = inside(edge, xs[previous], ys[previous], min, max);
+                if (inside != previousInside) {
+                    output.add(intersection(edge, xs[previous], ys[previous], xs[i], ys[i], min, max));
+                }
+                if (inside) {
+                    output.add(new double[] {xs[i], ys[i]});
+                }
+            }
+            xs = new double[output.size()];
+            ys = new double[output.size()];
+            for (int i = 0; i < output.size(); i++) {
+                xs[i] = output.get(i)[0];
+                ys[i] = output.get(i)[1];
+            }
+        }
+        return new double[][] {xs, ys};
+    }
+
+    private static boolean inside(int edge, double x, double y, double min, double max) {
+        return switch (edge) {
+            case 0 -> x >= min;
+            case 1 -> x <= max;
+            case 2 -> y >= min;
+            default -> y <= max;
+        };
+    }
+
+    private static double[] intersection(int edge, double x1, double y1, double x2, double y2,
+                                         double min, double max) {
+        double bound = edge == 0 || edge == 2 ? min : max;
+        if (edge < 2) {
+            double t = (bound - x1) / (x2 - x1);
+            return new double[] {bound, y1 + t * (y2 - y1)};
+        }
+        double t = (bound - y1) / (y2 - y1);
+        return new double[] {x1 + t * (x2 - x1), bound};
+    }
+}
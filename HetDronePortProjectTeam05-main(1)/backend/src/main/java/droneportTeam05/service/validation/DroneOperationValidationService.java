@@ -9,17 +9,54 @@ import droneportTeam05.domain.risk.GroundRiskBuffer;
 import droneportTeam05.domain.risk.TerminationType;
 import droneportTeam05.domain.volume.ContingencyManoeuvre;
 import droneportTeam05.domain.volume.LateralContingencyVolume;
+import droneportTeam05.service.metrics.DroneportMetrics.Rule;
 
 @Service
 public class DroneOperationValidationService {
     
     public void validateDroneOperation(DroneOperationRequest request) {
-        validateUAV(request.getUav());
-        validateFlightGeography(request);
-        validateContingencyVolumes(request);
-        validateGroundRiskBuffer(request);
+        // The rule that is running, so a rejection is timed and counted against it
+        Rule rule = Rule.UAV;
+        long start = System.nanoTime();
+        try {
+            validateUAV(request.getUav());
+            start = rule.passed(start);
+            rule = Rule.FLIGHT_GEOGRAPHY;
+            validateFlightGeography(request);
+            start = rule.passed(start);
+            rule = Rule.CONTINGENCY_VOLUMES;
+            validateContingencyVolumes(request);
+            start = rule.passed(start);
+            rule = Rule.GROUND_RISK_BUFFER;
+            validateGroundRiskBuffer(request);
+            rule.passed(start);
+        } catch (RuntimeException e) {
+            rule.failed(start, e);
+            throw e;
+        }
     }
-    
+
+    /**
+     * The checks that only depend on the drone itself, for drones that are stored rather than flown.
+     */
+    public void validateDroneConfiguration(UAV uav, LateralContingencyVolume lateralCV, GroundRiskBuffer grb) {
+        Rule rule = Rule.UAV;
+        long start = System.nanoTime();
+        try {
+            validateUAV(uav);
+            start = rule.passed(start);
+            rule = Rule.CONTINGENCY_VOLUMES;
+            validateContingencyVolumes(uav, lateralCV);
+            start = rule.passed(start);
+            rule = Rule.GROUND_RISK_BUFFER;
+            validateGroundRiskBuffer(uav, grb);
+            rule.passed(start);
+        } catch (RuntimeException e) {
+            rule.failed(start, e);
+            throw e;
+        }
+    }
+
     private void validateUAV(UAV uav) {
         if (uav.getMaxOperationalSpeed() <= 0) {
             throw new ValidationException("Speed too low");
@@ -40,9 +77,10 @@ public class DroneOperationValidationService {
     }
     
     private void validateContingencyVolumes(DroneOperationRequest request) {
-        UAV uav = request.getUav();
-        LateralContingencyVolume lateralCV = request.getLateralCV();
-        
+        validateContingencyVolumes(request.getUav(), request.getLateralCV());
+    }
+
+    private void validateContingencyVolumes(UAV uav, LateralContingencyVolume lateralCV) {
         if (uav.getType() == UAVType.MULTIROTOR && lateralCV.getContingencyManoeuvre() == ContingencyManoeuvre.TURN_180) {
             throw new ValidationException("TURN_180 manoeuvre not suitable for multirotors");
         }
@@ -53,9 +91,10 @@ public class DroneOperationValidationService {
     }
     
     private void validateGroundRiskBuffer(DroneOperationRequest request) {
-        UAV uav = request.getUav();
-        GroundRiskBuffer grb = request.getGrb();
-        
+        validateGroundRiskBuffer(request.getUav(), request.getGrb());
+    }
+
+    private void validateGroundRiskBuffer(UAV uav, GroundRiskBuffer grb) {
         if (uav.getType() == UAVType.FIXEDWING && grb.getTermination() == TerminationType.BALLISTIC_APPROACH) {
             throw new ValidationException("Ballistic approach only allowed for multirotors and rotorcrafts");
         }
@@ -0,0 +1,113 @@
+package droneportTeam05.controllers;
+
+import droneportTeam05.service.CatalogVersion;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CatalogCacheFilterTest {
+
+    private static final String BODY = "[{\"name\":\"Zone\"}]";
+
+    private CatalogVersion catalogVersion;
+    private CatalogCacheFilter filter;
+    private AtomicInteger controllerCalls;
+    private FilterChain chain;
+
+    @BeforeEach
+    public void setup() {
+        catalogVersion = new CatalogVersion();
+        filter = new CatalogCacheFilter(catalogVersion);
+        controllerCalls = new AtomicInteger();
+        chain = (request, response) -> {
+            controllerCalls.incrementAndGet();
+            response.setContentType("application/json");
+            response.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private MockHttpServletResponse get(String path, String ifNoneMatch, String acceptEncoding) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Test
+    public void testUnchangedCatalog_ServedFromCacheAndRevalidated() throws Exception {
+        // Act
+        MockHttpServletResponse first = get("/api/zones", null, null);
+        MockHttpServletResponse second = get("/api/zones", null, null);
+        MockHttpServletResponse revalidated = get("/api/zones", first.getHeader("ETag"), null);
+
+        // Assert
+        assertEquals(200, first.getStatus());
+        assertEquals(BODY, first.getContentAsString());
+        assertEquals(BODY, second.getContentAsString());
+        assertEquals(first.getHeader("ETag"), second.getHeader("ETag"));
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, revalidated.getStatus());
+        assertEquals(0, revalidated.getContentAsByteArray().length);
+        assertEquals(1, controllerCalls.get());
+    }
+
+    @Test
+    public void testMutation_ChangesETag() throws Exception {
+        // Arrange
+        String etag = get("/api/drones", null, null).getHeader("ETag");
+
+        // Act
+        catalogVersion.bump();
+        MockHttpServletResponse response = get("/api/drones", etag, null);
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertNotEquals(etag, response.getHeader("ETag"));
+        assertTrue(response.getHeader("ETag").startsWith("\"drones-"));
+        assertEquals(2, controllerCalls.get());
+    }
+
+    @Test
+    public void testGzip_WhenAccepted() throws Exception {
+        // Act
+        MockHttpServletResponse response = get("/api/zones", null, "br, gzip;q=0.8");
+        MockHttpServletResponse refused = get("/api/zones", null, "gzip;q=0");
+
+        // Assert
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertEquals(BODY, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertNull(refused.getHeader("Content-Encoding"));
+        assertEquals(BODY, refused.getContentAsString());
+        assertEquals(1, controllerCalls.get());
+    }
+
+    @Test
+    public void testOtherRequests_PassThrough() throws Exception {
+        // Act
+        MockHttpServletResponse height = get("/api/zones/120", null, null);
+        MockHttpServletRequest paged = new MockHttpServletRequest("GET", "/api/zones");
+        paged.setQueryString("page=0");
+        filter.doFilter(paged, new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertNull(height.getHeader("ETag"));
+        assertEquals(2, controllerCalls.get());
+    }
+}
@@ -0,0 +1,71 @@
+package droneportTeam05.integration;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import droneportTeam05.controllers.EmailController;
+import droneportTeam05.controllers.dto.BulkMailRecipient;
+import droneportTeam05.controllers.dto.BulkMailRequest;
+import droneportTeam05.controllers.dto.BulkMailResult;
+import droneportTeam05.domain.MailStatus;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fans a notification out to an in-process SMTP server.
+ */
+@SpringBootTest(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "spring.mail.properties.mail.smtp.auth=false",
+        "spring.mail.properties.mail.smtp.starttls.enable=false",
+        "spring.mail.properties.mail.smtp.starttls.required=false",
+        "droneport.mail.spool-dir=target/mail-spool",
+        "droneport.mail.bulk.chunk-size=20"
+})
+@ActiveProfiles("test")
+public class BulkMailIntegrationTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private EmailController emailController;
+
+    @Test
+    public void testSendBulk_RendersAndDeliversPerRecipient() throws Exception {
+        // Arrange
+        List<BulkMailRecipient> recipients = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            recipients.add(new BulkMailRecipient("operator" + i + "@example.com", Map.of("operator", "Operator " + i)));
+        }
+        recipients.add(new BulkMailRecipient("<broken", Map.of()));
+
+        // Act
+        BulkMailResult result = emailController.sendBulk(
+                new BulkMailRequest("Zone A changed", "Hello {{operator}}, zone A changed.", recipients));
+
+        // Assert
+        assertEquals(100, result.getSent());
+        assertEquals(1, result.getFailed());
+        assertEquals(MailStatus.FAILED, result.getOutcomes().get(100).getStatus());
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(100, received.length);
+        for (MimeMessage message : received) {
+            String to = message.getAllRecipients()[0].toString();
+            String operator = "Operator " + to.substring("operator".length(), to.indexOf('@'));
+            assertTrue(GreenMailUtil.getBody(message).contains("Hello " + operator + ", zone A changed."));
+        }
+    }
+}
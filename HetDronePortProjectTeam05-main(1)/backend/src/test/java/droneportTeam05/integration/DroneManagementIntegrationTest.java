@@ -1,6 +1,10 @@
 package droneportTeam05.integration;
 
 import droneportTeam05.controllers.DroneController;
+import droneportTeam05.controllers.dto.DroneSummary;
+import droneportTeam05.controllers.dto.ImportResult;
+import droneportTeam05.controllers.dto.ImportStatus;
+import droneportTeam05.controllers.dto.PageResult;
 import droneportTeam05.domain.Drone;
 import droneportTeam05.domain.aircraft.UAV;
 import droneportTeam05.domain.aircraft.UAVType;
@@ -9,6 +13,7 @@ import droneportTeam05.domain.volume.LateralContingencyVolume;
 import droneportTeam05.domain.volume.VerticalContingencyVolume;
 import droneportTeam05.repository.DroneRepository;
 import droneportTeam05.service.DroneService;
+import droneportTeam05.service.imports.DroneImportService;
 import droneportTeam05.util.ServiceException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +22,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -35,6 +42,9 @@ public class DroneManagementIntegrationTest {
     @Autowired
     private DroneRepository droneRepository;
 
+    @Autowired
+    private DroneImportService droneImportService;
+
     private Drone testDrone1;
     private Drone testDrone2;
     private Drone testDrone3;
@@ -310,4 +320,78 @@ public class DroneManagementIntegrationTest {
         assertNotNull(retrievedFixedWing);
         assertEquals(25.0, retrievedFixedWing.getUav().getMaxOperationalSpeed());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetDroneSummaries_PagedAndSortedBySpeed() {
+        droneRepository.save(testDrone1);
+        droneRepository.save(testDrone2);
+        droneRepository.save(testDrone3);
+
+        PageResult<DroneSummary> first = droneService.getDroneSummaries(0, 2, "maxOperationalSpeed", "desc");
+        PageResult<DroneSummary> second = droneService.getDroneSummaries(1, 2, "maxOperationalSpeed", "desc");
+
+        assertEquals(3, first.getTotalElements());
+        assertEquals(2, first.getTotalPages());
+        assertEquals("TestDrone2", first.getContent().get(0).getName());
+        assertEquals(UAVType.FIXEDWING, first.getContent().get(0).getType());
+        assertEquals(25.0, first.getContent().get(0).getMaxOperationalSpeed());
+        assertEquals("TestDrone3", first.getContent().get(1).getName());
+        assertEquals(1, second.getContent().size());
+        assertEquals("TestDrone1", second.getContent().get(0).getName());
+    }
+
+    @Test
+    public void testGetDronePage_LoadsConfiguration() {
+        droneRepository.save(testDrone1);
+        droneRepository.save(testDrone2);
+
+        PageResult<Drone> page = droneService.getDronePage(0, 10, "type", "asc");
+
+        assertEquals(2, page.getContent().size());
+        assertNotNull(page.getContent().get(0).getGroundRiskBuffer());
+        assertNotNull(page.getContent().get(1).getLateralContingencyVolume());
+    }
+
+    @Test
+    public void testImportCsv_UpsertsByName() throws Exception {
+        Drone existing = droneRepository.save(testDrone1);
+        Long uavId = existing.getUav().getId();
+        String csv = "name,type,maxOperationalSpeed,maxCharacteristicDimension,lateralManoeuvre,verticalManoeuvre,termination\n"
+                + "TestDrone1,multirotor,18,2.5,stopping,energy_conversion,ballistic_approach\n"
+                + "NewWing,fixedwing,25,3,turn_180,circular_path,off_gliding\n"
+                + "BadWing,fixedwing,25,3,stopping,circular_path,off_gliding\n"
+                + "NewWing,fixedwing,30,3,turn_180,circular_path,off_gliding\n";
+
+        ImportResult result = droneImportService.importCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(4, result.getTotal());
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getUpdated());
+        assertEquals(2, result.getInvalid());
+        assertEquals(ImportStatus.UPDATED, result.getRows().get(0).getStatus());
+        assertEquals(ImportStatus.CREATED, result.getRows().get(1).getStatus());
+        assertEquals("STOPPING manoeuvre not suitable for fixed-wing aircraft", result.getRows().get(2).getErrorMessage());
+        assertEquals("Duplicate drone name in import", result.getRows().get(3).getErrorMessage());
+
+        Drone updated = droneRepository.findByName("TestDrone1");
+        assertEquals(18.0, updated.getUav().getMaxOperationalSpeed());
+        assertEquals(uavId, updated.getUav().getId());
+        assertEquals(25.0, droneRepository.findByName("NewWing").getUav().getMaxOperationalSpeed());
+        assertNull(droneRepository.findByName("BadWing"));
+    }
+
+    @Test
+    public void testImportJson_RequiresCompleteConfiguration() throws Exception {
+        String json = "[{\"name\":\"Partial\",\"uav\":{\"type\":\"MULTIROTOR\",\"maxOperationalSpeed\":10,"
+                + "\"maxCharacteristicDimension\":2}}, {\"name\":7,\"uav\":[]}]";
+
+        ImportResult result = droneImportService.importJson(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, result.getInvalid());
+        assertEquals("Lateral contingency volume configuration is required",
+                result.getRows().get(0).getErrorMessage());
+        assertNull(droneRepository.findByName("Partial"));
+    }
+}
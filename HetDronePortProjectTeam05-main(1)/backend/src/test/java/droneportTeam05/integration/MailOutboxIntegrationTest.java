@@ -0,0 +1,118 @@
+package droneportTeam05.integration;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import droneportTeam05.controllers.EmailController;
+import droneportTeam05.controllers.dto.MailDeliveryStatus;
+import droneportTeam05.domain.MailStatus;
+import droneportTeam05.repository.OutboundMailRepository;
+import droneportTeam05.service.email.MailOutboxService;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sends through the outbox to an in-process SMTP server.
+ */
+@SpringBootTest(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "spring.mail.properties.mail.smtp.auth=false",
+        "spring.mail.properties.mail.smtp.starttls.enable=false",
+        "spring.mail.properties.mail.smtp.starttls.required=false",
+        "droneport.mail.spool-dir=target/mail-spool",
+        "droneport.mail.outbox.poll-interval-millis=100",
+        "droneport.mail.outbox.backoff-millis=100"
+})
+@ActiveProfiles("test")
+public class MailOutboxIntegrationTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private EmailController emailController;
+
+    @Autowired
+    private MailOutboxService mailOutboxService;
+
+    @Autowired
+    private OutboundMailRepository outboundMailRepository;
+
+    @BeforeEach
+    public void setUp() {
+        outboundMailRepository.deleteAll();
+    }
+
+    private MailDeliveryStatus awaitFinished(String id) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            MailDeliveryStatus status = mailOutboxService.getStatus(id).orElseThrow();
+            if (status.getStatus() == MailStatus.SENT || status.getStatus() == MailStatus.FAILED) {
+                return status;
+            }
+            Thread.sleep(100);
+        }
+        fail("Mail " + id + " was not sent in time");
+        return null;
+    }
+
+    @Test
+    public void testSendNotification_ReturnsBeforeSendingAndDelivers() throws Exception {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("file", "flight-area.kml",
+                "application/vnd.google-earth.kml+xml", "<kml/>".getBytes());
+
+        // Act
+        ResponseEntity<MailDeliveryStatus> response = emailController.sendEmailNotification(
+                "operator@example.com", "Zone updated", "Zone A changed", List.of(file));
+
+        // Assert
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        String id = response.getBody().getMessageId();
+        assertNotNull(id);
+
+        MailDeliveryStatus status = awaitFinished(id);
+        assertEquals(MailStatus.SENT, status.getStatus());
+        assertEquals(1, status.getAttempts());
+        assertNotNull(status.getSentAt());
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(1, received.length);
+        assertEquals("Zone updated", received[0].getSubject());
+        MimeMultipart content = (MimeMultipart) received[0].getContent();
+        assertTrue(GreenMailUtil.getBody(received[0]).contains("flight-area.kml"));
+        assertTrue(content.getCount() >= 2);
+    }
+
+    @Test
+    public void testSendNotification_InvalidAddressFailsWithoutRetry() throws Exception {
+        // Act
+        ResponseEntity<MailDeliveryStatus> response = emailController.sendEmailNotification(
+                "<operator@example.com", "Zone updated", "Zone A changed", null);
+
+        // Assert
+        MailDeliveryStatus status = awaitFinished(response.getBody().getMessageId());
+        assertEquals(MailStatus.FAILED, status.getStatus());
+        assertEquals(1, status.getAttempts());
+        assertNotNull(status.getLastError());
+        assertEquals(0, greenMail.getReceivedMessages().length);
+    }
+
+    @Test
+    public void testGetDeliveryStatus_UnknownId() {
+        assertEquals(HttpStatus.NOT_FOUND, emailController.getDeliveryStatus("missing").getStatusCode());
+    }
+}
@@ -1,6 +1,8 @@
 package droneportTeam05.integration;
 
 import droneportTeam05.controllers.ZoneController;
+import droneportTeam05.controllers.dto.ImportResult;
+import droneportTeam05.controllers.dto.ImportStatus;
 import droneportTeam05.domain.zones.Point;
 import droneportTeam05.domain.zones.Zone;
 import droneportTeam05.repository.ZoneRepository;
@@ -13,6 +15,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -108,7 +112,7 @@ public class ZoneManagementIntegrationTest {
         zoneRepository.save(testZone3);
 
         
-        List<Zone> zones = zoneController.getAllZones();
+        List<Zone> zones = zoneController.getAllZones(null, null);
 
         
         assertEquals(3, zones.size());
@@ -125,7 +129,7 @@ public class ZoneManagementIntegrationTest {
         zoneRepository.save(testZone3); 
 
         
-        List<Zone> zones = zoneController.getZonesGreaterThanMaxHeight(125.0);
+        List<Zone> zones = zoneController.getZonesGreaterThanMaxHeight(125.0, null, null);
 
         
         assertEquals(2, zones.size());
@@ -205,7 +209,7 @@ public class ZoneManagementIntegrationTest {
         assertNotNull(createdZone);
 
         
-        List<Zone> allZones = zoneController.getAllZones();
+        List<Zone> allZones = zoneController.getAllZones(null, null);
         assertEquals(1, allZones.size());
 
         
@@ -219,11 +223,11 @@ public class ZoneManagementIntegrationTest {
         assertEquals(250.0, result.getMaxHeight());
 
         
-        List<Zone> highZones = zoneController.getZonesGreaterThanMaxHeight(200.0);
+        List<Zone> highZones = zoneController.getZonesGreaterThanMaxHeight(200.0, null, null);
         assertEquals(1, highZones.size());
         assertEquals("ModifiedZone", highZones.get(0).getName());
 
-        List<Zone> lowZones = zoneController.getZonesGreaterThanMaxHeight(300.0);
+        List<Zone> lowZones = zoneController.getZonesGreaterThanMaxHeight(300.0, null, null);
         assertEquals(0, lowZones.size());
 
         
@@ -231,7 +235,7 @@ public class ZoneManagementIntegrationTest {
         assertEquals("Zone deleted successfully", deleteResult);
 
         
-        List<Zone> finalZones = zoneController.getAllZones();
+        List<Zone> finalZones = zoneController.getAllZones(null, null);
         assertEquals(0, finalZones.size());
     }
 
@@ -289,17 +293,45 @@ public class ZoneManagementIntegrationTest {
         zoneRepository.save(testZone3); 
 
         
-        List<Zone> zones100 = zoneController.getZonesGreaterThanMaxHeight(100.0);
+        List<Zone> zones100 = zoneController.getZonesGreaterThanMaxHeight(100.0, null, null);
         assertEquals(2, zones100.size()); 
 
-        List<Zone> zones150 = zoneController.getZonesGreaterThanMaxHeight(150.0);
+        List<Zone> zones150 = zoneController.getZonesGreaterThanMaxHeight(150.0, null, null);
         assertEquals(1, zones150.size()); 
         assertEquals("TestZone3", zones150.get(0).getName());
 
-        List<Zone> zones200 = zoneController.getZonesGreaterThanMaxHeight(200.0);
+        List<Zone> zones200 = zoneController.getZonesGreaterThanMaxHeight(200.0, null, null);
         assertEquals(0, zones200.size()); 
 
-        List<Zone> zones50 = zoneController.getZonesGreaterThanMaxHeight(50.0);
+        List<Zone> zones50 = zoneController.getZonesGreaterThanMaxHeight(50.0, null, null);
         assertEquals(3, zones50.size()); 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testImportZones_UpsertsByName() throws Exception {
+        zoneRepository.save(testZone1);
+        String geoJson = "{\"type\":\"FeatureCollection\",\"features\":["
+                + "{\"type\":\"Feature\",\"properties\":{\"name\":\"TestZone1\",\"maxHeight\":2000,\"unit\":\"ft\"},"
+                + "\"geometry\":{\"type\":\"Polygon\",\"coordinates\":[[[5.1,50.8],[5.2,50.8],[5.2,50.9],[5.1,50.8]]]}},"
+                + "{\"type\":\"Feature\",\"properties\":{\"name\":\"Imported\",\"maxHeight\":120},"
+                + "\"geometry\":{\"type\":\"Polygon\",\"coordinates\":[[[4.1,51.8],[4.2,51.8],[4.2,51.9]]]}},"
+                + "{\"type\":\"Feature\",\"properties\":{\"name\":\"Beacon\",\"maxHeight\":120},"
+                + "\"geometry\":{\"type\":\"Point\",\"coordinates\":[4.1,51.8]}}]}";
+
+        ImportResult result = zoneController.importZones("geojson", "m",
+                new ByteArrayInputStream(geoJson.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(3, result.getTotal());
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getUpdated());
+        assertEquals(1, result.getRows().size());
+        assertEquals(ImportStatus.INVALID, result.getRows().get(0).getStatus());
+        assertEquals("Beacon", result.getRows().get(0).getName());
+
+        Zone updated = zoneRepository.findByName("TestZone1");
+        assertEquals(2000 * 0.3048, updated.getMaxHeight(), 0.0001);
+        assertEquals(3, updated.getPath().size());
+        assertEquals(50.9, updated.getPath().get(2).getLat());
+        assertEquals(120.0, zoneRepository.findByName("Imported").getMaxHeight());
+    }
+}
@@ -6,14 +6,21 @@ import droneportTeam05.domain.aircraft.UAVType;
 import droneportTeam05.domain.risk.GroundRiskBuffer;
 import droneportTeam05.domain.volume.LateralContingencyVolume;
 import droneportTeam05.domain.volume.VerticalContingencyVolume;
+import droneportTeam05.controllers.dto.DroneSummary;
+import droneportTeam05.controllers.dto.PageResult;
 import droneportTeam05.repository.DroneRepository;
+import droneportTeam05.service.validation.ValidationException;
 import droneportTeam05.util.ServiceException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.Arrays;
 import java.util.List;
@@ -28,6 +35,9 @@ public class DroneServiceTest {
     @Mock
     private DroneRepository droneRepository;
 
+    @Mock
+    private CatalogVersion catalogVersion;
+
     @InjectMocks
     private DroneService droneService;
 
@@ -78,6 +88,7 @@ public class DroneServiceTest {
         assertEquals(testDrone.getName(), createdDrone.getName());
         assertEquals(testDrone.getUav().getType(), createdDrone.getUav().getType());
         verify(droneRepository, times(1)).save(testDrone);
+        verify(catalogVersion).bumpAfterCommit();
     }
 
     @Test
@@ -336,4 +347,34 @@ public class DroneServiceTest {
         
         verify(droneRepository, times(3)).save(any(Drone.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetDroneSummaries_MapsSortToJoinAlias() {
+        DroneSummary summary = new DroneSummary(1L, "TestDrone", UAVType.MULTIROTOR, 15.0, 2.5);
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        when(droneRepository.findSummaries(any(Pageable.class)))
+            .thenAnswer(invocation -> new PageImpl<>(List.of(summary), invocation.getArgument(0), 41));
+
+        PageResult<DroneSummary> result = droneService.getDroneSummaries(2, 20, "type", "desc");
+
+        verify(droneRepository).findSummaries(captor.capture());
+        assertEquals(1, result.getContent().size());
+        assertEquals(2, result.getPage());
+        assertEquals(41, result.getTotalElements());
+        assertEquals(3, result.getTotalPages());
+        Pageable pageable = captor.getValue();
+        assertEquals(40, pageable.getOffset());
+        assertEquals(Sort.Direction.DESC, pageable.getSort().getOrderFor("u.type").getDirection());
+        assertEquals(Sort.Direction.ASC, pageable.getSort().getOrderFor("name").getDirection());
+        verify(droneRepository, never()).findAll();
+    }
+
+    @Test
+    public void testGetDroneSummaries_InvalidRequest() {
+        assertThrows(ValidationException.class, () -> droneService.getDroneSummaries(-1, 20, "name", "asc"));
+        assertThrows(ValidationException.class, () -> droneService.getDroneSummaries(0, DroneService.MAX_PAGE_SIZE + 1, "name", "asc"));
+        assertThrows(ValidationException.class, () -> droneService.getDroneSummaries(0, 20, "uav.id", "asc"));
+        assertThrows(ValidationException.class, () -> droneService.getDroneSummaries(0, 20, "name", "sideways"));
+        verifyNoInteractions(droneRepository);
+    }
+}
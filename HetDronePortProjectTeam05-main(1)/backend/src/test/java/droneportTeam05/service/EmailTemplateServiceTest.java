@@ -0,0 +1,71 @@
+package droneportTeam05.service;
+
+import droneportTeam05.domain.EmailTemplate;
+import droneportTeam05.repository.EmailTemplateRepository;
+import droneportTeam05.service.email.CompiledEmailTemplate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EmailTemplateServiceTest {
+
+    @Mock
+    private EmailTemplateRepository emailTemplateRepository;
+
+    @InjectMocks
+    private EmailTemplateService emailTemplateService;
+
+    @Test
+    public void testGetTemplate_LoadedOnce() {
+        // Arrange
+        when(emailTemplateRepository.findByName("default"))
+                .thenReturn(new EmailTemplate("default", "Update for {{droneName}}", "Buffer: {{groundRiskBuffer}} m"));
+
+        // Act
+        EmailTemplate first = emailTemplateService.getTemplate();
+        CompiledEmailTemplate compiled = emailTemplateService.getCompiledTemplate();
+
+        // Assert
+        assertEquals("Update for {{droneName}}", first.getSubject());
+        assertEquals("Update for Falcon", compiled.renderSubject(Map.of("droneName", "Falcon")));
+        assertEquals("Buffer: 36.9 m", compiled.renderBody(Map.of("groundRiskBuffer", "36.9")));
+        verify(emailTemplateRepository, times(1)).findByName("default");
+    }
+
+    @Test
+    public void testUpdateTemplate_ReplacesCachedTemplate() {
+        // Arrange
+        when(emailTemplateRepository.findByName("default"))
+                .thenReturn(new EmailTemplate("default", "Old", "Old body"));
+        emailTemplateService.getTemplate();
+
+        // Act
+        emailTemplateService.updateTemplate("New", "New body");
+
+        // Assert
+        assertEquals("New", emailTemplateService.getTemplate().getSubject());
+        assertEquals("New body", emailTemplateService.getCompiledTemplate().renderBody(Map.of()));
+        verify(emailTemplateRepository).save(any(EmailTemplate.class));
+        verify(emailTemplateRepository, times(2)).findByName("default");
+    }
+
+    @Test
+    public void testGetTemplate_MissingIsNotCached() {
+        // Arrange
+        when(emailTemplateRepository.findByName("default")).thenReturn(null);
+
+        // Act & Assert
+        assertNull(emailTemplateService.getTemplate());
+        assertNull(emailTemplateService.getCompiledTemplate());
+        verify(emailTemplateRepository, times(2)).findByName("default");
+    }
+}
@@ -4,19 +4,29 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import droneportTeam05.domain.zones.Point;
 import droneportTeam05.domain.zones.Zone;
 import droneportTeam05.repository.ZoneRepository;
+import droneportTeam05.service.validation.ValidationException;
 import droneportTeam05.util.ServiceException;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +35,15 @@ class ZoneServiceTest {
     @Mock
     private ZoneRepository zoneRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
     @InjectMocks
     private ZoneService zoneService;
 
@@ -44,13 +63,188 @@ class ZoneServiceTest {
     @Test
     void getAllZones_ReturnsListOfZones() {
         List<Zone> expectedZones = Arrays.asList(zone);
-        when(zoneRepository.findAll()).thenReturn(expectedZones);
+        when(zoneRepository.findAllWithPath()).thenReturn(expectedZones);
 
         List<Zone> result = zoneService.getAllZones();
 
         assertEquals(1, result.size());
         assertEquals("TestZone", result.get(0).getName());
-        verify(zoneRepository).findAll();
+        verify(zoneRepository).findAllWithPath();
+    }
+
+    @Test
+    void getAllZones_ServesRepeatedReadsFromSnapshot() {
+        when(zoneRepository.findAllWithPath()).thenReturn(Arrays.asList(zone));
+
+        zoneService.getAllZones();
+        List<Zone> result = zoneService.getZonesGreaterThanMaxHeight(50.0);
+
+        assertEquals(1, result.size());
+        assertNotSame(zone, result.get(0));
+        assertThrows(UnsupportedOperationException.class, () -> zoneService.getAllZones().clear());
+        verify(zoneRepository, times(1)).findAllWithPath();
+        verify(zoneRepository, never()).findByMaxHeightGreaterThan(anyDouble());
+    }
+
+    @Test
+    void createAndDeleteZone_PatchSnapshotWithoutReload() throws ServiceException {
+        zone.setId(1L);
+        Zone other = new Zone("OtherZone", path, 300.0);
+        other.setId(2L);
+        when(zoneRepository.findAllWithPath()).thenReturn(Arrays.asList(zone));
+        when(zoneRepository.save(other)).thenReturn(other);
+        when(zoneRepository.findByName("TestZone")).thenReturn(zone);
+        zoneService.getAllZones();
+
+        zoneService.createZone(other);
+        assertEquals(2, zoneService.getAllZones().size());
+        assertEquals(1, zoneService.getZonesGreaterThanMaxHeight(200.0).size());
+
+        zoneService.deleteZone("TestZone");
+        List<Zone> result = zoneService.getAllZones();
+
+        assertEquals(1, result.size());
+        assertEquals("OtherZone", result.get(0).getName());
+        verify(zoneRepository, times(1)).findAllWithPath();
+        assertEquals(1, zoneService.getSnapshotStatistics().getRebuilds());
+        assertEquals(2, zoneService.getSnapshotStatistics().getPatches());
+    }
+
+    @Test
+    void getZonesWithMaxHeight_BinarySearchesHeightIndex() throws Exception {
+        List<Zone> zones = Arrays.asList(
+            new Zone("C", path, 300.0),
+            new Zone("A", path, 100.0),
+            new Zone("B", path, 200.0),
+            new Zone("B2", path, 200.0)
+        );
+        when(zoneRepository.findAllWithPath()).thenReturn(zones);
+
+        List<Zone> above = zoneService.getZonesGreaterThanMaxHeight(100.0);
+        List<Zone> between = zoneService.getZonesWithMaxHeightBetween(150.0, 200.0);
+
+        assertEquals(3, above.size());
+        assertEquals(200.0, above.get(0).getMaxHeight());
+        assertEquals("C", above.get(2).getName());
+        assertEquals(2, between.size());
+        assertTrue(zoneService.getZonesGreaterThanMaxHeight(300.0).isEmpty());
+        assertTrue(zoneService.getZonesWithMaxHeightBetween(210.0, 290.0).isEmpty());
+        assertThrows(ValidationException.class, () -> zoneService.getZonesWithMaxHeightBetween(200.0, 100.0));
+
+        SerializedZones serialized = (SerializedZones) between;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serialized.writeTo(out);
+        JsonNode json = objectMapper.readTree(out.toByteArray());
+        assertEquals(serialized.contentLength(), out.size());
+        assertEquals(2, json.size());
+        assertEquals(200.0, json.get(0).get("maxHeight").asDouble());
+        assertEquals(3, json.get(1).get("path").size());
+    }
+
+    @Test
+    void updateZone_HeightIndexFollowsSnapshot() throws ServiceException {
+        zone.setId(1L);
+        Zone managed = new Zone("TestZone", path, 100.0);
+        managed.setId(1L);
+        when(zoneRepository.findAllWithPath()).thenReturn(Arrays.asList(zone));
+        when(zoneRepository.findByName("TestZone")).thenReturn(managed);
+        when(zoneRepository.save(managed)).thenReturn(managed);
+        assertEquals(1, zoneService.getZonesGreaterThanMaxHeight(50.0).size());
+
+        zoneService.updateZone("TestZone", new Zone("TestZone", path, 20.0));
+
+        assertTrue(zoneService.getZonesGreaterThanMaxHeight(50.0).isEmpty());
+        assertEquals(1, zoneService.getZonesWithMaxHeightBetween(0.0, 50.0).size());
+    }
+
+    @Test
+    void getAllZones_WithTolerance_ServesOutlinesSimplifiedOnSave() {
+        List<Point> circle = new ArrayList<>();
+        for (int i = 0; i < 360; i++) {
+            double angle = Math.toRadians(i);
+            circle.add(new Point(51.0 + 0.01 * Math.sin(angle), 4.0 + 0.016 * Math.cos(angle)));
+        }
+        Zone round = new Zone("Round", circle, 100.0);
+        round.setId(1L);
+        zone.setId(2L);
+        when(zoneRepository.findAllWithPath()).thenReturn(Arrays.asList(round, zone));
+
+        List<Zone> full = zoneService.getAllZones();
+        List<Zone> coarse = zoneService.getAllZones(100.0);
+
+        assertEquals(360, full.get(0).getPath().size());
+        assertTrue(coarse.get(0).getPath().size() < 20);
+        assertEquals(3, coarse.get(1).getPath().size());
+        assertSame(coarse, zoneService.getAllZones(150.0));
+        assertEquals(2, zoneService.getZonesGreaterThanMaxHeight(50.0, 100.0).size());
+
+        Zone added = new Zone("Added", path, 50.0);
+        added.setId(3L);
+        when(zoneRepository.save(added)).thenReturn(added);
+        zoneService.createZone(added);
+
+        List<Zone> patched = zoneService.getAllZones(100.0);
+        assertEquals(3, patched.size());
+        assertSame(coarse.get(0), patched.get(0));
+        assertEquals(360, round.getPath().size());
+    }
+
+    @Test
+    void createZone_WritersPatchInCommitOrder() throws Exception {
+        when(zoneRepository.findAllWithPath()).thenReturn(new ArrayList<>());
+        zoneService.getAllZones();
+        Zone first = new Zone("First", path, 100.0);
+        first.setId(1L);
+        Zone second = new Zone("Second", path, 100.0);
+        second.setId(2L);
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(zoneRepository.save(first)).thenAnswer(invocation -> {
+            saving.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return first;
+        });
+        when(zoneRepository.save(second)).thenReturn(second);
+
+        Thread writer = new Thread(() -> zoneService.createZone(first));
+        writer.start();
+        assertTrue(saving.await(5, TimeUnit.SECONDS));
+        Thread overlapping = new Thread(() -> zoneService.createZone(second));
+        overlapping.start();
+        overlapping.join(200);
+
+        // The second writer waits until the first one has saved and patched
+        verify(zoneRepository, never()).save(second);
+        release.countDown();
+        writer.join(5000);
+        overlapping.join(5000);
+        assertEquals(2, zoneService.getAllZones().size());
+        assertEquals(2, zoneService.getSnapshotStatistics().getPatches());
+    }
+
+    @Test
+    void invalidateSnapshot_ReloadsOnNextRead() {
+        when(zoneRepository.findAllWithPath()).thenReturn(Arrays.asList(zone));
+        zoneService.getAllZones();
+
+        zoneService.invalidateSnapshot();
+        assertFalse(zoneService.getSnapshotStatistics().isLoaded());
+        zoneService.getAllZones();
+
+        verify(zoneRepository, times(2)).findAllWithPath();
+        assertTrue(zoneService.getSnapshotStatistics().isLoaded());
+    }
+
+    @Test
+    void zonesImported_ReloadsSnapshotAndPublishesEvent() {
+        when(zoneRepository.findAllWithPath()).thenReturn(Arrays.asList(zone));
+        zoneService.getAllZones();
+
+        zoneService.zonesImported();
+
+        assertFalse(zoneService.getSnapshotStatistics().isLoaded());
+        verify(eventPublisher).publishEvent(new ZoneChangedEvent(ZoneChangedEvent.ChangeType.IMPORTED, null, null));
+        verify(catalogVersion).bump();
     }
 
     @Test
@@ -62,6 +256,8 @@ class ZoneServiceTest {
         assertEquals("TestZone", result.getName());
         assertEquals(3, result.getPath().size());
         verify(zoneRepository).save(zone);
+        verify(eventPublisher).publishEvent(new ZoneChangedEvent(ZoneChangedEvent.ChangeType.CREATED, null, "TestZone"));
+        verify(catalogVersion).bump();
     }
 
     @Test
@@ -87,6 +283,7 @@ class ZoneServiceTest {
         
         assertEquals("Zone", exception.getField());
         assertEquals("Zone does not exist", exception.getMessage());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -97,6 +294,7 @@ class ZoneServiceTest {
 
         assertEquals("Zone deleted successfully", result);
         verify(zoneRepository).delete(zone);
+        verify(eventPublisher).publishEvent(new ZoneChangedEvent(ZoneChangedEvent.ChangeType.DELETED, null, "TestZone"));
     }
 
     @Test
@@ -0,0 +1,85 @@
+package droneportTeam05.service.calculation;
+
+import droneportTeam05.domain.aircraft.UAV;
+import droneportTeam05.domain.aircraft.UAVType;
+import droneportTeam05.domain.operation.OperationInputs;
+import droneportTeam05.domain.operation.OperationVolumes;
+import droneportTeam05.domain.risk.GroundRiskBuffer;
+import droneportTeam05.domain.risk.TerminationType;
+import droneportTeam05.domain.volume.ContingencyManoeuvre;
+import droneportTeam05.domain.volume.LateralContingencyVolume;
+import droneportTeam05.domain.volume.VerticalContingencyVolume;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OperationKernelTest {
+
+    @Test
+    public void testCalculate_MultirotorBallistic() {
+        // Arrange
+        UAV uav = new UAV(UAVType.MULTIROTOR, 10, 2, "barometric", 3, 3, 1, 1);
+        OperationInputs inputs = OperationInputs.of(uav, LateralContingencyVolume.forStopping(45),
+                VerticalContingencyVolume.forEnergyConversion(), GroundRiskBuffer.forBallistic(), 100);
+
+        // Act
+        OperationVolumes volumes = OperationKernel.calculate(inputs);
+
+        // Assert
+        double scm = (10 * 10) / (2 * 9.81 * Math.tan(Math.toRadians(45)));
+        double hcm = 0.5 * (10 * 10) / 9.81;
+        double hcv = 100 + 1 + 7 + hcm;
+        assertEquals(3 + 3 + 1 + 10 + scm, volumes.lateralExtension(), 0.0001);
+        assertEquals(7, volumes.responseHeight(), 0.0001);
+        assertEquals(hcm, volumes.heightContingencyManoeuvre(), 0.0001);
+        assertEquals(hcv, volumes.minVerticalDimension(), 0.0001);
+        assertEquals(10 * Math.sqrt(2 * hcv / 9.81) + 1, volumes.groundRiskBuffer(), 0.0001);
+        assertEquals(6, volumes.minFlightHeight(), 0.0001);
+        assertEquals(1200, volumes.adjacentLateral(), 0.0001);
+        assertEquals(hcv + 150, volumes.adjacentVertical(), 0.0001);
+    }
+
+    @Test
+    public void testCalculate_LateralParachuteTimeIsPropagated() {
+        // Arrange
+        UAV uav = new UAV(UAVType.MULTIROTOR, 10, 2, "barometric", 3, 3, 1, 1);
+        OperationInputs inputs = OperationInputs.of(uav, LateralContingencyVolume.forParachute(4),
+                VerticalContingencyVolume.forEnergyConversion(), GroundRiskBuffer.forParachute(5, 10, 3), 100);
+
+        // Act
+        OperationVolumes volumes = OperationKernel.calculate(inputs);
+
+        // Assert
+        assertEquals(4, volumes.verticalTimeToOpenParachute());
+        assertEquals(4, volumes.grbTimeToOpenParachute());
+        assertEquals(10 * 4 + 10 * (volumes.minVerticalDimension() / 3), volumes.groundRiskBuffer(), 0.0001);
+    }
+
+    @Test
+    public void testParachuteTime_Precedence() {
+        assertEquals(4, OperationKernel.parachuteTime(4, 5, 6));
+        assertEquals(5, OperationKernel.parachuteTime(0, 5, 6));
+        assertEquals(6, OperationKernel.parachuteTime(0, 0, 6));
+    }
+
+    @Test
+    public void testVerticalManoeuvre_UnsupportedManoeuvre() {
+        assertThrows(IllegalStateException.class,
+                () -> OperationKernel.verticalManoeuvre(ContingencyManoeuvre.STOPPING, 10, 0));
+    }
+
+    @Test
+    public void testGroundRiskBuffer_BallisticFixedWing() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> OperationKernel.groundRiskBuffer(TerminationType.BALLISTIC_APPROACH, UAVType.FIXEDWING,
+                        30, 3, 150, 0, 0, 0, 0));
+
+        assertTrue(exception.getMessage().contains("Ballistic approach only allowed"));
+    }
+
+    @Test
+    public void testGroundRiskBuffer_Gliding() {
+        assertEquals(2000, OperationKernel.groundRiskBuffer(TerminationType.OFF_GLIDING, UAVType.FIXEDWING,
+                30, 3, 100, 0, 0, 0, 20), 0.0001);
+    }
+}
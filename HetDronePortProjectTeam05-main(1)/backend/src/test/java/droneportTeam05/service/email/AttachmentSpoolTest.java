@@ -0,0 +1,92 @@
+package droneportTeam05.service.email;
+
+import droneportTeam05.domain.MailAttachment;
+import droneportTeam05.service.validation.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AttachmentSpoolTest {
+
+    @TempDir
+    Path spoolDir;
+
+    private AttachmentSpool attachmentSpool;
+
+    @BeforeEach
+    public void setup() {
+        attachmentSpool = new AttachmentSpool(spoolDir.toString(), DataSize.ofBytes(10), DataSize.ofBytes(15));
+    }
+
+    private MockMultipartFile file(String name, String content) {
+        return new MockMultipartFile("file", name, "text/plain", content.getBytes());
+    }
+
+    @Test
+    public void testSpool_WritesFilesAndSkipsEmpty() throws Exception {
+        // Act
+        List<MailAttachment> attachments = attachmentSpool.spool(
+                Arrays.asList(file("a.txt", "alpha"), file("empty.txt", ""), null));
+
+        // Assert
+        assertEquals(1, attachments.size());
+        MailAttachment attachment = attachments.get(0);
+        assertEquals("a.txt", attachment.getFilename());
+        assertEquals("text/plain", attachment.getContentType());
+        assertEquals(5, attachment.getSize());
+        assertEquals("alpha", Files.readString(Paths.get(attachment.getPath())));
+    }
+
+    @Test
+    public void testSpool_RejectsOversizedFileBeforeWriting() throws Exception {
+        assertThrows(ValidationException.class,
+                () -> attachmentSpool.spool(List.of(file("a.txt", "alpha"), file("big.txt", "more than ten"))));
+        try (var files = Files.list(spoolDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void testSpool_RejectsTotalOverLimit() throws Exception {
+        assertThrows(ValidationException.class,
+                () -> attachmentSpool.spool(List.of(file("a.txt", "12345678"), file("b.txt", "12345678"))));
+        try (var files = Files.list(spoolDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void testDelete_RemovesSpoolFiles() throws Exception {
+        // Arrange
+        List<MailAttachment> attachments = attachmentSpool.spool(List.of(file("a.txt", "alpha")));
+
+        // Act
+        attachmentSpool.delete(attachments);
+
+        // Assert
+        assertFalse(Files.exists(Paths.get(attachments.get(0).getPath())));
+    }
+
+    @Test
+    public void testFindMissing_ReturnsAttachmentWhoseFileIsGone() throws Exception {
+        // Arrange
+        List<MailAttachment> attachments = attachmentSpool.spool(List.of(file("a.txt", "alpha"), file("b.txt", "beta")));
+        assertNull(attachmentSpool.findMissing(attachments));
+
+        // Act
+        Files.delete(Paths.get(attachments.get(1).getPath()));
+
+        // Assert
+        assertSame(attachments.get(1), attachmentSpool.findMissing(attachments));
+    }
+}
@@ -0,0 +1,129 @@
+package droneportTeam05.service.email;
+
+import droneportTeam05.controllers.dto.BulkMailRecipient;
+import droneportTeam05.controllers.dto.BulkMailRequest;
+import droneportTeam05.controllers.dto.BulkMailResult;
+import droneportTeam05.domain.EmailTemplate;
+import droneportTeam05.domain.MailStatus;
+import droneportTeam05.service.EmailTemplateService;
+import droneportTeam05.service.validation.ValidationException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class BulkMailServiceTest {
+
+    @Mock
+    private MailSenderService mailSenderService;
+
+    @Mock
+    private EmailTemplateService emailTemplateService;
+
+    private BulkMailService bulkMailService;
+
+    // Chunks are sent while later recipients are still being prepared
+    private final Map<MimeMessage, String> recipientsByMessage = new ConcurrentHashMap<>();
+    private final Map<String, String> bodies = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    public void setup() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        bulkMailService = new BulkMailService(mailSenderService, emailTemplateService, 100, 2, 2, 0);
+
+        when(mailSenderService.prepare(anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+            String to = invocation.getArgument(0);
+            if (to.startsWith("<")) {
+                throw new MessagingException("Missing '>'");
+            }
+            MimeMessage message = new MimeMessage((Session) null);
+            recipientsByMessage.put(message, to);
+            bodies.put(to, invocation.getArgument(2));
+            return message;
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        bulkMailService.shutdown();
+    }
+
+    private BulkMailRecipient recipient(String to, String droneName) {
+        return new BulkMailRecipient(to, Map.of("droneName", droneName));
+    }
+
+    @Test
+    public void testSend_ReportsOutcomePerRecipientInOrder() {
+        // Arrange
+        when(mailSenderService.sendAll(anyList())).thenAnswer(invocation -> {
+            List<MimeMessage> messages = invocation.getArgument(0);
+            Map<MimeMessage, Exception> failed = new HashMap<>();
+            for (MimeMessage message : messages) {
+                if (recipientsByMessage.get(message).startsWith("bounce")) {
+                    failed.put(message, new MessagingException("Mailbox unavailable"));
+                }
+            }
+            return failed;
+        });
+        List<BulkMailRecipient> recipients = new ArrayList<>();
+        recipients.add(recipient("a@example.com", "Falcon"));
+        recipients.add(recipient("<broken", "Hawk"));
+        recipients.add(recipient("bounce@example.com", "Owl"));
+        recipients.add(recipient("b@example.com", "Kite"));
+        recipients.add(recipient("c@example.com", "Swift"));
+
+        // Act
+        BulkMailResult result = bulkMailService.send(
+                new BulkMailRequest("Update", "Drone {{droneName}} is cleared", recipients));
+
+        // Assert
+        assertEquals(5, result.getOutcomes().size());
+        assertEquals(MailStatus.SENT, result.getOutcomes().get(0).getStatus());
+        assertEquals(MailStatus.FAILED, result.getOutcomes().get(1).getStatus());
+        assertEquals(MailStatus.FAILED, result.getOutcomes().get(2).getStatus());
+        assertEquals("Mailbox unavailable", result.getOutcomes().get(2).getErrorMessage());
+        assertEquals("c@example.com", result.getOutcomes().get(4).getTo());
+        assertEquals(3, result.getSent());
+        assertEquals(2, result.getFailed());
+        assertEquals("Drone Kite is cleared", bodies.get("b@example.com"));
+
+        // Four valid recipients in chunks of two share two connections
+        verify(mailSenderService, times(2)).sendAll(anyList());
+    }
+
+    @Test
+    public void testSend_UsesDefaultTemplateWithoutSubjectAndBody() {
+        // Arrange
+        when(emailTemplateService.getCompiledTemplate()).thenReturn(
+                new CompiledEmailTemplate(new EmailTemplate("default", "Hi", "Drone {{droneName}}")));
+        when(mailSenderService.sendAll(anyList())).thenReturn(Map.of());
+
+        // Act
+        BulkMailResult result = bulkMailService.send(
+                new BulkMailRequest(null, null, List.of(recipient("a@example.com", "Falcon"))));
+
+        // Assert
+        assertEquals(1, result.getSent());
+        assertEquals("Drone Falcon", bodies.get("a@example.com"));
+    }
+
+    @Test
+    public void testSend_RequiresRecipients() {
+        assertThrows(ValidationException.class,
+                () -> bulkMailService.send(new BulkMailRequest("Update", "Body", List.of())));
+    }
+}
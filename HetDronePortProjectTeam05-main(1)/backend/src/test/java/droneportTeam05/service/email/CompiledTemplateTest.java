@@ -0,0 +1,51 @@
+package droneportTeam05.service.email;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompiledTemplateTest {
+
+    @Test
+    public void testRender_FillsPlaceholders() {
+        // Arrange
+        CompiledTemplate template = CompiledTemplate.compile(
+                "Drone {{droneName}} needs a buffer of {{ groundRiskBuffer }} m around {{droneName}}.");
+
+        // Act
+        String rendered = template.render(Map.of("droneName", "Falcon", "groundRiskBuffer", 36.9));
+
+        // Assert
+        assertEquals("Drone Falcon needs a buffer of 36.9 m around Falcon.", rendered);
+        assertEquals(List.of("droneName", "groundRiskBuffer", "droneName"), template.getPlaceholders());
+    }
+
+    @Test
+    public void testRender_MissingValueKeepsPlaceholder() {
+        CompiledTemplate template = CompiledTemplate.compile("Hello {{name}}");
+
+        assertEquals("Hello {{name}}", template.render(Map.of()));
+    }
+
+    @Test
+    public void testRender_BracesThatAreNotPlaceholdersStayText() {
+        // Arrange
+        String text = "No {{ name }here {{}} and an open {{ brace";
+        CompiledTemplate template = CompiledTemplate.compile(text);
+
+        // Act
+        String rendered = template.render(Map.of("name", "x"));
+
+        // Assert
+        assertTrue(template.getPlaceholders().isEmpty());
+        assertEquals(text, rendered);
+    }
+
+    @Test
+    public void testCompile_NullIsEmpty() {
+        assertEquals("", CompiledTemplate.compile(null).render(Map.of()));
+    }
+}
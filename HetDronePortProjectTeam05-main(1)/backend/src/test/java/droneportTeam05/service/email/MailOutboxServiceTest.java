@@ -0,0 +1,66 @@
+package droneportTeam05.service.email;
+
+import droneportTeam05.domain.MailAttachment;
+import droneportTeam05.domain.MailStatus;
+import droneportTeam05.domain.OutboundMail;
+import droneportTeam05.repository.OutboundMailRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class MailOutboxServiceTest {
+
+    @TempDir
+    Path spoolDir;
+
+    @Mock
+    private OutboundMailRepository outboxRepository;
+
+    @Mock
+    private MailSenderService mailSenderService;
+
+    private MailOutboxService mailOutboxService;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        AttachmentSpool attachmentSpool = new AttachmentSpool(spoolDir.toString(),
+                DataSize.ofMegabytes(1), DataSize.ofMegabytes(1));
+        mailOutboxService = new MailOutboxService(outboxRepository, mailSenderService, attachmentSpool,
+                1, 5, 100, 1000, 1000, 3600000);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        mailOutboxService.shutdown();
+    }
+
+    @Test
+    public void testDeliver_MissingSpoolFileFailsWithoutRetry() throws Exception {
+        // Arrange
+        MailAttachment attachment = new MailAttachment("flight-area.kml", "application/vnd.google-earth.kml+xml",
+                spoolDir.resolve("attachment-gone.bin").toString(), 6);
+        OutboundMail mail = new OutboundMail("operator@example.com", "Zone updated", "Zone A changed",
+                List.of(attachment));
+        when(outboxRepository.findById(mail.getId())).thenReturn(Optional.of(mail));
+
+        // Act
+        mailOutboxService.deliver(mail.getId());
+
+        // Assert
+        verify(outboxRepository).recordAttempt(eq(mail.getId()), eq(MailStatus.FAILED), eq(1), any(),
+                eq("Attachment spool file missing: flight-area.kml"), isNull());
+        verifyNoInteractions(mailSenderService);
+    }
+}
@@ -0,0 +1,208 @@
+package droneportTeam05.service.geometry;
+
+import droneportTeam05.controllers.dto.DroneOperationResult;
+import droneportTeam05.domain.geography.FlightGeography;
+import droneportTeam05.domain.risk.GroundRiskBuffer;
+import droneportTeam05.domain.volume.AdjacentVolume;
+import droneportTeam05.domain.volume.LateralContingencyVolume;
+import droneportTeam05.domain.volume.VerticalContingencyVolume;
+import droneportTeam05.domain.zones.Point;
+import droneportTeam05.domain.zones.Zone;
+import droneportTeam05.service.validation.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FootprintServiceTest {
+
+    private static final double ORIGIN_LAT = 50.8;
+    private static final double ORIGIN_LNG = 5.2;
+
+    private final LocalProjection projection = new LocalProjection(ORIGIN_LAT, ORIGIN_LNG);
+
+    private FootprintService footprintService;
+
+    @BeforeEach
+    public void setup() {
+        footprintService = new FootprintService(16);
+    }
+
+    // Square of the given side in meters, centred on the origin
+    private Zone createSquareZone(String name, double side) {
+        double half = side / 2;
+        List<Point> path = new ArrayList<>();
+        path.add(new Point(projection.lat(-half), projection.lng(-half)));
+        path.add(new Point(projection.lat(-half), projection.lng(half)));
+        path.add(new Point(projection.lat(half), projection.lng(half)));
+        path.add(new Point(projection.lat(half), projection.lng(-half)));
+        return new Zone(name, path, 120);
+    }
+
+    private DroneOperationResult createResult(double groundRiskBuffer, double lateralExtension, double adjacentLateral) {
+        GroundRiskBuffer grb = GroundRiskBuffer.forBallistic();
+        grb.setMinLateralDimension(groundRiskBuffer);
+        LateralContingencyVolume lateralCV = LateralContingencyVolume.forStopping(45);
+        lateralCV.setLateralExtension(lateralExtension);
+        VerticalContingencyVolume verticalCV = VerticalContingencyVolume.forEnergyConversion();
+        verticalCV.setMinVerticalDimension(80);
+
+        return DroneOperationResult.builder()
+                .lateralCV(lateralCV)
+                .verticalCV(verticalCV)
+                .grb(grb)
+                .flightGeography(new FlightGeography(60, 6, 6))
+                .adjacentVolume(new AdjacentVolume(adjacentLateral, 230))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> features(Map<String, Object> collection) {
+        return (List<Map<String, Object>>) collection.get("features");
+    }
+
+    @SuppressWarnings("unchecked")
+    private double area(Map<String, Object> feature) {
+        Map<String, Object> geometry = (Map<String, Object>) feature.get("geometry");
+        assertEquals("Polygon", geometry.get("type"));
+        List<List<List<Double>>> rings = (List<List<List<Double>>>) geometry.get("coordinates");
+        List<List<Double>> exterior = rings.get(0);
+
+        double sum = 0;
+        for (int i = 0; i < exterior.size() - 1; i++) {
+            double x1 = projection.x(exterior.get(i).get(0));
+            double y1 = projection.y(exterior.get(i).get(1));
+            double x2 = projection.x(exterior.get(i + 1).get(0));
+            double y2 = projection.y(exterior.get(i + 1).get(1));
+            sum += x1 * y2 - x2 * y1;
+        }
+        return sum / 2;
+    }
+
+    @Test
+    public void testFootprint_BuffersLikeFrontend() {
+        // Arrange
+        Zone zone = createSquareZone("Square", 1000);
+        DroneOperationResult result = createResult(100, 50, 200);
+
+        // Act
+        List<Map<String, Object>> features = features(footprintService.footprint(zone, result));
+
+        // Assert
+        assertEquals(4, features.size());
+        double ring = Math.PI * 200 * 200;
+        assertEquals(1000 * 1000 + 4 * 1000 * 200 + ring, area(features.get(0)), ring * 0.01);
+        assertEquals(1000 * 1000, area(features.get(1)), 1);
+        assertEquals(800 * 800, area(features.get(2)), 1);
+        assertEquals(700 * 700, area(features.get(3)), 1);
+
+        Map<?, ?> properties = (Map<?, ?>) features.get(3).get("properties");
+        assertEquals("Square", properties.get("zone"));
+        assertEquals(FootprintService.FLIGHT_GEOGRAPHY, properties.get("volume"));
+        assertEquals(-150.0, properties.get("bufferMeters"));
+        assertEquals(60.0, properties.get("topAltitude"));
+    }
+
+    @Test
+    public void testFootprint_CollapsedVolumeHasNoGeometry() {
+        // Arrange
+        Zone zone = createSquareZone("Small", 200);
+        DroneOperationResult result = createResult(80, 50, 200);
+
+        // Act
+        List<Map<String, Object>> features = features(footprintService.footprint(zone, result));
+
+        // Assert
+        assertNotNull(features.get(2).get("geometry"));
+        assertNull(features.get(3).get("geometry"));
+    }
+
+    @Test
+    public void testFootprint_ConcaveZoneMayShrinkIntoTwoParts() {
+        // Arrange: two 400 m squares joined by a 40 m wide corridor
+        List<Point> path = new ArrayList<>();
+        double[][] corners = {
+                {0, 0}, {400, 0}, {400, 180}, {600, 180}, {600, 0}, {1000, 0},
+                {1000, 400}, {600, 400}, {600, 220}, {400, 220}, {400, 400}, {0, 400}};
+        for (double[] corner : corners) {
+            path.add(new Point(projection.lat(corner[1]), projection.lng(corner[0])));
+        }
+        Zone zone = new Zone("Dumbbell", path, 120);
+
+        // Act
+        List<Map<String, Object>> features = features(footprintService.footprint(zone, createResult(30, 0, 100)));
+
+        // Assert
+        Map<?, ?> groundRisk = (Map<?, ?>) features.get(1).get("geometry");
+        Map<?, ?> contingency = (Map<?, ?>) features.get(2).get("geometry");
+        assertEquals("Polygon", groundRisk.get("type"));
+        assertEquals("MultiPolygon", contingency.get("type"));
+        assertEquals(2, ((List<?>) contingency.get("coordinates")).size());
+    }
+
+    @Test
+    public void testFootprint_CachedPerZoneAndDistances() {
+        // Arrange
+        Zone zone = createSquareZone("Square", 1000);
+
+        // Act
+        FootprintService.Footprint first = footprintService.footprint(zone.getPath(), 100, 50, 200);
+        FootprintService.Footprint second = footprintService.footprint(createSquareZone("Copy", 1000).getPath(), 100, 50, 200);
+        FootprintService.Footprint other = footprintService.footprint(zone.getPath(), 100, 60, 200);
+
+        // Assert
+        assertSame(first, second);
+        assertNotSame(first, other);
+        assertEquals(2, footprintService.getCacheSize());
+    }
+
+    @Test
+    public void testFootprints_AllZones() {
+        // Arrange
+        List<Zone> zones = List.of(createSquareZone("A", 1000), createSquareZone("B", 2000));
+
+        // Act
+        List<Map<String, Object>> features = features(footprintService.footprints(zones, createResult(100, 50, 200)));
+
+        // Assert
+        assertEquals(8, features.size());
+    }
+
+    @Test
+    public void testFootprints_ReadsPathsOnCallingThread() {
+        // Arrange: stands in for managed zones whose lazy outline must not be loaded from the ForkJoin pool
+        Set<Thread> readers = ConcurrentHashMap.newKeySet();
+        List<Zone> zones = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            Zone square = createSquareZone("Z" + i, 1000 + i);
+            zones.add(new Zone(square.getName(), square.getPath(), 120) {
+                @Override
+                public List<Point> getPath() {
+                    readers.add(Thread.currentThread());
+                    return super.getPath();
+                }
+            });
+        }
+
+        // Act
+        List<Map<String, Object>> features = features(footprintService.footprints(zones, createResult(100, 50, 200)));
+
+        // Assert
+        assertEquals(256, features.size());
+        assertEquals(Set.of(Thread.currentThread()), readers);
+    }
+
+    @Test
+    public void testFootprint_RequiresPolygon() {
+        Zone zone = new Zone("Line", List.of(new Point(50.8, 5.2), new Point(50.81, 5.21)), 120);
+
+        assertThrows(ValidationException.class,
+                () -> footprintService.footprint(zone, createResult(100, 50, 200)));
+    }
+}
@@ -0,0 +1,95 @@
+package droneportTeam05.service.geometry;
+
+import droneportTeam05.domain.zones.Point;
+import droneportTeam05.service.validation.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PolygonSimplifierTest {
+
+    private final LocalProjection projection = new LocalProjection(50.8, 5.2);
+
+    private Point point(double x, double y) {
+        return new Point(projection.lat(y), projection.lng(x));
+    }
+
+    private List<Point> circle(double radius, int vertices) {
+        List<Point> path = new ArrayList<>();
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2 * Math.PI * i / vertices;
+            path.add(point(radius * Math.cos(angle), radius * Math.sin(angle)));
+        }
+        return path;
+    }
+
+    @Test
+    public void testSimplify_DropsCollinearPoints() {
+        // Arrange: a 1 km square with a vertex every 100 m along its sides
+        List<Point> path = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            path.add(point(i * 100, 0));
+        }
+        for (int i = 0; i < 10; i++) {
+            path.add(point(1000, i * 100));
+        }
+        for (int i = 0; i < 10; i++) {
+            path.add(point(1000 - i * 100, 1000));
+        }
+        for (int i = 0; i < 10; i++) {
+            path.add(point(0, 1000 - i * 100));
+        }
+
+        // Act
+        List<Point> simplified = PolygonSimplifier.simplify(path, 1);
+
+        // Assert
+        assertEquals(List.of(path.get(0), path.get(10), path.get(20), path.get(30)), simplified);
+    }
+
+    @Test
+    public void testSimplify_FewerPointsForLargerTolerance() {
+        // Arrange
+        List<Point> path = circle(1000, 360);
+
+        // Act
+        int fine = PolygonSimplifier.simplify(path, 5).size();
+        int coarse = PolygonSimplifier.simplify(path, 100).size();
+
+        // Assert
+        assertTrue(fine < 360);
+        assertTrue(coarse < fine);
+        assertSame(path, PolygonSimplifier.simplify(path, 0));
+    }
+
+    @Test
+    public void testSimplify_KeepsAPolygon() {
+        // Arrange: a sliver much thinner than the tolerance
+        List<Point> path = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            path.add(point(i * 100, i % 2));
+        }
+
+        // Act
+        List<Point> simplified = PolygonSimplifier.simplify(path, 500);
+
+        // Assert
+        assertEquals(3, simplified.size());
+        assertSame(path.get(0), simplified.get(0));
+    }
+
+    @Test
+    public void testZoneDetail_PicksCoarsestLevelWithinTolerance() {
+        assertEquals(0, ZoneDetail.level(ZoneDetail.tolerance(null, null)));
+        assertEquals(0, ZoneDetail.level(4.9));
+        assertEquals(3, ZoneDetail.level(120));
+        assertEquals(0, ZoneDetail.level(ZoneDetail.tolerance(null, 16)));
+        assertEquals(ZoneDetail.levels() - 1, ZoneDetail.level(ZoneDetail.tolerance(null, 0)));
+        assertThrows(ValidationException.class, () -> ZoneDetail.tolerance(10.0, 12));
+        assertThrows(ValidationException.class, () -> ZoneDetail.tolerance(null, 30));
+        assertThrows(ValidationException.class, () -> ZoneDetail.tolerance(-1.0, null));
+    }
+}
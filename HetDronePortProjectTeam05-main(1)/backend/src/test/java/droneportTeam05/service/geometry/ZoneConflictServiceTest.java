@@ -0,0 +1,107 @@
+package droneportTeam05.service.geometry;
+
+import droneportTeam05.controllers.dto.DroneOperationResult;
+import droneportTeam05.controllers.dto.ZoneConflict;
+import droneportTeam05.controllers.dto.ZoneConflictResult;
+import droneportTeam05.domain.volume.AdjacentVolume;
+import droneportTeam05.domain.zones.Point;
+import droneportTeam05.domain.zones.Zone;
+import droneportTeam05.repository.ZoneRepository;
+import droneportTeam05.service.validation.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ZoneConflictServiceTest {
+
+    private final LocalProjection projection = new LocalProjection(50.8, 5.2);
+
+    @Mock
+    private ZoneRepository zoneRepository;
+
+    private ZoneConflictService zoneConflictService;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        zoneConflictService = new ZoneConflictService(new ZoneIndex(zoneRepository));
+    }
+
+    // Rectangle in meters around the projection origin
+    private List<Point> rectangle(double minX, double minY, double maxX, double maxY) {
+        List<Point> path = new ArrayList<>();
+        path.add(new Point(projection.lat(minY), projection.lng(minX)));
+        path.add(new Point(projection.lat(minY), projection.lng(maxX)));
+        path.add(new Point(projection.lat(maxY), projection.lng(maxX)));
+        path.add(new Point(projection.lat(maxY), projection.lng(minX)));
+        return path;
+    }
+
+    private DroneOperationResult createResult() {
+        return DroneOperationResult.builder()
+                .adjacentVolume(new AdjacentVolume(200, 230))
+                .build();
+    }
+
+    @Test
+    public void testFindConflicts_LateralAndVertical() {
+        // Arrange: the operation area is a 1000 m square, so the adjacent volume reaches 700 m from the centre
+        when(zoneRepository.findAllWithPath()).thenReturn(List.of(
+                new Zone("Overlap", rectangle(400, -100, 800, 100), 500),
+                new Zone("LowNeighbour", rectangle(550, -50, 650, 50), 100),
+                new Zone("HighNeighbour", rectangle(550, 100, 650, 200), 300),
+                new Zone("Far", rectangle(5000, 5000, 5100, 5100), 10)));
+
+        // Act
+        ZoneConflictResult result = zoneConflictService.findConflicts(rectangle(-500, -500, 500, 500), createResult());
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals(230, result.getRequiredHeight());
+        assertEquals(3, result.getCandidateCount());
+        assertEquals(2, result.getConflicts().size());
+
+        ZoneConflict low = result.getConflicts().get(0);
+        assertEquals("LowNeighbour", low.getZoneName());
+        assertFalse(low.isLateralConflict());
+        assertTrue(low.isVerticalConflict());
+        assertEquals(0, low.getOperationOverlapArea());
+        assertEquals(100 * 100, low.getOverlapArea(), 1);
+
+        ZoneConflict overlap = result.getConflicts().get(1);
+        assertEquals("Overlap", overlap.getZoneName());
+        assertTrue(overlap.isLateralConflict());
+        assertFalse(overlap.isVerticalConflict());
+        assertEquals(100 * 200, overlap.getOperationOverlapArea(), 1);
+        assertEquals(300 * 200, overlap.getOverlapArea(), 1);
+    }
+
+    @Test
+    public void testFindConflicts_NoZonesNearby() {
+        // Arrange
+        when(zoneRepository.findAllWithPath()).thenReturn(List.of(
+                new Zone("Far", rectangle(5000, 5000, 5100, 5100), 10)));
+
+        // Act
+        ZoneConflictResult result = zoneConflictService.findConflicts(rectangle(-500, -500, 500, 500), createResult());
+
+        // Assert
+        assertEquals(0, result.getCandidateCount());
+        assertTrue(result.getConflicts().isEmpty());
+    }
+
+    @Test
+    public void testFindConflicts_RequiresPolygon() {
+        List<Point> line = List.of(new Point(50.8, 5.2), new Point(50.81, 5.21));
+
+        assertThrows(ValidationException.class, () -> zoneConflictService.findConflicts(line, createResult()));
+        verifyNoInteractions(zoneRepository);
+    }
+}
@@ -0,0 +1,127 @@
+package droneportTeam05.service.geometry;
+
+import droneportTeam05.domain.zones.Point;
+import droneportTeam05.domain.zones.Zone;
+import droneportTeam05.repository.ZoneRepository;
+import droneportTeam05.service.ZoneChangedEvent;
+import droneportTeam05.service.validation.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ZoneIndexTest {
+
+    @Mock
+    private ZoneRepository zoneRepository;
+
+    private ZoneIndex zoneIndex;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        zoneIndex = new ZoneIndex(zoneRepository);
+    }
+
+    private Zone createZone(String name, double... latLngs) {
+        List<Point> path = new ArrayList<>();
+        for (int i = 0; i < latLngs.length; i += 2) {
+            path.add(new Point(latLngs[i], latLngs[i + 1]));
+        }
+        return new Zone(name, path, 120);
+    }
+
+    private Zone createSquare(String name, double lat, double lng, double size) {
+        return createZone(name, lat, lng, lat, lng + size, lat + size, lng + size, lat + size, lng);
+    }
+
+    private List<String> names(List<Zone> zones) {
+        return zones.stream().map(Zone::getName).toList();
+    }
+
+    @Test
+    public void testFindContaining_RefinesBoundingBoxHits() {
+        // Arrange: an L-shape whose bounding box covers the empty upper right corner
+        Zone shape = createZone("L", 50, 5, 50, 5.2, 50.1, 5.2, 50.1, 5.1, 50.2, 5.1, 50.2, 5);
+        when(zoneRepository.findAllWithPath()).thenReturn(List.of(shape, createSquare("Square", 50.15, 5.15, 0.1)));
+
+        // Act & Assert
+        assertEquals(List.of("L"), names(zoneIndex.findContaining(50.05, 5.15)));
+        assertEquals(List.of("Square"), names(zoneIndex.findContaining(50.18, 5.18)));
+        assertTrue(zoneIndex.findContaining(50.12, 5.12).isEmpty());
+    }
+
+    @Test
+    public void testFindIntersecting_EdgeCrossingAndContainedBox() {
+        // Arrange: a thin diagonal sliver whose bounding box covers most of the query boxes
+        Zone sliver = createZone("Sliver", 50, 5, 50.01, 5, 50.2, 5.2, 50.2, 5.19);
+        when(zoneRepository.findAllWithPath()).thenReturn(List.of(sliver, createSquare("Square", 50, 5, 0.2)));
+
+        // Act & Assert
+        assertEquals(List.of("Sliver", "Square"), names(zoneIndex.findIntersecting(50.09, 5.08, 50.11, 5.12)));
+        assertEquals(List.of("Square"), names(zoneIndex.findIntersecting(50.15, 5.01, 50.16, 5.02)));
+        assertTrue(zoneIndex.findIntersecting(51, 6, 51.1, 6.1).isEmpty());
+    }
+
+    @Test
+    public void testQueries_MatchBruteForce() {
+        // Arrange
+        Random random = new Random(42);
+        List<Zone> zones = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            double lat = 50 + random.nextDouble() * 2;
+            double lng = 4 + random.nextDouble() * 3;
+            double size = 0.001 + random.nextDouble() * 0.05;
+            zones.add(createZone("Zone" + i, lat, lng, lat + size, lng + size / 2, lat, lng + size));
+        }
+        when(zoneRepository.findAllWithPath()).thenReturn(zones);
+        List<ZoneShape> shapes = zones.stream().map(ZoneShape::of).toList();
+
+        // Act & Assert
+        for (int i = 0; i < 200; i++) {
+            double lat = 50 + random.nextDouble() * 2;
+            double lng = 4 + random.nextDouble() * 3;
+            double size = random.nextDouble() * 0.1;
+
+            List<String> containing = shapes.stream()
+                    .filter(shape -> shape.contains(lat, lng)).map(ZoneShape::name).sorted().toList();
+            List<String> intersecting = shapes.stream()
+                    .filter(shape -> shape.intersects(lat, lng, lat + size, lng + size)).map(ZoneShape::name).sorted().toList();
+
+            assertEquals(containing, names(zoneIndex.findContaining(lat, lng)));
+            assertEquals(intersecting, names(zoneIndex.findIntersecting(lat, lng, lat + size, lng + size)));
+        }
+        assertEquals(2000, zoneIndex.size());
+        verify(zoneRepository, times(1)).findAllWithPath();
+    }
+
+    @Test
+    public void testOnZoneChanged_RebuildsOnNextQuery() {
+        // Arrange
+        when(zoneRepository.findAllWithPath())
+                .thenReturn(List.of(createSquare("Old", 50, 5, 0.1)))
+                .thenReturn(List.of(createSquare("New", 50, 5, 0.1)));
+        assertEquals(List.of("Old"), names(zoneIndex.findContaining(50.05, 5.05)));
+
+        // Act
+        zoneIndex.onZoneChanged(new ZoneChangedEvent(ZoneChangedEvent.ChangeType.UPDATED, 1L, "New"));
+
+        // Assert
+        assertEquals(List.of("New"), names(zoneIndex.findContaining(50.05, 5.05)));
+        verify(zoneRepository, times(2)).findAllWithPath();
+    }
+
+    @Test
+    public void testFindIntersecting_InvalidBox() {
+        assertThrows(ValidationException.class, () -> zoneIndex.findIntersecting(51, 5, 50, 6));
+        assertThrows(ValidationException.class, () -> zoneIndex.findContaining(91, 5));
+        verifyNoInteractions(zoneRepository);
+    }
+}
@@ -0,0 +1,86 @@
+package droneportTeam05.service.imports;
+
+import droneportTeam05.domain.Drone;
+import droneportTeam05.domain.aircraft.UAVType;
+import droneportTeam05.domain.risk.TerminationType;
+import droneportTeam05.domain.volume.ContingencyManoeuvre;
+import droneportTeam05.service.imports.DroneCsvReader.ParsedDrone;
+import droneportTeam05.service.validation.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DroneCsvReaderTest {
+
+    private static final String HEADER =
+            "name,type,maxOperationalSpeed,maxCharacteristicDimension,lateralManoeuvre,verticalManoeuvre,termination";
+
+    private List<ParsedDrone> read(String csv, int maxRows) throws Exception {
+        return DroneCsvReader.read(new StringReader(csv), maxRows);
+    }
+
+    @Test
+    public void testRead_RequiredColumnsInAnyOrder() throws Exception {
+        // Arrange
+        String csv = "termination,name,type,maxOperationalSpeed,maxCharacteristicDimension,lateralManoeuvre,"
+                + "verticalManoeuvre,pitchAngle\n"
+                + "ballistic_approach,\"Quad, large\",multirotor,15,2.5,stopping,energy_conversion,30\n";
+
+        // Act
+        List<ParsedDrone> drones = read(csv, 10);
+
+        // Assert
+        assertEquals(1, drones.size());
+        Drone drone = drones.get(0).drone();
+        assertEquals(1, drones.get(0).row());
+        assertEquals("Quad, large", drone.getName());
+        assertEquals(UAVType.MULTIROTOR, drone.getUav().getType());
+        assertEquals(15, drone.getUav().getMaxOperationalSpeed());
+        assertEquals("barometric", drone.getUav().getAltitudeMeasurementErrorType());
+        assertEquals(ContingencyManoeuvre.STOPPING, drone.getLateralContingencyVolume().getContingencyManoeuvre());
+        assertEquals(30, drone.getLateralContingencyVolume().getPitchAngle());
+        assertEquals(TerminationType.BALLISTIC_APPROACH, drone.getGroundRiskBuffer().getTermination());
+    }
+
+    @Test
+    public void testRead_InvalidRowDoesNotStopImport() throws Exception {
+        // Arrange
+        String csv = HEADER + "\n"
+                + "Wing,fixedwing,fast,3,turn_180,circular_path,off_gliding\n"
+                + "\n"
+                + "Heli,rotorcraft,20,4,hover,parachute_termination,parachute\n"
+                + "Quad,multirotor,15,2.5,stopping,energy_conversion,ballistic_approach\n";
+
+        // Act
+        List<ParsedDrone> drones = read(csv, 10);
+
+        // Assert
+        assertEquals(3, drones.size());
+        assertEquals("Invalid number for maxOperationalSpeed: fast", drones.get(0).errorMessage());
+        assertEquals("Invalid value for lateralManoeuvre: hover", drones.get(1).errorMessage());
+        assertNull(drones.get(1).drone());
+        assertEquals(3, drones.get(2).row());
+        assertNull(drones.get(2).errorMessage());
+    }
+
+    @Test
+    public void testRead_MissingColumn() {
+        assertThrows(ValidationException.class, () -> read("name,type\nQuad,multirotor\n", 10));
+    }
+
+    @Test
+    public void testRead_TooManyRows() {
+        String row = "Quad,multirotor,15,2.5,stopping,energy_conversion,ballistic_approach\n";
+
+        assertThrows(ValidationException.class, () -> read(HEADER + "\n" + row + row + row, 2));
+    }
+
+    @Test
+    public void testSplit_QuotedFields() {
+        assertEquals(List.of("a", "b,c", "say \"hi\"", ""), DroneCsvReader.split("a,\"b,c\",\"say \"\"hi\"\"\","));
+        assertThrows(IllegalArgumentException.class, () -> DroneCsvReader.split("a,\"b"));
+    }
+}
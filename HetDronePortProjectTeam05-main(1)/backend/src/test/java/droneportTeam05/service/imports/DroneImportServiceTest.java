@@ -0,0 +1,89 @@
+package droneportTeam05.service.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import droneportTeam05.controllers.dto.ImportResult;
+import droneportTeam05.controllers.dto.ImportStatus;
+import droneportTeam05.domain.Drone;
+import droneportTeam05.domain.aircraft.UAV;
+import droneportTeam05.domain.aircraft.UAVType;
+import droneportTeam05.domain.risk.GroundRiskBuffer;
+import droneportTeam05.domain.volume.LateralContingencyVolume;
+import droneportTeam05.domain.volume.VerticalContingencyVolume;
+import droneportTeam05.repository.DroneRepository;
+import droneportTeam05.service.CatalogVersion;
+import droneportTeam05.service.imports.DroneCsvReader.ParsedDrone;
+import droneportTeam05.service.validation.DroneOperationValidationService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class DroneImportServiceTest {
+
+    @Mock
+    private DroneRepository droneRepository;
+
+    @Mock
+    private DroneOperationValidationService validationService;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private DroneImportService droneImportService;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        droneImportService = new DroneImportService(droneRepository, validationService, new ObjectMapper(),
+                catalogVersion, transactionManager, 500, 100);
+        ReflectionTestUtils.setField(droneImportService, "entityManager", entityManager);
+        when(droneRepository.findAllWithConfigurationByNameIn(any())).thenReturn(List.of());
+    }
+
+    private Drone createDrone(String name) {
+        UAV uav = new UAV();
+        uav.setType(UAVType.MULTIROTOR);
+        return new Drone(name, uav, LateralContingencyVolume.forStopping(45),
+                VerticalContingencyVolume.forEnergyConversion(), GroundRiskBuffer.forBallistic());
+    }
+
+    @Test
+    public void testImportRows_ConstraintViolationReportedPerRow() {
+        // Arrange: another request created "Quad" after the lookup, so the insert hits the unique name
+        doThrow(new ConstraintViolationException("could not execute statement",
+                new SQLException("duplicate key value violates unique constraint \"uk_drones_name\""), "uk_drones_name"))
+                .when(entityManager).flush();
+
+        // Act
+        ImportResult result = droneImportService.importRows(List.of(
+                new ParsedDrone(1, createDrone("Quad"), null),
+                new ParsedDrone(2, createDrone("Wing"), null)), System.currentTimeMillis());
+
+        // Assert
+        assertEquals(2, result.getRows().size());
+        for (var row : result.getRows()) {
+            assertEquals(ImportStatus.FAILED, row.getStatus());
+            assertEquals("Import rolled back: duplicate key value violates unique constraint \"uk_drones_name\"",
+                    row.getErrorMessage());
+        }
+        assertEquals(0, result.getCreated());
+        verify(catalogVersion, never()).bumpAfterCommit();
+    }
+}
@@ -0,0 +1,140 @@
+package droneportTeam05.service.imports;
+
+import droneportTeam05.domain.zones.Zone;
+import droneportTeam05.service.imports.ZoneFileReader.ParsedZone;
+import droneportTeam05.service.validation.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZoneFileReaderTest {
+
+    private List<ParsedZone> read(ZoneFileFormat format, String content) throws Exception {
+        List<ParsedZone> zones = new ArrayList<>();
+        ZoneFileReader.read(format, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                AltitudeUnit.METERS, zones::add);
+        return zones;
+    }
+
+    @Test
+    public void testReadGeoJson_ConvertsUnitsAndDropsClosingPoint() throws Exception {
+        // Arrange
+        String geoJson = "{\"type\":\"FeatureCollection\",\"name\":\"airspaces\",\"features\":["
+                + "{\"type\":\"Feature\",\"properties\":{\"name\":\"EBR64\",\"maxHeight\":2000,\"unit\":\"ft\"},"
+                + "\"geometry\":{\"type\":\"Polygon\",\"coordinates\":[[[5.15,50.81],[5.19,50.81],[5.2,50.78],[5.15,50.81]]]}},"
+                + "{\"type\":\"Feature\",\"properties\":{\"name\":\"EBR01\",\"upperLimit\":{\"value\":65,\"unit\":6}},"
+                + "\"geometry\":{\"type\":\"Polygon\",\"coordinates\":[[[5.15,50.81],[5.19,50.81],[5.2,50.78]]]}}]}";
+
+        // Act
+        List<ParsedZone> zones = read(ZoneFileFormat.GEOJSON, geoJson);
+
+        // Assert
+        assertEquals(2, zones.size());
+        Zone zone = zones.get(0).zone();
+        assertEquals("EBR64", zone.getName());
+        assertEquals(2000 * 0.3048, zone.getMaxHeight(), 0.0001);
+        assertEquals(3, zone.getPath().size());
+        assertEquals(50.81, zone.getPath().get(0).getLat());
+        assertEquals(5.15, zone.getPath().get(0).getLng());
+        assertEquals(6500 * 0.3048, zones.get(1).zone().getMaxHeight(), 0.0001);
+    }
+
+    @Test
+    public void testReadGeoJson_InvalidFeatureIsReported() throws Exception {
+        // Arrange
+        String geoJson = "{\"type\":\"FeatureCollection\",\"features\":["
+                + "{\"type\":\"Feature\",\"properties\":{\"name\":\"Beacon\",\"maxHeight\":100},"
+                + "\"geometry\":{\"type\":\"Point\",\"coordinates\":[5.15,50.81]}},"
+                + "{\"type\":\"Feature\",\"properties\":{\"name\":\"NoHeight\"},"
+                + "\"geometry\":{\"type\":\"Polygon\",\"coordinates\":[[[5.15,50.81],[5.19,50.81],[5.2,50.78]]]}}]}";
+
+        // Act
+        List<ParsedZone> zones = read(ZoneFileFormat.GEOJSON, geoJson);
+
+        // Assert
+        assertEquals("Only Polygon geometries can be imported", zones.get(0).errorMessage());
+        assertEquals("Missing maxHeight", zones.get(1).errorMessage());
+        assertEquals("NoHeight", zones.get(1).name());
+        assertEquals(2, zones.get(1).row());
+    }
+
+    @Test
+    public void testReadGeoJson_NonObjectFeatureIsReportedAndReadingContinues() throws Exception {
+        // Arrange
+        String geoJson = "{\"type\":\"FeatureCollection\",\"features\":[42,[1,2],"
+                + "{\"type\":\"Feature\",\"properties\":{\"name\":\"EBR64\",\"maxHeight\":100},"
+                + "\"geometry\":{\"type\":\"Polygon\",\"coordinates\":[[[5.15,50.81],[5.19,50.81],[5.2,50.78]]]}}]}";
+
+        // Act
+        List<ParsedZone> zones = read(ZoneFileFormat.GEOJSON, geoJson);
+
+        // Assert
+        assertEquals(3, zones.size());
+        assertEquals("Feature must be a JSON object", zones.get(0).errorMessage());
+        assertEquals(2, zones.get(1).row());
+        assertEquals("Feature must be a JSON object", zones.get(1).errorMessage());
+        assertEquals("EBR64", zones.get(2).zone().getName());
+    }
+
+    @Test
+    public void testReadKml_PlacemarkWithExtendedData() throws Exception {
+        // Arrange
+        String kml = "<?xml version=\"1.0\"?><kml xmlns=\"http://www.opengis.net/kml/2.2\"><Document><name>Belgium</name>"
+                + "<Placemark><name>EBR63</name><ExtendedData>"
+                + "<Data name=\"maxHeight\"><value>650</value></Data><Data name=\"unit\"><value>ft</value></Data>"
+                + "</ExtendedData><Polygon><outerBoundaryIs><LinearRing><coordinates>"
+                + "5.1,50.8,0 5.2,50.8,0 5.2,50.9,0 5.1,50.8,0"
+                + "</coordinates></LinearRing></outerBoundaryIs></Polygon></Placemark>"
+                + "<Placemark><name>Beacon</name><Point><coordinates>5.1,50.8</coordinates></Point></Placemark>"
+                + "</Document></kml>";
+
+        // Act
+        List<ParsedZone> zones = read(ZoneFileFormat.KML, kml);
+
+        // Assert
+        assertEquals(2, zones.size());
+        assertEquals("EBR63", zones.get(0).zone().getName());
+        assertEquals(650 * 0.3048, zones.get(0).zone().getMaxHeight(), 0.0001);
+        assertEquals(3, zones.get(0).zone().getPath().size());
+        assertNotNull(zones.get(1).errorMessage());
+    }
+
+    @Test
+    public void testReadOpenAip_UsesTopLimit() throws Exception {
+        // Arrange
+        String openAip = "<OPENAIP VERSION=\"1\"><AIRSPACES><ASP CATEGORY=\"RESTRICTED\"><NAME>EBR 01</NAME>"
+                + "<ALTLIMIT_TOP REFERENCE=\"STD\"><ALT UNIT=\"FL\">65</ALT></ALTLIMIT_TOP>"
+                + "<ALTLIMIT_BOTTOM REFERENCE=\"GND\"><ALT UNIT=\"F\">0</ALT></ALTLIMIT_BOTTOM>"
+                + "<GEOMETRY><POLYGON>5.1 50.8, 5.2 50.8, 5.2 50.9, 5.1 50.8</POLYGON></GEOMETRY></ASP>"
+                + "</AIRSPACES></OPENAIP>";
+
+        // Act
+        List<ParsedZone> zones = read(ZoneFileFormat.OPENAIP, openAip);
+
+        // Assert
+        assertEquals(1, zones.size());
+        assertEquals("EBR 01", zones.get(0).zone().getName());
+        assertEquals(6500 * 0.3048, zones.get(0).zone().getMaxHeight(), 0.0001);
+        assertEquals(50.9, zones.get(0).zone().getPath().get(2).getLat());
+    }
+
+    @Test
+    public void testRead_MalformedFile() {
+        assertThrows(ValidationException.class, () -> read(ZoneFileFormat.GEOJSON, "{\"features\":[{\"type\":"));
+        assertThrows(ValidationException.class, () -> read(ZoneFileFormat.GEOJSON, "[]"));
+        assertThrows(ValidationException.class, () -> read(ZoneFileFormat.KML, "<kml><Placemark></kml>"));
+    }
+
+    @Test
+    public void testAltitudeUnit_Parse() {
+        assertEquals(AltitudeUnit.FEET, AltitudeUnit.parse("F"));
+        assertEquals(AltitudeUnit.FLIGHT_LEVEL, AltitudeUnit.parse("fl"));
+        assertEquals(AltitudeUnit.METERS, AltitudeUnit.parse("0"));
+        assertThrows(ValidationException.class, () -> AltitudeUnit.parse("yards"));
+    }
+}
@@ -0,0 +1,117 @@
+package droneportTeam05.service.imports;
+
+import droneportTeam05.controllers.dto.ImportResult;
+import droneportTeam05.controllers.dto.ImportStatus;
+import droneportTeam05.domain.zones.Zone;
+import droneportTeam05.repository.ZoneRepository;
+import droneportTeam05.service.ZoneService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ZoneImportServiceTest {
+
+    private static final String FEATURE = "{\"type\":\"Feature\",\"properties\":{\"name\":\"%s\",\"maxHeight\":120},"
+            + "\"geometry\":{\"type\":\"Polygon\",\"coordinates\":[[[5.15,50.81],[5.19,50.81],[5.2,50.78]]]}}";
+
+    @Mock
+    private ZoneRepository zoneRepository;
+
+    @Mock
+    private ZoneService zoneService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private ZoneImportService zoneImportService;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        zoneImportService = new ZoneImportService(zoneRepository, zoneService, transactionManager, 1);
+        ReflectionTestUtils.setField(zoneImportService, "entityManager", entityManager);
+        when(zoneRepository.findAllWithPathByNameIn(any())).thenReturn(List.of());
+        when(entityManager.unwrap(Session.class)).thenReturn(mock(Session.class));
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testImportZones_AbortedUploadStillRefreshesCaches() {
+        // Arrange: the first feature is complete, then the client goes away
+        InputStream aborted = new SequenceInputStream(
+                stream("{\"type\":\"FeatureCollection\",\"features\":[" + String.format(FEATURE, "A") + ","),
+                new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("Connection reset");
+                    }
+                });
+
+        // Act
+        assertThrows(IOException.class,
+                () -> zoneImportService.importZones(aborted, ZoneFileFormat.GEOJSON, AltitudeUnit.METERS));
+
+        // Assert
+        verify(entityManager).persist(any(Zone.class));
+        verify(zoneService).zonesImported();
+    }
+
+    @Test
+    public void testImportZones_NothingWrittenLeavesCachesAlone() throws Exception {
+        // Act
+        ImportResult result = zoneImportService.importZones(
+                stream("{\"type\":\"FeatureCollection\",\"features\":[42]}"), ZoneFileFormat.GEOJSON, AltitudeUnit.METERS);
+
+        // Assert
+        assertEquals(1, result.getRows().size());
+        verify(zoneService, never()).zonesImported();
+    }
+
+    @Test
+    public void testImportZones_ConstraintViolationFailsOnlyItsChunk() throws Exception {
+        // Arrange: "A" was created by someone else after the lookup, so the first chunk's flush hits the unique name
+        doThrow(new ConstraintViolationException("could not execute statement",
+                new SQLException("duplicate key value violates unique constraint \"uk_zones_name\""), "uk_zones_name"))
+                .doNothing()
+                .when(entityManager).flush();
+
+        // Act
+        ImportResult result = zoneImportService.importZones(
+                stream("{\"type\":\"FeatureCollection\",\"features\":["
+                        + String.format(FEATURE, "A") + "," + String.format(FEATURE, "B") + "]}"),
+                ZoneFileFormat.GEOJSON, AltitudeUnit.METERS);
+
+        // Assert
+        assertEquals(1, result.getRows().size());
+        assertEquals(ImportStatus.FAILED, result.getRows().get(0).getStatus());
+        assertEquals("A", result.getRows().get(0).getName());
+        assertEquals("Chunk rolled back: duplicate key value violates unique constraint \"uk_zones_name\"",
+                result.getRows().get(0).getErrorMessage());
+        assertEquals(1, result.getCreated());
+        verify(zoneService).zonesImported();
+    }
+}
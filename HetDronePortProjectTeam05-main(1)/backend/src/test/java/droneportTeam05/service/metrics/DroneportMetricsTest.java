@@ -0,0 +1,64 @@
+package droneportTeam05.service.metrics;
+
+import droneportTeam05.service.validation.ValidationException;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DroneportMetricsTest {
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    public void testStage_TimedWithOutcome() {
+        // Arrange
+        long start = System.nanoTime();
+
+        // Act
+        long next = DroneportMetrics.Stage.GRB.completed(start);
+
+        // Assert
+        assertTrue(next >= start);
+        assertEquals(1, registry.get(DroneportMetrics.CALCULATION_STAGE)
+                .tags("stage", "grb", "outcome", DroneportMetrics.SUCCESS).timer().count());
+    }
+
+    @Test
+    public void testRule_RejectionCountedAsError() {
+        // Act
+        DroneportMetrics.Rule.UAV.failed(System.nanoTime(), new ValidationException("Speed too low"));
+
+        // Assert
+        assertEquals(1, registry.get(DroneportMetrics.VALIDATION_RULE)
+                .tags("rule", "uav", "outcome", DroneportMetrics.ERROR).timer().count());
+        assertEquals(1.0, registry.get(DroneportMetrics.ERRORS)
+                .tags("source", "rule.uav", "type", "ValidationException").counter().count());
+    }
+
+    @Test
+    public void testCalculated_TaggedByCacheOutcome() {
+        // Act
+        DroneportMetrics.calculated(System.nanoTime(), true);
+        DroneportMetrics.calculated(System.nanoTime(), false);
+        DroneportMetrics.calculated(System.nanoTime(), false);
+
+        // Assert
+        assertEquals(1, registry.get(DroneportMetrics.CALCULATION).tags("cache", "hit").timer().count());
+        assertEquals(2, registry.get(DroneportMetrics.CALCULATION).tags("cache", "miss").timer().count());
+    }
+}
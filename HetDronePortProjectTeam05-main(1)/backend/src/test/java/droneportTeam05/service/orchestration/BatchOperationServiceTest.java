@@ -0,0 +1,120 @@
+package droneportTeam05.service.orchestration;
+
+import droneportTeam05.controllers.dto.BatchOperationResult;
+import droneportTeam05.controllers.dto.DroneOperationRequest;
+import droneportTeam05.controllers.dto.DroneOperationResult;
+import droneportTeam05.domain.aircraft.UAV;
+import droneportTeam05.domain.aircraft.UAVType;
+import droneportTeam05.domain.geography.FlightGeography;
+import droneportTeam05.domain.risk.GroundRiskBuffer;
+import droneportTeam05.domain.volume.LateralContingencyVolume;
+import droneportTeam05.domain.volume.VerticalContingencyVolume;
+import droneportTeam05.service.validation.ValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class BatchOperationServiceTest {
+
+    @Mock
+    private DroneOperationService droneOperationService;
+
+    private BatchOperationService batchOperationService;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        batchOperationService = new BatchOperationService(droneOperationService, 10, 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        batchOperationService.shutdown();
+    }
+
+    private DroneOperationRequest createRequest(double flightHeight) {
+        return new DroneOperationRequest.Builder()
+                .uav(new UAV(UAVType.MULTIROTOR, 10, 2, "barometric", 3, 3, 1, 1))
+                .lateralCV(LateralContingencyVolume.forStopping(45))
+                .verticalCV(VerticalContingencyVolume.forEnergyConversion())
+                .grb(GroundRiskBuffer.forBallistic())
+                .flightGeography(new FlightGeography(flightHeight, 10, 10))
+                .build();
+    }
+
+    @Test
+    public void testCalculateBatch_PreservesInputOrder() {
+        // Arrange
+        List<DroneOperationRequest> requests = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            DroneOperationRequest request = createRequest(i * 10);
+            DroneOperationResult result = DroneOperationResult.builder()
+                    .flightGeography(request.getFlightGeography())
+                    .build();
+            when(droneOperationService.calculateOperation(request)).thenReturn(result);
+            requests.add(request);
+        }
+
+        // Act
+        BatchOperationResult batch = batchOperationService.calculateBatch(requests);
+
+        // Assert
+        assertEquals(5, batch.getResults().size());
+        assertEquals(5, batch.getSuccessCount());
+        assertEquals(0, batch.getFailureCount());
+        assertEquals(2, batch.getParallelism());
+        assertTrue(batch.isSuccess());
+        for (int i = 0; i < 5; i++) {
+            assertEquals((i + 1) * 10, batch.getResults().get(i).getFlightGeography().getHeightFlightGeo());
+        }
+    }
+
+    @Test
+    public void testCalculateBatch_FailureDoesNotFailBatch() {
+        // Arrange
+        DroneOperationRequest valid = createRequest(50);
+        DroneOperationRequest invalid = createRequest(60);
+        DroneOperationRequest broken = createRequest(70);
+
+        when(droneOperationService.calculateOperation(valid)).thenReturn(DroneOperationResult.success());
+        when(droneOperationService.calculateOperation(invalid)).thenThrow(new ValidationException("Speed too low"));
+        when(droneOperationService.calculateOperation(broken)).thenThrow(new RuntimeException("Something went wrong"));
+
+        // Act
+        BatchOperationResult batch = batchOperationService.calculateBatch(Arrays.asList(valid, invalid, broken));
+
+        // Assert
+        assertEquals(1, batch.getSuccessCount());
+        assertEquals(2, batch.getFailureCount());
+        assertTrue(batch.getResults().get(0).isSuccess());
+        assertEquals("Speed too low", batch.getResults().get(1).getErrorMessage());
+        assertTrue(batch.getResults().get(2).getErrorMessage().contains("Internal error"));
+    }
+
+    @Test
+    public void testCalculateBatch_EmptyBatch() {
+        assertThrows(ValidationException.class,
+                () -> batchOperationService.calculateBatch(Collections.emptyList()));
+    }
+
+    @Test
+    public void testCalculateBatch_TooLarge() {
+        List<DroneOperationRequest> requests = Collections.nCopies(11, createRequest(50));
+
+        Exception exception = assertThrows(ValidationException.class,
+                () -> batchOperationService.calculateBatch(requests));
+
+        assertTrue(exception.getMessage().contains("10"));
+        verifyNoInteractions(droneOperationService);
+    }
+}
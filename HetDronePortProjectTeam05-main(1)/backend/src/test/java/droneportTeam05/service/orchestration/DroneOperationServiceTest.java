@@ -5,6 +5,8 @@ import droneportTeam05.controllers.dto.DroneOperationResult;
 import droneportTeam05.domain.aircraft.UAV;
 import droneportTeam05.domain.aircraft.UAVType;
 import droneportTeam05.domain.geography.FlightGeography;
+import droneportTeam05.domain.operation.OperationInputs;
+import droneportTeam05.domain.operation.OperationVolumes;
 import droneportTeam05.domain.risk.GroundRiskBuffer;
 import droneportTeam05.domain.volume.AdjacentVolume;
 import droneportTeam05.domain.volume.LateralContingencyVolume;
@@ -17,6 +19,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -39,6 +44,9 @@ public class DroneOperationServiceTest {
     
     @Mock
     private DroneOperationValidationService validationService;
+
+    @Mock
+    private OperationResultCache resultCache;
     
     @InjectMocks
     private DroneOperationService droneOperationService;
@@ -187,4 +195,84 @@ public class DroneOperationServiceTest {
         assertNotNull(result);
         assertEquals(5, grb.getTimeToOpenParachute());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCalculateOperation_CacheHitSkipsCalculation() {
+        // Arrange
+        OperationVolumes cached = new OperationVolumes(20, 7, 5.1, 63.1, 0, 0, 36.9, 50, 6, 6, 1200, 213.1);
+        when(resultCache.get(any(OperationInputs.class))).thenReturn(cached);
+
+        // Act
+        DroneOperationResult result = droneOperationService.calculateOperation(validRequest);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertSame(lateralCV, result.getLateralCV());
+        assertSame(verticalCV, result.getVerticalCV());
+        assertSame(grb, result.getGrb());
+        assertEquals(20, lateralCV.getLateralExtension());
+        assertEquals(63.1, verticalCV.getMinVerticalDimension());
+        assertEquals(36.9, grb.getMinLateralDimension());
+        assertEquals(6, result.getFlightGeography().getMinHeight());
+        assertEquals(213.1, result.getAdjacentVolume().getVerticalInMeter());
+
+        verify(validationService).validateDroneOperation(validRequest);
+        verifyNoInteractions(lateralCVService, verticalCVService, grbService, minFlightDimensionService, adjacentVolumeService);
+        verify(resultCache, never()).put(any(), any());
+    }
+
+    @Test
+    public void testCalculateOperation_CacheMissStoresResult() {
+        // Arrange
+        when(lateralCVService.calculateLateralContingencyVolume(any(), any())).thenReturn(lateralCV);
+        when(verticalCVService.calculateVerticalContingencyVolume(any(), any(), anyDouble())).thenReturn(verticalCV);
+        when(grbService.calculateGroundRiskBuffer(any(), any(), any())).thenReturn(grb);
+        when(minFlightDimensionService.calculateMinFlightDimensions(anyDouble(), anyDouble()))
+                .thenReturn(new FlightGeography(50, 6, 6));
+        when(adjacentVolumeService.calculateAdjacentVolume(anyDouble(), anyDouble()))
+                .thenReturn(new AdjacentVolume(1200, 200));
+
+        // Act
+        DroneOperationResult result = droneOperationService.calculateOperation(validRequest);
+
+        // Assert
+        OperationInputs expectedKey = OperationInputs.of(uav, lateralCV, verticalCV, grb, 50);
+        verify(resultCache).get(expectedKey);
+        verify(resultCache).put(expectedKey, result);
+    }
+
+    @Test
+    public void testCalculateOperation_DiagnosticsRecordStageTimings() {
+        // Arrange
+        when(lateralCVService.calculateLateralContingencyVolume(any(), any())).thenReturn(lateralCV);
+        when(verticalCVService.calculateVerticalContingencyVolume(any(), any(), anyDouble())).thenReturn(verticalCV);
+        when(grbService.calculateGroundRiskBuffer(any(), any(), any())).thenReturn(grb);
+        when(minFlightDimensionService.calculateMinFlightDimensions(anyDouble(), anyDouble()))
+                .thenReturn(new FlightGeography(50, 6, 6));
+        when(adjacentVolumeService.calculateAdjacentVolume(anyDouble(), anyDouble()))
+                .thenReturn(new AdjacentVolume(1200, 200));
+
+        // Act
+        DroneOperationResult result = droneOperationService.calculateOperation(validRequest, new StageTimings());
+
+        // Assert
+        Map<String, Long> timings = result.getStageTimingsNanos();
+        assertEquals(List.of("validation", "cache_lookup", "lateral_cv", "vertical_cv", "grb", "flight_geography",
+                "adjacent_volume", "build_result", "cache_store", StageTimings.TOTAL), List.copyOf(timings.keySet()));
+        long laps = timings.values().stream().mapToLong(Long::longValue).sum() - timings.get(StageTimings.TOTAL);
+        assertEquals(timings.get(StageTimings.TOTAL), laps);
+    }
+
+    @Test
+    public void testCalculateOperation_NoTimingsWithoutDiagnostics() {
+        // Arrange
+        OperationVolumes cached = new OperationVolumes(20, 7, 5.1, 63.1, 0, 0, 36.9, 50, 6, 6, 1200, 213.1);
+        when(resultCache.get(any(OperationInputs.class))).thenReturn(cached);
+
+        // Act
+        DroneOperationResult result = droneOperationService.calculateOperation(validRequest);
+
+        // Assert
+        assertNull(result.getStageTimingsNanos());
+    }
+}
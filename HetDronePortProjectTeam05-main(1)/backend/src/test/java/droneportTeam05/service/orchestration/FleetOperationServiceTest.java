@@ -0,0 +1,168 @@
+package droneportTeam05.service.orchestration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import droneportTeam05.controllers.dto.DroneOperationRequest;
+import droneportTeam05.controllers.dto.DroneOperationResult;
+import droneportTeam05.domain.Drone;
+import droneportTeam05.domain.aircraft.UAV;
+import droneportTeam05.domain.aircraft.UAVType;
+import droneportTeam05.domain.risk.GroundRiskBuffer;
+import droneportTeam05.domain.volume.LateralContingencyVolume;
+import droneportTeam05.domain.volume.VerticalContingencyVolume;
+import droneportTeam05.repository.DroneRepository;
+import droneportTeam05.service.validation.ValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class FleetOperationServiceTest {
+
+    @Mock
+    private DroneRepository droneRepository;
+
+    @Mock
+    private DroneOperationService droneOperationService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BatchOperationService batchOperationService;
+    private FleetOperationService fleetOperationService;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        batchOperationService = new BatchOperationService(droneOperationService, 10, 2);
+        fleetOperationService = new FleetOperationService(droneRepository, batchOperationService, objectMapper, 2);
+
+        when(droneOperationService.calculateOperation(any())).thenAnswer(invocation -> {
+            DroneOperationRequest request = invocation.getArgument(0);
+            request.getLateralCV().setLateralExtension(42);
+            return DroneOperationResult.builder()
+                    .flightGeography(request.getFlightGeography())
+                    .build();
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        batchOperationService.shutdown();
+    }
+
+    private Drone createDrone(String name, UAVType type) {
+        return new Drone(name, new UAV(type, 10, 2, "barometric", 3, 3, 1, 1),
+                LateralContingencyVolume.forStopping(45),
+                VerticalContingencyVolume.forEnergyConversion(),
+                GroundRiskBuffer.forBallistic());
+    }
+
+    private List<JsonNode> calculate(double flightHeight, UAVType type) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        fleetOperationService.calculateFleet(flightHeight, type, output);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+
+    @Test
+    public void testCalculateFleet_OneLinePerDroneInOrder() throws Exception {
+        // Arrange
+        List<Drone> drones = Arrays.asList(
+                createDrone("Alpha", UAVType.MULTIROTOR),
+                createDrone("Bravo", UAVType.MULTIROTOR),
+                createDrone("Charlie", UAVType.MULTIROTOR));
+        when(droneRepository.findAllWithConfiguration()).thenReturn(drones);
+
+        // Act
+        List<JsonNode> results = calculate(80, null);
+
+        // Assert
+        assertEquals(3, results.size());
+        assertEquals("Alpha", results.get(0).get("droneName").asText());
+        assertEquals("Bravo", results.get(1).get("droneName").asText());
+        assertEquals("Charlie", results.get(2).get("droneName").asText());
+        for (JsonNode result : results) {
+            assertTrue(result.get("result").get("success").asBoolean());
+            assertEquals(80, result.get("result").get("flightGeography").get("heightFlightGeo").asDouble());
+        }
+        verify(droneRepository, never()).findAll();
+    }
+
+    @Test
+    public void testCalculateFleet_CalculatesOnCopies() throws Exception {
+        // Arrange
+        Drone drone = createDrone("Alpha", UAVType.MULTIROTOR);
+        when(droneRepository.findAllWithConfiguration()).thenReturn(List.of(drone));
+        ArgumentCaptor<DroneOperationRequest> captor = ArgumentCaptor.forClass(DroneOperationRequest.class);
+
+        // Act
+        calculate(80, null);
+
+        // Assert
+        verify(droneOperationService).calculateOperation(captor.capture());
+        DroneOperationRequest request = captor.getValue();
+        assertNotSame(drone.getUav(), request.getUav());
+        assertNotSame(drone.getLateralContingencyVolume(), request.getLateralCV());
+        assertEquals(10, request.getUav().getMaxOperationalSpeed());
+        assertEquals(45, request.getLateralCV().getPitchAngle());
+        assertEquals(0, drone.getLateralContingencyVolume().getLateralExtension());
+    }
+
+    @Test
+    public void testCalculateFleet_FiltersByType() throws Exception {
+        // Arrange
+        when(droneRepository.findAllWithConfigurationByUavType(UAVType.FIXEDWING))
+                .thenReturn(List.of(createDrone("Wing", UAVType.FIXEDWING)));
+
+        // Act
+        List<JsonNode> results = calculate(80, UAVType.FIXEDWING);
+
+        // Assert
+        assertEquals(1, results.size());
+        assertEquals("Wing", results.get(0).get("droneName").asText());
+        verify(droneRepository, never()).findAllWithConfiguration();
+    }
+
+    @Test
+    public void testCalculateFleet_IncompleteDroneReportsError() throws Exception {
+        // Arrange
+        Drone incomplete = createDrone("Broken", UAVType.MULTIROTOR);
+        incomplete.setGroundRiskBuffer(null);
+        when(droneRepository.findAllWithConfiguration())
+                .thenReturn(Arrays.asList(incomplete, createDrone("Alpha", UAVType.MULTIROTOR)));
+
+        // Act
+        List<JsonNode> results = calculate(80, null);
+
+        // Assert
+        assertEquals(2, results.size());
+        assertFalse(results.get(0).get("result").get("success").asBoolean());
+        assertEquals("Ground risk buffer configuration is required",
+                results.get(0).get("result").get("errorMessage").asText());
+        assertTrue(results.get(1).get("result").get("success").asBoolean());
+    }
+
+    @Test
+    public void testCalculateFleet_InvalidHeight() {
+        assertThrows(ValidationException.class, () -> calculate(0, null));
+        verifyNoInteractions(droneRepository);
+    }
+}
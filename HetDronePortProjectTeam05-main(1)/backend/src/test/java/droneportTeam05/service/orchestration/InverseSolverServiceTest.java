@@ -0,0 +1,147 @@
+package droneportTeam05.service.orchestration;
+
+import droneportTeam05.controllers.dto.DroneOperationRequest;
+import droneportTeam05.controllers.dto.InverseRequest;
+import droneportTeam05.controllers.dto.InverseResult;
+import droneportTeam05.controllers.dto.InverseTarget;
+import droneportTeam05.domain.aircraft.UAV;
+import droneportTeam05.domain.aircraft.UAVType;
+import droneportTeam05.domain.geography.FlightGeography;
+import droneportTeam05.domain.risk.GroundRiskBuffer;
+import droneportTeam05.domain.volume.LateralContingencyVolume;
+import droneportTeam05.domain.volume.VerticalContingencyVolume;
+import droneportTeam05.service.validation.DroneOperationValidationService;
+import droneportTeam05.service.validation.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InverseSolverServiceTest {
+
+    private InverseSolverService inverseSolverService;
+
+    @BeforeEach
+    public void setup() {
+        inverseSolverService = new InverseSolverService(new DroneOperationValidationService());
+    }
+
+    private DroneOperationRequest createBase() {
+        return new DroneOperationRequest.Builder()
+                .uav(new UAV(UAVType.MULTIROTOR, 10, 2, "barometric", 3, 3, 1, 1))
+                .lateralCV(LateralContingencyVolume.forStopping(45))
+                .verticalCV(VerticalContingencyVolume.forEnergyConversion())
+                .grb(GroundRiskBuffer.forBallistic())
+                .flightGeography(new FlightGeography(100, 10, 10))
+                .build();
+    }
+
+    @Test
+    public void testSolve_MaxHeightForCeilingWithAdjacentVolume() {
+        // Arrange
+        InverseRequest request = new InverseRequest(createBase(), InverseTarget.HEIGHT_FLIGHT_GEO,
+                300.0, null, true, false);
+
+        // Act
+        InverseResult result = inverseSolverService.solve(request);
+
+        // Assert
+        double hcm = 0.5 * (10 * 10) / 9.81;
+        assertTrue(result.isSuccess());
+        assertTrue(result.isFeasible());
+        assertEquals("ceiling", result.getLimitingConstraint());
+        assertEquals(300 - 150 - 1 - 7 - hcm, result.getValue(), 0.0001);
+        assertEquals(300, result.getVolumes().adjacentVertical(), 0.0001);
+    }
+
+    @Test
+    public void testSolve_MaxSpeedForCeiling() {
+        // Arrange
+        InverseRequest request = new InverseRequest(createBase(), InverseTarget.MAX_OPERATIONAL_SPEED,
+                150.0, null, false, false);
+
+        // Act
+        InverseResult result = inverseSolverService.solve(request);
+
+        // Assert
+        assertTrue(result.isFeasible());
+        assertEquals(150, result.getVolumes().minVerticalDimension(), 0.0001);
+        assertEquals(result.getValue(), result.getVolumes().adjacentLateral() / 120, 0.0001);
+    }
+
+    @Test
+    public void testSolve_MaxSpeedTakesTightestConstraint() {
+        // Arrange
+        InverseRequest request = new InverseRequest(createBase(), InverseTarget.MAX_OPERATIONAL_SPEED,
+                10_000.0, 50.0, false, false);
+
+        // Act
+        InverseResult result = inverseSolverService.solve(request);
+
+        // Assert
+        assertTrue(result.isFeasible());
+        assertEquals("lateralBudget", result.getLimitingConstraint());
+        assertEquals(50, result.getVolumes().lateralExtension(), 0.0001);
+    }
+
+    @Test
+    public void testSolve_MaxSpeedForLateralBudgetWithGroundRiskBuffer() {
+        // Arrange
+        InverseRequest request = new InverseRequest(createBase(), InverseTarget.MAX_OPERATIONAL_SPEED,
+                null, 200.0, false, true);
+
+        // Act
+        InverseResult result = inverseSolverService.solve(request);
+
+        // Assert
+        assertTrue(result.isFeasible());
+        assertEquals(200, result.getVolumes().lateralExtension() + result.getVolumes().groundRiskBuffer(), 0.0001);
+    }
+
+    @Test
+    public void testSolve_MaxHeightForLateralBudgetWithGroundRiskBuffer() {
+        // Arrange
+        InverseRequest request = new InverseRequest(createBase(), InverseTarget.HEIGHT_FLIGHT_GEO,
+                null, 200.0, false, true);
+
+        // Act
+        InverseResult result = inverseSolverService.solve(request);
+
+        // Assert
+        assertTrue(result.isFeasible());
+        assertEquals(200, result.getVolumes().lateralExtension() + result.getVolumes().groundRiskBuffer(), 0.0001);
+        assertEquals(result.getValue(), result.getVolumes().heightFlightGeo(), 0.0001);
+    }
+
+    @Test
+    public void testSolve_CeilingTooLow() {
+        // Arrange
+        InverseRequest request = new InverseRequest(createBase(), InverseTarget.HEIGHT_FLIGHT_GEO,
+                10.0, null, false, false);
+
+        // Act
+        InverseResult result = inverseSolverService.solve(request);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertFalse(result.isFeasible());
+        assertNull(result.getValue());
+        assertNull(result.getVolumes());
+    }
+
+    @Test
+    public void testSolve_RequiresConstraint() {
+        InverseRequest request = new InverseRequest(createBase(), InverseTarget.HEIGHT_FLIGHT_GEO,
+                null, null, false, false);
+
+        assertThrows(ValidationException.class, () -> inverseSolverService.solve(request));
+    }
+
+    @Test
+    public void testSolve_HeightNotLimitedByLateralExtension() {
+        InverseRequest request = new InverseRequest(createBase(), InverseTarget.HEIGHT_FLIGHT_GEO,
+                null, 500.0, false, false);
+
+        assertThrows(ValidationException.class, () -> inverseSolverService.solve(request));
+    }
+}
@@ -0,0 +1,100 @@
+package droneportTeam05.service.orchestration;
+
+import droneportTeam05.controllers.dto.CacheStatistics;
+import droneportTeam05.controllers.dto.DroneOperationResult;
+import droneportTeam05.domain.aircraft.UAV;
+import droneportTeam05.domain.aircraft.UAVType;
+import droneportTeam05.domain.geography.FlightGeography;
+import droneportTeam05.domain.operation.OperationInputs;
+import droneportTeam05.domain.operation.OperationVolumes;
+import droneportTeam05.domain.risk.GroundRiskBuffer;
+import droneportTeam05.domain.volume.AdjacentVolume;
+import droneportTeam05.domain.volume.LateralContingencyVolume;
+import droneportTeam05.domain.volume.VerticalContingencyVolume;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OperationResultCacheTest {
+
+    private OperationInputs key(double flightHeight) {
+        return OperationInputs.of(
+                new UAV(UAVType.MULTIROTOR, 10, 2, "barometric", 3, 3, 1, 1),
+                LateralContingencyVolume.forStopping(45),
+                VerticalContingencyVolume.forEnergyConversion(),
+                GroundRiskBuffer.forBallistic(),
+                flightHeight);
+    }
+
+    private DroneOperationResult result(double lateralExtension) {
+        LateralContingencyVolume lateralCV = LateralContingencyVolume.forStopping(45);
+        lateralCV.setLateralExtension(lateralExtension);
+        return DroneOperationResult.builder()
+                .lateralCV(lateralCV)
+                .verticalCV(VerticalContingencyVolume.forEnergyConversion())
+                .grb(GroundRiskBuffer.forBallistic())
+                .flightGeography(new FlightGeography(50, 6, 6))
+                .adjacentVolume(new AdjacentVolume(1200, 200))
+                .build();
+    }
+
+    @Test
+    public void testKey_EqualForIdenticalConfigurations() {
+        assertEquals(key(50), key(50));
+        assertEquals(key(50).hashCode(), key(50).hashCode());
+        assertNotEquals(key(50), key(60));
+    }
+
+    @Test
+    public void testGet_CountsHitsAndMisses() {
+        OperationResultCache cache = new OperationResultCache(10);
+
+        assertNull(cache.get(key(50)));
+        cache.put(key(50), result(20));
+        OperationVolumes volumes = cache.get(key(50));
+
+        assertNotNull(volumes);
+        assertEquals(20, volumes.lateralExtension());
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals(1, statistics.getHits());
+        assertEquals(1, statistics.getMisses());
+        assertEquals(0.5, statistics.getHitRate());
+    }
+
+    @Test
+    public void testPut_EvictsLeastRecentlyUsed() {
+        OperationResultCache cache = new OperationResultCache(2);
+
+        cache.put(key(50), result(20));
+        cache.put(key(60), result(21));
+        cache.get(key(50));
+        cache.put(key(70), result(22));
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(key(50)));
+        assertNull(cache.get(key(60)));
+        assertNotNull(cache.get(key(70)));
+        assertEquals(1, cache.getStatistics().getEvictions());
+    }
+
+    @Test
+    public void testPut_SnapshotIsIndependentOfEntities() {
+        OperationResultCache cache = new OperationResultCache(10);
+        DroneOperationResult result = result(20);
+
+        cache.put(key(50), result);
+        result.getLateralCV().setLateralExtension(99);
+
+        assertEquals(20, cache.get(key(50)).lateralExtension());
+    }
+
+    @Test
+    public void testPut_DisabledWhenMaxSizeIsZero() {
+        OperationResultCache cache = new OperationResultCache(0);
+
+        cache.put(key(50), result(20));
+
+        assertEquals(0, cache.size());
+        assertNull(cache.get(key(50)));
+    }
+}
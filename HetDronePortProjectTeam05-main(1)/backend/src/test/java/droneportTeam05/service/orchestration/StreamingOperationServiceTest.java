@@ -0,0 +1,132 @@
+package droneportTeam05.service.orchestration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import droneportTeam05.controllers.dto.DroneOperationRequest;
+import droneportTeam05.controllers.dto.DroneOperationResult;
+import droneportTeam05.service.validation.ValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class StreamingOperationServiceTest {
+
+    @Mock
+    private DroneOperationService droneOperationService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BatchOperationService batchOperationService;
+    private StreamingOperationService streamingOperationService;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        batchOperationService = new BatchOperationService(droneOperationService, 10, 2);
+        streamingOperationService = new StreamingOperationService(batchOperationService, objectMapper, 3);
+
+        when(droneOperationService.calculateOperation(any())).thenAnswer(invocation -> {
+            DroneOperationRequest request = invocation.getArgument(0);
+            if (request.getFlightGeography().getHeightFlightGeo() < 0) {
+                throw new ValidationException("Flight geometry height must be positive");
+            }
+            return DroneOperationResult.builder()
+                    .flightGeography(request.getFlightGeography())
+                    .build();
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        batchOperationService.shutdown();
+    }
+
+    private List<JsonNode> stream(String input) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        streamingOperationService.calculateStream(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+
+    private String line(double height) {
+        return "{\"flightGeography\":{\"heightFlightGeo\":" + height + "}}\n";
+    }
+
+    @Test
+    public void testCalculateStream_PreservesInputOrder() throws Exception {
+        // Arrange
+        StringBuilder input = new StringBuilder();
+        for (int i = 1; i <= 20; i++) {
+            input.append(line(i * 10));
+        }
+
+        // Act
+        List<JsonNode> results = stream(input.toString());
+
+        // Assert
+        assertEquals(20, results.size());
+        for (int i = 0; i < 20; i++) {
+            assertTrue(results.get(i).get("success").asBoolean());
+            assertEquals((i + 1) * 10, results.get(i).get("flightGeography").get("heightFlightGeo").asDouble());
+        }
+        verify(droneOperationService, times(20)).calculateOperation(any());
+    }
+
+    @Test
+    public void testCalculateStream_InvalidLineDoesNotStopStream() throws Exception {
+        // Arrange
+        String input = line(50)
+                + "{\"flightGeography\":{\"heightFlightGeo\":\"high\"}}\n"
+                + line(-1)
+                + line(70);
+
+        // Act
+        List<JsonNode> results = stream(input);
+
+        // Assert
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).get("success").asBoolean());
+        assertTrue(results.get(1).get("errorMessage").asText().startsWith("Invalid request"));
+        assertEquals("Flight geometry height must be positive", results.get(2).get("errorMessage").asText());
+        assertEquals(70, results.get(3).get("flightGeography").get("heightFlightGeo").asDouble());
+    }
+
+    @Test
+    public void testCalculateStream_MalformedJsonEndsStream() throws Exception {
+        // Arrange
+        String input = line(50) + "{\"flightGeography\": ]\n" + line(70);
+
+        // Act
+        List<JsonNode> results = stream(input);
+
+        // Assert
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).get("success").asBoolean());
+        assertTrue(results.get(1).get("errorMessage").asText().startsWith("Malformed input"));
+    }
+
+    @Test
+    public void testCalculateStream_EmptyInput() throws Exception {
+        assertTrue(stream("").isEmpty());
+        verifyNoInteractions(droneOperationService);
+    }
+}
@@ -0,0 +1,100 @@
+package droneportTeam05.service.orchestration;
+
+import droneportTeam05.controllers.dto.DroneOperationRequest;
+import droneportTeam05.controllers.dto.SweepAxis;
+import droneportTeam05.controllers.dto.SweepParameter;
+import droneportTeam05.controllers.dto.SweepRequest;
+import droneportTeam05.controllers.dto.SweepResult;
+import droneportTeam05.domain.aircraft.UAV;
+import droneportTeam05.domain.aircraft.UAVType;
+import droneportTeam05.domain.geography.FlightGeography;
+import droneportTeam05.domain.operation.OperationInputs;
+import droneportTeam05.domain.operation.OperationVolumes;
+import droneportTeam05.domain.risk.GroundRiskBuffer;
+import droneportTeam05.domain.volume.LateralContingencyVolume;
+import droneportTeam05.domain.volume.VerticalContingencyVolume;
+import droneportTeam05.service.calculation.OperationKernel;
+import droneportTeam05.service.validation.DroneOperationValidationService;
+import droneportTeam05.service.validation.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SweepServiceTest {
+
+    private SweepService sweepService;
+
+    @BeforeEach
+    public void setup() {
+        sweepService = new SweepService(new DroneOperationValidationService(), 10_000);
+    }
+
+    private DroneOperationRequest createBase() {
+        return new DroneOperationRequest.Builder()
+                .uav(new UAV(UAVType.MULTIROTOR, 10, 2, "barometric", 3, 3, 1, 1))
+                .lateralCV(LateralContingencyVolume.forStopping(45))
+                .verticalCV(VerticalContingencyVolume.forEnergyConversion())
+                .grb(GroundRiskBuffer.forBallistic())
+                .flightGeography(new FlightGeography(50, 10, 10))
+                .build();
+    }
+
+    @Test
+    public void testSweep_GridMatchesSingleCalculations() {
+        // Arrange
+        List<SweepAxis> axes = Arrays.asList(
+                new SweepAxis(SweepParameter.HEIGHT_FLIGHT_GEO, 30, 120, 4),
+                new SweepAxis(SweepParameter.MAX_OPERATIONAL_SPEED, 5, 25, 5));
+
+        // Act
+        SweepResult result = sweepService.sweep(new SweepRequest(createBase(), axes));
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals(20, result.getPoints());
+        assertEquals(20, result.getGroundRiskBuffer().length);
+
+        // Point 7 is height index 1 (60 m) and speed index 2 (15 m/s)
+        UAV uav = new UAV(UAVType.MULTIROTOR, 15, 2, "barometric", 3, 3, 1, 1);
+        OperationVolumes expected = OperationKernel.calculate(OperationInputs.of(uav,
+                LateralContingencyVolume.forStopping(45), VerticalContingencyVolume.forEnergyConversion(),
+                GroundRiskBuffer.forBallistic(), 60));
+        assertEquals(expected.lateralExtension(), result.getLateralExtension()[7], 0.0001);
+        assertEquals(expected.minVerticalDimension(), result.getMinVerticalDimension()[7], 0.0001);
+        assertEquals(expected.groundRiskBuffer(), result.getGroundRiskBuffer()[7], 0.0001);
+        assertEquals(expected.adjacentLateral(), result.getAdjacentVolumeLateral()[7], 0.0001);
+        assertEquals(expected.adjacentVertical(), result.getAdjacentVolumeVertical()[7], 0.0001);
+    }
+
+    @Test
+    public void testSweep_TooManyPoints() {
+        List<SweepAxis> axes = Arrays.asList(
+                new SweepAxis(SweepParameter.HEIGHT_FLIGHT_GEO, 30, 120, 1000),
+                new SweepAxis(SweepParameter.MAX_OPERATIONAL_SPEED, 5, 25, 1000));
+
+        assertThrows(ValidationException.class, () -> sweepService.sweep(new SweepRequest(createBase(), axes)));
+    }
+
+    @Test
+    public void testSweep_RangeBelowMinimumHeight() {
+        List<SweepAxis> axes = Arrays.asList(new SweepAxis(SweepParameter.HEIGHT_FLIGHT_GEO, 1, 120, 10));
+
+        Exception exception = assertThrows(ValidationException.class,
+                () -> sweepService.sweep(new SweepRequest(createBase(), axes)));
+
+        assertTrue(exception.getMessage().contains("Flight geometry height"));
+    }
+
+    @Test
+    public void testSweep_DuplicateAxis() {
+        List<SweepAxis> axes = Arrays.asList(
+                new SweepAxis(SweepParameter.RESPONSE_TIME, 1, 2, 2),
+                new SweepAxis(SweepParameter.RESPONSE_TIME, 1, 3, 2));
+
+        assertThrows(ValidationException.class, () -> sweepService.sweep(new SweepRequest(createBase(), axes)));
+    }
+}
@@ -0,0 +1,230 @@
+package droneportTeam05.service.tiles;
+
+import droneportTeam05.domain.zones.Point;
+import droneportTeam05.domain.zones.Zone;
+import droneportTeam05.repository.ZoneRepository;
+import droneportTeam05.service.ZoneChangedEvent;
+import droneportTeam05.service.geometry.ZoneIndex;
+import droneportTeam05.service.geometry.ZoneShape;
+import droneportTeam05.service.validation.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.*;
+
+public class ZoneTileServiceTest {
+
+    @Mock
+    private ZoneIndex zoneIndex;
+
+    @Mock
+    private ZoneRepository zoneRepository;
+
+    private ZoneTileService zoneTileService;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        zoneTileService = new ZoneTileService(zoneIndex, zoneRepository, 16);
+    }
+
+    private Zone createZone(long id, String name, double minLat, double minLng, double maxLat, double maxLng) {
+        Zone zone = new Zone(name, new ArrayList<>(List.of(
+                new Point(minLat, minLng),
+                new Point(minLat, maxLng),
+                new Point(maxLat, maxLng),
+                new Point(maxLat, minLng))), 120);
+        zone.setId(id);
+        return zone;
+    }
+
+    private void indexZones(Zone... zones) {
+        when(zoneIndex.findCandidates(anyDouble(), anyDouble(), anyDouble(), anyDouble())).thenAnswer(invocation -> {
+            List<ZoneShape> shapes = new ArrayList<>();
+            for (Zone zone : zones) {
+                ZoneShape shape = ZoneShape.of(zone);
+                if (shape.boundsIntersect(invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2), invocation.getArgument(3))) {
+                    shapes.add(shape);
+                }
+            }
+            return shapes;
+        });
+    }
+
+    // Minimal protobuf reading: field number -> values, length-delimited values as byte arrays
+    private static List<Object[]> fields(byte[] message) {
+        List<Object[]> fields = new ArrayList<>();
+        int[] position = {0};
+        while (position[0] < message.length) {
+            long tag = varint(message, position);
+            int field = (int) (tag >>> 3);
+            switch ((int) (tag & 7)) {
+                case 0 -> fields.add(new Object[] {field, varint(message, position)});
+                case 1 -> position[0] += 8;
+                case 2 -> {
+                    int length = (int) varint(message, position);
+                    byte[] value = new byte[length];
+                    System.arraycopy(message, position[0], value, 0, length);
+                    position[0] += length;
+                    fields.add(new Object[] {field, value});
+                }
+                default -> fail("Unexpected wire type");
+            }
+        }
+        return fields;
+    }
+
+    private static long varint(byte[] message, int[] position) {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            byte b = message[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    private static List<Object> values(List<Object[]> fields, int field) {
+        List<Object> values = new ArrayList<>();
+        for (Object[] entry : fields) {
+            if ((int) entry[0] == field) {
+                values.add(entry[1]);
+            }
+        }
+        return values;
+    }
+
+    @Test
+    public void testGetTile_EncodesZonesAsVectorTile() {
+        // Arrange: tile 8/131/85 spans roughly 50.74-51.62 N, 4.22-5.63 E
+        indexZones(createZone(1, "Inside", 50.9, 4.5, 51.1, 4.9), createZone(2, "Elsewhere", 10, 10, 11, 11));
+
+        // Act
+        byte[] tile = zoneTileService.getTile(8, 131, 85);
+
+        // Assert
+        List<Object> layers = values(fields(tile), 3);
+        assertEquals(1, layers.size());
+        List<Object[]> layer = fields((byte[]) layers.get(0));
+        assertEquals(2L, values(layer, 15).get(0));
+        assertEquals(ZoneTileService.LAYER, new String((byte[]) values(layer, 1).get(0), StandardCharsets.UTF_8));
+        assertEquals((long) ZoneTileService.EXTENT, values(layer, 5).get(0));
+        assertEquals(List.of("name", "maxHeight"), values(layer, 3).stream()
+                .map(key -> new String((byte[]) key, StandardCharsets.UTF_8)).toList());
+
+        List<Object> features = values(layer, 2);
+        assertEquals(1, features.size());
+        List<Object[]> feature = fields((byte[]) features.get(0));
+        assertEquals(1L, values(feature, 1).get(0));
+        assertEquals(3L, values(feature, 3).get(0));
+        List<Object[]> geometry = new ArrayList<>();
+        byte[] commands = (byte[]) values(feature, 4).get(0);
+        int[] position = {0};
+        while (position[0] < commands.length) {
+            geometry.add(new Object[] {varint(commands, position)});
+        }
+        // MoveTo(1), 2 params, LineTo(3), 6 params, ClosePath
+        assertEquals(11, geometry.size());
+        assertEquals(9L, geometry.get(0)[0]);
+        assertEquals(26L, geometry.get(3)[0]);
+        assertEquals(15L, geometry.get(10)[0]);
+    }
+
+    @Test
+    public void testGetTile_CachedUntilZoneChanges() {
+        // Arrange
+        Zone zone = createZone(1, "Inside", 50.9, 4.5, 51.1, 4.9);
+        indexZones(zone);
+
+        // Act
+        byte[] first = zoneTileService.getTile(8, 131, 85);
+        byte[] empty = zoneTileService.getTile(8, 10, 10);
+        byte[] second = zoneTileService.getTile(8, 131, 85);
+        zoneTileService.onZoneChanged(new ZoneChangedEvent(ZoneChangedEvent.ChangeType.DELETED, 1L, "Inside"));
+        byte[] third = zoneTileService.getTile(8, 131, 85);
+        zoneTileService.getTile(8, 10, 10);
+
+        // Assert
+        assertSame(first, second);
+        assertNotSame(first, third);
+        assertEquals(0, empty.length);
+        verify(zoneIndex, times(3)).findCandidates(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        assertEquals(2, zoneTileService.getCacheStatistics().getHits());
+    }
+
+    @Test
+    public void testGetTile_NotCachedWhenIndexChangesWhileRendering() {
+        // Arrange: the index moves on between reading the version and finishing the render
+        indexZones(createZone(1, "Inside", 50.9, 4.5, 51.1, 4.9));
+        when(zoneIndex.version()).thenReturn(0L, 1L, 1L, 1L);
+
+        // Act
+        zoneTileService.getTile(8, 131, 85);
+        zoneTileService.getTile(8, 131, 85);
+        zoneTileService.getTile(8, 131, 85);
+
+        // Assert
+        verify(zoneIndex, times(2)).findCandidates(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        assertEquals(1, zoneTileService.getCacheStatistics().getHits());
+    }
+
+    @Test
+    public void testOnZoneChanged_InvalidatesTilesUnderNewOutline() {
+        // Arrange: the zone moves into tile 8/10/10 (83.52-83.68 N, 165.94-164.53 W), cached as empty
+        Zone moved = createZone(1, "Moved", 83.55, -165.5, 83.6, -165.0);
+        indexZones();
+        zoneTileService.getTile(8, 10, 10);
+        zoneTileService.getTile(8, 131, 85);
+        when(zoneRepository.findAllWithPathByNameIn(List.of("Moved"))).thenReturn(List.of(moved));
+
+        // Act
+        zoneTileService.onZoneChanged(new ZoneChangedEvent(ZoneChangedEvent.ChangeType.UPDATED, 1L, "Moved"));
+        zoneTileService.getTile(8, 10, 10);
+        zoneTileService.getTile(8, 131, 85);
+
+        // Assert
+        assertEquals(1, zoneTileService.getCacheStatistics().getHits());
+    }
+
+    @Test
+    public void testToTileRing_ClipsToBufferAndWindsClockwise() {
+        // Arrange: counter-clockwise on screen and much larger than the tile
+        TileKey key = new TileKey(8, 131, 85);
+        List<Point> path = List.of(new Point(52, 3), new Point(50, 3), new Point(50, 6), new Point(52, 6));
+
+        // Act
+        int[] ring = ZoneTileService.toTileRing(key, path);
+
+        // Assert
+        assertNotNull(ring);
+        assertEquals(8, ring.length);
+        long area = 0;
+        for (int i = 0; i < 4; i++) {
+            int j = (i + 1) % 4;
+            area += (long) ring[2 * i] * ring[2 * j + 1] - (long) ring[2 * j] * ring[2 * i + 1];
+            assertTrue(ring[2 * i] == -ZoneTileService.BUFFER
+                    || ring[2 * i] == ZoneTileService.EXTENT + ZoneTileService.BUFFER);
+        }
+        assertTrue(area > 0);
+        assertNull(ZoneTileService.toTileRing(key, List.of(new Point(10, 10), new Point(10, 11), new Point(11, 11))));
+    }
+
+    @Test
+    public void testGetTile_InvalidCoordinates() {
+        assertThrows(ValidationException.class, () -> zoneTileService.getTile(2, 4, 0));
+        assertThrows(ValidationException.class, () -> zoneTileService.getTile(23, 0, 0));
+        verifyNoInteractions(zoneIndex);
+    }
+}